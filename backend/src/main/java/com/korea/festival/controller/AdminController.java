@@ -39,6 +39,7 @@ import com.korea.festival.entity.ReportStatus;
 import com.korea.festival.handler.ChatWebSocketHandler;
 import com.korea.festival.repository.RegionalChatRepository;
 import com.korea.festival.service.AdminService;
+import com.korea.festival.service.ChatModerationService;
 import com.korea.festival.service.RegionalChatService;
 
 import jakarta.validation.Valid;
@@ -57,6 +58,7 @@ public class AdminController {
     private final RegionalChatService regionalChatService;
     private final ChatWebSocketHandler chatWebSocketHandler;
     private final RegionalChatRepository chatRepository;
+    private final ChatModerationService chatModerationService;
     
     // ===== 대시보드 =====
     
@@ -364,6 +366,58 @@ public class AdminController {
         return chats.map(RegionalChatDto::new);
     }
     
+    // ===== 채팅 금칙어 관리 =====
+    
+    /**
+     * 금칙어 목록 (설정 파일 금칙어 + 관리자 등록 금칙어)
+     */
+    @GetMapping("/chat/banned-words")
+    public ResponseEntity<?> getBannedWords() {
+        return ResponseEntity.ok(Map.of(
+            "configured", chatModerationService.getConfiguredWords(),
+            "managed", chatModerationService.getAdminWords()
+        ));
+    }
+    
+    /**
+     * 금칙어 등록 - 즉시 채팅 필터에 반영
+     */
+    @PostMapping("/chat/banned-words")
+    public ResponseEntity<?> addBannedWord(
+            @RequestBody Map<String, String> request,
+            @AuthenticationPrincipal UserDetails userDetails) {
+        
+        try {
+            return ResponseEntity.ok(chatModerationService.addWord(request.get("word"), userDetails.getUsername()));
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().body(Map.of("message", e.getMessage()));
+        }
+    }
+    
+    /**
+     * 금칙어 삭제
+     */
+    @DeleteMapping("/chat/banned-words/{wordId}")
+    public ResponseEntity<?> deleteBannedWord(
+            @PathVariable("wordId") Long wordId,
+            @AuthenticationPrincipal UserDetails userDetails) {
+        
+        try {
+            chatModerationService.deleteWord(wordId, userDetails.getUsername());
+            return ResponseEntity.ok(Map.of("message", "금칙어가 삭제되었습니다"));
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().body(Map.of("message", e.getMessage()));
+        }
+    }
+    
+    /**
+     * 금칙어 다시 읽기 (설정/DB 변경 즉시 반영)
+     */
+    @PostMapping("/chat/banned-words/reload")
+    public ResponseEntity<?> reloadBannedWords() {
+        return ResponseEntity.ok(Map.of("count", chatModerationService.reload()));
+    }
+    
     /**
      * 실시간 이벤트 스트림 (Server-Sent Events)
      */
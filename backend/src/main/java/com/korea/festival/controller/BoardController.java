@@ -18,6 +18,7 @@ import com.korea.festival.dto.BoardCommentRequestDTO;
 import com.korea.festival.dto.BoardCommentResponseDTO;
 import com.korea.festival.dto.BoardRequestDTO;
 import com.korea.festival.dto.BoardResponseDTO;
+import com.korea.festival.dto.BoardSummaryDTO;
 import com.korea.festival.service.BoardService;
 
 import lombok.RequiredArgsConstructor;
@@ -43,7 +44,7 @@ public class BoardController {
 			@RequestParam(name = "size",defaultValue = "10")int size,
 			@RequestParam(name = "userId",required = false)Long userId
 			){
-		Page<BoardResponseDTO> result = boardService.boardFindAll(page,size,userId);
+		Page<BoardSummaryDTO> result = boardService.boardFindAll(page,size,userId);
 		return ResponseEntity.ok().body(result);
 	}
 	
@@ -110,4 +111,13 @@ public class BoardController {
         return ResponseEntity.ok(boardService.commentFindAll(boardId));
     }
 
+    // 게시글 댓글 페이지 조회 (최상위 댓글 기준, 대댓글 포함)
+    @GetMapping("/comment/{boardId}/page")
+    public ResponseEntity<Page<BoardCommentResponseDTO>> commentFindPage(
+            @PathVariable(name = "boardId") Long boardId,
+            @RequestParam(name = "page", defaultValue = "0") int page,
+            @RequestParam(name = "size", defaultValue = "20") int size) {
+        return ResponseEntity.ok(boardService.commentFindPage(boardId, page, size));
+    }
+
 }
@@ -1,5 +1,6 @@
 package com.korea.festival.controller;
 
+import java.util.List;
 import java.util.Map;
 
 import org.springframework.http.HttpStatus;
@@ -8,6 +9,7 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.korea.festival.jwt.JwtTokenProvider;
@@ -21,6 +23,8 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class FestivalLikeController {
     
+	private static final int MAX_STATUS_IDS = 200;
+
 	private final FestivalLikeService festivalLikeService;
     private final JwtTokenProvider tokenProvider;
 
@@ -84,6 +88,34 @@ public class FestivalLikeController {
         return ResponseEntity.ok(Map.of("liked", liked));
     }
 
+    // 여러 축제의 좋아요 여부를 한 번에 조회 (목록 화면용) - contentIds=a,b,c
+    @GetMapping("/likes/status")
+    public ResponseEntity<?> getLikeStatuses(@RequestParam("contentIds") List<String> contentIds,
+                                             HttpServletRequest request) {
+        String authHeader = request.getHeader("Authorization");
+        if (authHeader == null || !authHeader.startsWith("Bearer ")) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                    .body("Authorization 헤더 없음 또는 형식 오류");
+        }
+
+        String token = authHeader.replace("Bearer ", "");
+        if (!tokenProvider.validateToken(token)) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                    .body("유효하지 않은 토큰");
+        }
+
+        String username = tokenProvider.getUsernameFromToken(token);
+        if (username == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                    .body("JWT에서 username 추출 실패");
+        }
+
+        if (contentIds.size() > MAX_STATUS_IDS) {
+            throw new IllegalArgumentException("한 번에 최대 " + MAX_STATUS_IDS + "개까지 조회할 수 있습니다.");
+        }
+        return ResponseEntity.ok(Map.of("liked", festivalLikeService.likedContentIds(username, contentIds)));
+    }
+
      //좋아요 수 조회 (로그인 필요 없음)
     @GetMapping("/{festivalId}/count")
     public ResponseEntity<?> getLikeCount(@PathVariable("festivalId") String festivalId) {
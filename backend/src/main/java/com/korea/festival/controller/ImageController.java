@@ -0,0 +1,73 @@
+package com.korea.festival.controller;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.korea.festival.service.ImageStore;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 리뷰 이미지 응답 (/uploads/images/ab/<sha256>.png)
+ * - 키가 내용의 해시라 내용이 바뀌지 않음 → 1년 immutable 캐시 + ETag (재요청은 304)
+ * - Tomcat sendfile 을 쓸 수 있으면 파일 경로만 넘기고 커널이 소켓으로 바로 전송 (힙 버퍼 복사 없음)
+ *   작은 파일이나 sendfile 미지원 환경에서는 일반 스트림 복사
+ */
+@RestController
+@RequiredArgsConstructor
+public class ImageController {
+
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+    // Tomcat DefaultServlet 과 같은 기준 (이보다 작으면 복사가 더 쌈)
+    private static final long SENDFILE_THRESHOLD = 48 * 1024;
+
+    private static final String CACHE_CONTROL = CacheControl.maxAge(365, TimeUnit.DAYS).cachePublic().immutable()
+            .getHeaderValue();
+
+    private final ImageStore imageStore;
+
+    @GetMapping(ImageStore.URL_PREFIX + "{shard}/{name}")
+    public void image(@PathVariable("shard") String shard, @PathVariable("name") String name,
+                      HttpServletRequest request, HttpServletResponse response) throws IOException {
+        String key = shard + "/" + name;
+        Path path = imageStore.resolve(key).orElse(null);
+        if (path == null) {
+            response.sendError(HttpStatus.NOT_FOUND.value());
+            return;
+        }
+
+        String etag = "\"" + name.substring(0, name.indexOf('.')) + "\"";
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+        response.setHeader(HttpHeaders.ETAG, etag);
+        if (etag.equals(request.getHeader(HttpHeaders.IF_NONE_MATCH))) {
+            response.setStatus(HttpStatus.NOT_MODIFIED.value());
+            return;
+        }
+
+        long length = Files.size(path);
+        response.setContentType(ImageStore.contentType(key));
+        response.setContentLengthLong(length);
+
+        if (length >= SENDFILE_THRESHOLD && Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            request.setAttribute(SENDFILE_FILENAME, path.toRealPath().toString());
+            request.setAttribute(SENDFILE_START, 0L);
+            request.setAttribute(SENDFILE_END, length);
+            return;
+        }
+        Files.copy(path, response.getOutputStream());
+    }
+}
@@ -1,19 +1,32 @@
 package com.korea.festival.controller;
 
+import java.time.LocalDate;
 import java.util.List;
 
+import org.springframework.data.domain.Page;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import com.korea.festival.dto.FestivalDTO_MainPage;
+import com.korea.festival.dto.FestivalImportResult;
+import com.korea.festival.dto.FestivalMapDTO;
 import com.korea.festival.dto.FestivalResponseDTO;
-import com.korea.festival.entity.Festival_MainPage;
+import com.korea.festival.service.FestivalCalendarService;
+import com.korea.festival.service.FestivalGeoService;
+import com.korea.festival.service.FestivalListService;
+import com.korea.festival.service.FestivalRankingReadModel;
 import com.korea.festival.service.MainPageService;
 
 import lombok.RequiredArgsConstructor;
@@ -26,14 +39,17 @@ public class MainPageController {
 	
 	
 	private final MainPageService mainPageService;
+	private final FestivalListService festivalListService;
+	private final FestivalGeoService festivalGeoService;
+	private final FestivalCalendarService festivalCalendarService;
 	
 	
 	// 공공테이터포털 api -> DB 저장 -> DB에서 축제 정보 불러옴
 	// http://localhost:8081/api/festivals/import
     @PostMapping("/import")
     public ResponseEntity<String> importFestivals() {
-    	mainPageService.importFestivals();
-        return ResponseEntity.ok("축제 데이터가 성공적으로 저장되었습니다.");
+    	FestivalImportResult result = mainPageService.importFestivals();
+        return ResponseEntity.ok("축제 데이터가 성공적으로 저장되었습니다. (" + result.toSummary() + ")");
     }
     
     // DB 전체 삭제
@@ -43,13 +59,13 @@ public class MainPageController {
         return ResponseEntity.ok("모든 축제 데이터가 삭제되었습니다.");
     }
     
-    // delete 후 import
+    // 최신 데이터로 동기화
+    // 예전에는 전체 삭제 후 import 였지만 조회수/좋아요가 사라지고 메인 화면이 비는 구간이 생겨서 삭제 없이 동기화만 함
     @PostMapping("/reset-and-import")
     public ResponseEntity<String> resetAndImportFestivals() {
         try {
-            mainPageService.deleteAllFestivals();  // DB 전체 삭제
-            mainPageService.importFestivals();     // 최신 데이터 가져오기
-            return ResponseEntity.ok("DB 초기화 후 최신 축제 데이터를 가져왔습니다.");
+            FestivalImportResult result = mainPageService.importFestivals(); // 변경분만 반영
+            return ResponseEntity.ok("최신 축제 데이터로 동기화했습니다. (" + result.toSummary() + ")");
         } catch (Exception e) {
             e.printStackTrace();
             return ResponseEntity.status(500).body("축제 데이터 초기화 및 가져오기 실패");
@@ -58,26 +74,37 @@ public class MainPageController {
 	
 	
 	// 최신순 조회
+    // 순위 응답은 미리 직렬화해 둔 JSON 그대로 보내고, 내용이 같으면 304
     @GetMapping("/latest")
-    public ResponseEntity<List<FestivalDTO_MainPage>> getUpcomingFestivalsTop10() {
-        List<FestivalDTO_MainPage> festivals = mainPageService.getUpcomingFestivalsTop10();
-        System.out.println("DEBUG >>> " + festivals);
-        return ResponseEntity.ok(festivals);
+    public ResponseEntity<byte[]> getUpcomingFestivalsTop10(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return toResponse(mainPageService.getUpcomingFestivalsTop10(), ifNoneMatch);
     }
     
     
     // 인기순 조회 (조회수 기준)
     @GetMapping("/popular")
-    public ResponseEntity<List<Festival_MainPage>> getPopularFestivals() {
-    	
-        return ResponseEntity.ok(mainPageService.getFestivalsByPopularity());
+    public ResponseEntity<byte[]> getPopularFestivals(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return toResponse(mainPageService.getFestivalsByPopularity(), ifNoneMatch);
     }
 
     // 인기순 조회 (좋아요 기준)
     @GetMapping("/likes")
-    public ResponseEntity<List<FestivalDTO_MainPage>> getFestivalsByLikes() {
-        List<FestivalDTO_MainPage> festivals = mainPageService.getFestivalsByLikesDTO();
-        return ResponseEntity.ok(festivals);
+    public ResponseEntity<byte[]> getFestivalsByLikes(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return toResponse(mainPageService.getFestivalsByLikes(), ifNoneMatch);
+    }
+
+    private ResponseEntity<byte[]> toResponse(FestivalRankingReadModel.Snapshot snapshot, String ifNoneMatch) {
+        if (snapshot.etag().equals(ifNoneMatch)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(snapshot.etag()).build();
+        }
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .cacheControl(CacheControl.noCache()) // 매번 ETag 로 확인
+                .eTag(snapshot.etag())
+                .body(snapshot.body());
     }
 
     
@@ -92,12 +119,72 @@ public class MainPageController {
 
     
     
-    // 검색 API
+    // 전체 목록 (keyset 페이지) - sort: startDate | likes, 다음 페이지는 응답의 nextCursor 를 cursor 로 전달
+    @GetMapping("/list")
+    public ResponseEntity<StreamingResponseBody> listFestivals(
+            @RequestParam(name = "sort", defaultValue = "startDate") String sort,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "size", defaultValue = "20") int size) {
+        FestivalListService.PageQuery query = festivalListService.prepare(sort, cursor, size);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(out -> festivalListService.write(query, out));
+    }
+
+    // 검색 API (page 는 0 부터)
     @GetMapping("/search")
-    public ResponseEntity<List<FestivalResponseDTO>> searchFestivals(
-            @RequestParam(name = "query", required = false) String query) {
-        List<FestivalResponseDTO> festivals = mainPageService.searchFestivals(query);
-        return ResponseEntity.ok(festivals);
+    public ResponseEntity<Page<FestivalResponseDTO>> searchFestivals(
+            @RequestParam(name = "query", required = false) String query,
+            @RequestParam(name = "page", defaultValue = "0") int page,
+            @RequestParam(name = "size", defaultValue = "12") int size) {
+        return ResponseEntity.ok(mainPageService.searchFestivals(query, page, size));
+    }
+
+    // 검색어 자동완성
+    @GetMapping("/search/suggest")
+    public ResponseEntity<List<FestivalResponseDTO>> suggestFestivals(
+            @RequestParam(name = "prefix") String prefix,
+            @RequestParam(name = "limit", defaultValue = "10") int limit) {
+        return ResponseEntity.ok(mainPageService.suggestFestivals(prefix, limit));
+    }
+
+    // 기간으로 축제 찾기: when=today(진행 중) / weekend(이번 주말), 또는 from~to (yyyy-MM-dd)
+    @GetMapping("/active")
+    public ResponseEntity<List<FestivalResponseDTO>> getActiveFestivals(
+            @RequestParam(name = "when", required = false) String when,
+            @RequestParam(name = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(name = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(name = "areaCode", required = false) String areaCode,
+            @RequestParam(name = "sigunguCode", required = false) String sigunguCode,
+            @RequestParam(name = "minLikes", defaultValue = "0") int minLikes,
+            @RequestParam(name = "sort", defaultValue = "startDate") String sort,
+            @RequestParam(name = "limit", defaultValue = "100") int limit) {
+        return ResponseEntity.ok(festivalCalendarService.find(new FestivalCalendarService.Query(
+                when, from, to, areaCode, sigunguCode, minLikes, sort, limit)));
+    }
+
+    // 지도 화면 영역 안의 축제 (date 를 주면 그날 진행 중인 축제만)
+    @GetMapping("/map")
+    public ResponseEntity<List<FestivalMapDTO>> getFestivalsInBox(
+            @RequestParam(name = "minX") double minX,
+            @RequestParam(name = "minY") double minY,
+            @RequestParam(name = "maxX") double maxX,
+            @RequestParam(name = "maxY") double maxY,
+            @RequestParam(name = "date", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @RequestParam(name = "areaCode", required = false) String areaCode,
+            @RequestParam(name = "limit", defaultValue = "200") int limit) {
+        return ResponseEntity.ok(festivalGeoService.inBox(minX, minY, maxX, maxY, date, areaCode, limit));
+    }
+
+    // 위치 기준 반경 안의 축제 (가까운 순)
+    @GetMapping("/nearby")
+    public ResponseEntity<List<FestivalMapDTO>> getNearbyFestivals(
+            @RequestParam(name = "lat") double lat,
+            @RequestParam(name = "lng") double lng,
+            @RequestParam(name = "radiusKm", defaultValue = "10") double radiusKm,
+            @RequestParam(name = "date", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @RequestParam(name = "limit", defaultValue = "50") int limit) {
+        return ResponseEntity.ok(festivalGeoService.nearby(lat, lng, radiusKm, date, limit));
     }
     
     
@@ -37,6 +37,7 @@ import com.korea.festival.dto.UserProfileDTO;
 import com.korea.festival.dto.UserProfileImageDTO;
 import com.korea.festival.dto.UserUpdateDto;
 import com.korea.festival.dto.WishListDto;
+import com.korea.festival.entity.User;
 import com.korea.festival.service.InquiryService;
 import com.korea.festival.service.RegionalChatService;
 import com.korea.festival.service.UserService;
@@ -169,7 +170,8 @@ public class MyPageController {
 	@PostMapping("/regional-chat")
 	public ResponseEntity<RegionalChatDto> sendMessage(@AuthenticationPrincipal UserDetails userDetails,
 			@Valid @RequestBody RegionalChatDto chatDTO) {
-		RegionalChatDto sent = regionalChatService.sendMessage(userDetails.getUsername(), chatDTO);
+		User user = userService.getUserByUsername(userDetails.getUsername());
+		RegionalChatDto sent = regionalChatService.sendMessage(user.getId(), user.getNickname(), chatDTO);
 		return ResponseEntity.ok(sent);
 	}
 
@@ -115,4 +115,13 @@ public class ReviewController {
 	    public ResponseEntity<List<ReviewCommentResponseDTO>> commentFindAll(@PathVariable(name = "reviewId") Long reviewId) {
 	        return ResponseEntity.ok(reviewService.commentFindAll(reviewId));
 	    }
+
+	    // 리뷰 댓글 페이지 조회 (최상위 댓글 기준, 대댓글 포함)
+	    @GetMapping("/comment/{reviewId}/page")
+	    public ResponseEntity<Page<ReviewCommentResponseDTO>> commentFindPage(
+	            @PathVariable(name = "reviewId") Long reviewId,
+	            @RequestParam(name = "page", defaultValue = "0") int page,
+	            @RequestParam(name = "size", defaultValue = "20") int size) {
+	        return ResponseEntity.ok(reviewService.commentFindPage(reviewId, page, size));
+	    }
 }
@@ -0,0 +1,39 @@
+package com.korea.festival.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// 게시글 목록용 (본문/댓글 트리 없이 댓글 수만)
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class BoardSummaryDTO {
+
+	private Long id;
+	private String title;
+	private String category;
+	
+	private int likes;
+	private int view;
+	private boolean likedByCurrentUser;
+	
+	private String authorNickname;
+	private long commentCount;
+	private List<String> tags;
+	
+	private LocalDateTime createdAt;
+	private LocalDateTime updatedAt;
+	
+	// BoardRepository.findSummaries 의 JPQL 생성자 (태그/좋아요 여부는 서비스에서 채움)
+	public BoardSummaryDTO(Long id, String title, String category, int likes, int view, String authorNickname,
+			Long commentCount, LocalDateTime createdAt, LocalDateTime updatedAt) {
+		this(id, title, category, likes, view, false, authorNickname, commentCount, List.of(), createdAt, updatedAt);
+	}
+	
+}
@@ -0,0 +1,36 @@
+package com.korea.festival.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+
+// 공공데이터 searchFestival2 응답의 축제 한 건 (import 에 필요한 필드만)
+public record FestivalApiItem(
+        String contentId,
+        String title,
+        String addr1,
+        LocalDate eventStartDate,
+        LocalDate eventEndDate,
+        String firstimage,
+        String areaCode,
+        String sigunguCode,
+        Double mapX,
+        Double mapY,
+        LocalDateTime modifiedTime) {
+
+    // DB 에 반영하는 필드들의 SHA-256 - 저장된 값과 같으면 update 생략
+    public String contentHash() {
+        String joined = String.join("\u001F", title, addr1,
+                String.valueOf(eventStartDate), String.valueOf(eventEndDate), firstimage,
+                String.valueOf(areaCode), String.valueOf(sigunguCode), String.valueOf(mapX), String.valueOf(mapY));
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(joined.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
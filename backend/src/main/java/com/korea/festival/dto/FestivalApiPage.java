@@ -0,0 +1,7 @@
+package com.korea.festival.dto;
+
+import java.util.List;
+
+// 공공데이터 searchFestival2 응답 한 페이지
+public record FestivalApiPage(int totalCount, List<FestivalApiItem> items) {
+}
@@ -0,0 +1,27 @@
+package com.korea.festival.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+// 축제 목록 keyset 페이지 커서 - 마지막 행의 정렬 값과 id (클라이언트에는 불투명한 문자열로 전달)
+public record FestivalCursor(String sort, String value, long id) {
+
+    public String encode() {
+        String raw = sort + "|" + value + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static FestivalCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", -1);
+            if (parts.length != 3) {
+                throw new IllegalArgumentException("잘못된 커서입니다.");
+            }
+            return new FestivalCursor(parts[0], parts[1], Long.parseLong(parts[2]));
+        } catch (IllegalArgumentException e) {
+            // Base64/숫자 형식 오류 포함
+            throw new IllegalArgumentException("잘못된 커서입니다.", e);
+        }
+    }
+}
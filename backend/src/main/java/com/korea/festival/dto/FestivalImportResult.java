@@ -0,0 +1,35 @@
+package com.korea.festival.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// 축제 import 결과 (처리량 포함)
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FestivalImportResult {
+
+    private int totalCount;   // API 가 알려준 전체 건수
+    private int pages;        // 가져온 페이지 수
+    private int fetched;      // 받은 축제 수 (contentId 중복 제거 후)
+    private int inserted;
+    private int updated;
+    private int unchanged;
+    private int deactivated;  // API 에서 사라져 active=false 로 바꾼 수
+    private long fetchMillis; // API 조회 시간
+    private long writeMillis; // DB 반영 시간
+    private long elapsedMillis;
+
+    // 초당 처리 건수
+    public double getItemsPerSecond() {
+        return elapsedMillis > 0 ? fetched * 1000.0 / elapsedMillis : fetched;
+    }
+
+    public String toSummary() {
+        return String.format("신규 %d건, 변경 %d건, 유지 %d건, 비활성 %d건 (%d페이지, %d건, %dms, 초당 %.0f건)",
+                inserted, updated, unchanged, deactivated, pages, fetched, elapsedMillis, getItemsPerSecond());
+    }
+}
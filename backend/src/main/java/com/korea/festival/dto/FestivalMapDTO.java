@@ -0,0 +1,26 @@
+package com.korea.festival.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// 지도(한눈에 보기)용 축제 - 필드명은 공공데이터 응답과 같게 맞춤
+@Data
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+public class FestivalMapDTO {
+    private String contentid;
+    private String title;
+    private String addr1;
+    private String firstimage;
+    private String eventstartdate;  // "yyyyMMdd"
+    private String eventenddate;    // "yyyyMMdd"
+    private String areacode;
+    private String sigungucode;
+    private double mapx;            // 경도
+    private double mapy;            // 위도
+    private int likes;
+    private Double distanceKm;      // 반경 검색일 때만
+}
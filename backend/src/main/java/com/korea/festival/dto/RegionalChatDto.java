@@ -24,11 +24,15 @@ public class RegionalChatDto {
     private String userNickname;
     private LocalDateTime createdAt;
     
+    // 지역 내 메시지 순번
+    private Long seq;
+    
     public RegionalChatDto(RegionalChat chat) {
         this.id = chat.getId();
         this.region = chat.getRegion();
         this.message = chat.getMessage(); // ✅ 올바른 필드명
         this.userNickname = chat.getUser() != null ? chat.getUser().getNickname() : "Unknown";
         this.createdAt = chat.getCreatedAt();
+        this.seq = chat.getSeq();
     }
 }
\ No newline at end of file
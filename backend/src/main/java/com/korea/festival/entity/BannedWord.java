@@ -0,0 +1,41 @@
+package com.korea.festival.entity;
+
+import java.time.LocalDateTime;
+
+import org.hibernate.annotations.CreationTimestamp;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// 관리자가 등록한 채팅 금칙어 (application.yml 의 chat.moderation.banned-words 와 합쳐서 사용)
+@Entity
+@Table(name = "chat_banned_words")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BannedWord {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, unique = true, length = 100)
+    private String word;
+
+    // 등록한 관리자 username
+    @Column(length = 50)
+    private String createdBy;
+
+    @CreationTimestamp
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+}
@@ -11,6 +11,7 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
@@ -25,7 +26,8 @@ import lombok.NoArgsConstructor;
 @AllArgsConstructor
 @NoArgsConstructor
 @Builder
-@Table(name = "board_comment")
+// 댓글 트리 조회 (CommentTreeLoader) 용: 대상별 (parent_id, created_at) 순
+@Table(name = "board_comment", indexes = @Index(name = "idx_board_comment_tree", columnList = "board_id, parent_id, created_at"))
 public class BoardComment {
 	@Id
 	@GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -11,6 +11,7 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.Table;
@@ -25,7 +26,13 @@ import lombok.NoArgsConstructor;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "festivals")
+@Table(name = "festivals", indexes = {
+	// 목록 keyset 페이지용 (FestivalListService)
+	@Index(name = "idx_festivals_active_start_id", columnList = "active, start_date, id"),
+	@Index(name = "idx_festivals_active_likes_id", columnList = "active, likes_count, id"),
+	// 지역별 조회용
+	@Index(name = "idx_festivals_area_sigungu", columnList = "area_code, sigungu_code")
+})
 public class Festival_MainPage {
 	@Id 
 	@GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -55,7 +62,28 @@ public class Festival_MainPage {
     private int views = 0;           // 상세 조회수
     private int clicks = 0;          // 클릭수
     
-    private boolean active; // 현재 축제 정보가 유효한지
+    // 기본값은 새로 만든 스키마에만 적용 (ddl-auto=update 는 기존 컬럼을 바꾸지 않음)
+    // 동기화 이전에 저장된 축제는 FestivalImportService.activateLegacyFestivals 가 시작할 때 true 로 바꿈
+    @Column(columnDefinition = "boolean default true")
+    private boolean active; // 현재 축제 정보가 유효한지 (API 에서 사라지면 false)
+
+    @Column(name = "content_hash", length = 64)
+    private String contentHash; // API 값 해시 (동기화 때 변경 여부 판단)
+
+    @Column(name = "modified_time")
+    private LocalDateTime modifiedTime; // API 의 modifiedtime
+
+    @Column(name = "area_code", length = 10)
+    private String areaCode;    // 지역코드 (API areacode)
+
+    @Column(name = "sigungu_code", length = 10)
+    private String sigunguCode; // 시군구코드 (API sigungucode)
+
+    @Column(name = "map_x")
+    private Double mapX;        // 경도 (API mapx)
+
+    @Column(name = "map_y")
+    private Double mapY;        // 위도 (API mapy)
 
     private LocalDateTime createdAt; // DB 저장 시점
     
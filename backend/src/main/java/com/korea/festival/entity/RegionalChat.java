@@ -9,6 +9,7 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -18,7 +19,10 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "regional_chats")
+@Table(name = "regional_chats", indexes = {
+    @Index(name = "idx_regional_chats_region_created", columnList = "region, created_at"),
+    @Index(name = "idx_regional_chats_region_seq", columnList = "region, seq")
+})
 @Data
 @Builder
 @NoArgsConstructor
@@ -43,6 +47,9 @@ public class RegionalChat {
     @Column(nullable = false)
     private LocalDateTime createdAt;
     
+    // 지역 내 메시지 순번 (재접속 시 이어받기 기준). 도입 이전 메시지는 null
+    private Long seq;
+    
     // 관리자에 의해 숨겨진 메시지 여부
     @Column(nullable = false)
     @Builder.Default
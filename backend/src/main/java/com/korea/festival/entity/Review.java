@@ -74,6 +74,7 @@ public class Review {
     @Column(name = "tag")
     private Set<String> tags = new HashSet<>();
     
+    // ImageStore 키 ("ab/<sha256>.png"), 예전 base64 값은 ReviewImageMigration 으로 이전
     @ElementCollection
     @Builder.Default
     @CollectionTable(name = "review_images", joinColumns = @JoinColumn(name="review_id"))
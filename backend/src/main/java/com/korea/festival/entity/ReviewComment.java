@@ -12,6 +12,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
@@ -26,7 +27,8 @@ import lombok.NoArgsConstructor;
 @AllArgsConstructor
 @NoArgsConstructor
 @Builder
-@Table(name = "review_comment")
+// 댓글 트리 조회 (CommentTreeLoader) 용: 대상별 (parent_id, created_at) 순
+@Table(name = "review_comment", indexes = @Index(name = "idx_review_comment_tree", columnList = "review_id, parent_id, created_at"))
 public class ReviewComment {
 	@Id
 	@GeneratedValue(strategy = GenerationType.IDENTITY)
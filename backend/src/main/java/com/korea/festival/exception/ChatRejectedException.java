@@ -0,0 +1,12 @@
+package com.korea.festival.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+// 채팅 메시지를 받아들일 수 없을 때 (혼잡, 도배 등) - 메시지를 그대로 사용자에게 전달
+@ResponseStatus(HttpStatus.TOO_MANY_REQUESTS)
+public class ChatRejectedException extends RuntimeException {
+    public ChatRejectedException(String message) {
+        super(message);
+    }
+}
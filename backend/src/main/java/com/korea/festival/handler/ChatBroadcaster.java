@@ -0,0 +1,287 @@
+package com.korea.festival.handler;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 웹소켓 메시지 전송 엔진
+ * - 세션마다 제한된 크기의 송신 큐(outbox)를 두고, 가상 스레드가 세션별로 순서대로 전송
+ * - 브로드캐스트하는 스레드는 큐에 넣기만 하므로 느린 클라이언트 때문에 막히지 않음
+ * - 큐가 넘치면 메시지를 버리고, 큐를 다 비우지 못한 채 계속 넘치는 세션은 연결을 끊음
+ * - sendMessage 가 send-time-limit 넘게 돌아오지 않는 세션은 watchdog 이 연결을 끊음 (막힌 전송 해제)
+ * - 같은 세션에 동시에 sendMessage 하면 안 되므로 모든 전송은 이 클래스를 거쳐야 함
+ * - ChatFrame 은 세션이 협상한 프로토콜(JSON/COMPACT)에 맞는 인코딩으로 보냄
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatBroadcaster {
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${chat.websocket.send-queue-limit:256}")
+    private int sendQueueLimit;
+
+    @Value("${chat.websocket.slow-consumer-drop-limit:64}")
+    private int slowConsumerDropLimit;
+
+    @Value("${chat.websocket.send-time-limit:5000}")
+    private long sendTimeLimitMs;
+
+    private final Map<String, SessionOutbox> outboxes = new ConcurrentHashMap<>();
+    private ExecutorService senderExecutor;
+
+    // 시간 (테스트에서 바꿔 끼움)
+    private LongSupplier nanoClock = System::nanoTime;
+
+    private Timer fanOutTimer;
+    private Counter droppedCounter;
+    private Counter slowConsumerCounter;
+    private DistributionSummary jsonFrameBytes;
+    private DistributionSummary compactFrameBytes;
+
+    @PostConstruct
+    public void init() {
+        senderExecutor = Executors.newVirtualThreadPerTaskExecutor();
+        fanOutTimer = Timer.builder("chat.broadcast.fanout")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        droppedCounter = meterRegistry.counter("chat.broadcast.dropped");
+        slowConsumerCounter = meterRegistry.counter("chat.broadcast.slow-consumer.closed");
+        jsonFrameBytes = DistributionSummary.builder("chat.broadcast.frame.bytes")
+                .tag("protocol", "json")
+                .register(meterRegistry);
+        compactFrameBytes = DistributionSummary.builder("chat.broadcast.frame.bytes")
+                .tag("protocol", "compact")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        senderExecutor.shutdown();
+        senderExecutor.awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    // 프로토콜은 등록 시점의 세션 속성(ChatProtocol.ATTRIBUTE)으로 고정
+    public void register(WebSocketSession session) {
+        outboxes.computeIfAbsent(session.getId(), id -> new SessionOutbox(session, ChatProtocol.of(session)));
+    }
+
+    public void unregister(WebSocketSession session) {
+        SessionOutbox outbox = outboxes.remove(session.getId());
+        if (outbox != null) {
+            outbox.closed = true;
+        }
+    }
+
+    // 단일 세션 전송
+    public void send(WebSocketSession session, WebSocketMessage<?> message) {
+        SessionOutbox outbox = outboxes.get(session.getId());
+        if (outbox == null) {
+            // 등록 전/해제 후 세션 - 큐 없이 직접 보낼 수 없으므로 무시
+            log.debug("등록되지 않은 세션으로 전송 무시: {}", session.getId());
+            return;
+        }
+        outbox.offer(message);
+    }
+
+    public void send(WebSocketSession session, ChatFrame frame) {
+        SessionOutbox outbox = outboxes.get(session.getId());
+        if (outbox == null) {
+            log.debug("등록되지 않은 세션으로 전송 무시: {}", session.getId());
+            return;
+        }
+        outbox.offer(frame.messageFor(outbox.protocol));
+    }
+
+    /**
+     * 여러 세션에 같은 프레임 전송. 프로토콜별 인코딩은 프레임당 한 번만 수행
+     */
+    public void broadcast(Collection<WebSocketSession> sessions, ChatFrame frame) {
+        long start = System.nanoTime();
+        boolean json = false;
+        boolean compact = false;
+        for (WebSocketSession session : sessions) {
+            SessionOutbox outbox = outboxes.get(session.getId());
+            if (outbox != null) {
+                outbox.offer(frame.messageFor(outbox.protocol));
+                json |= outbox.protocol == ChatProtocol.JSON;
+                compact |= outbox.protocol == ChatProtocol.COMPACT;
+            }
+        }
+        fanOutTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        if (json) {
+            jsonFrameBytes.record(frame.textMessage().getPayloadLength());
+        }
+        if (compact) {
+            compactFrameBytes.record(frame.compactBytes().length);
+        }
+    }
+
+    /**
+     * 여러 세션에 같은 메시지 전송. 메시지 객체는 한 번만 만들어 모든 세션이 공유한다
+     */
+    public void broadcast(Collection<WebSocketSession> sessions, WebSocketMessage<?> message) {
+        long start = System.nanoTime();
+        for (WebSocketSession session : sessions) {
+            SessionOutbox outbox = outboxes.get(session.getId());
+            if (outbox != null) {
+                outbox.offer(message);
+            }
+        }
+        fanOutTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+
+    // 송신 큐를 정리하고 연결 종료 (close 가 블로킹될 수 있으므로 가상 스레드에서)
+    public void close(WebSocketSession session, CloseStatus status) {
+        unregister(session);
+        senderExecutor.execute(() -> {
+            try {
+                session.close(status);
+            } catch (IOException e) {
+                log.debug("세션 종료 실패: {}", session.getId(), e);
+            }
+        });
+    }
+
+    /**
+     * 전송 중인 sendMessage 가 send-time-limit 를 넘긴 세션 연결 종료.
+     * 전송이 끝난 뒤의 시간 검사만으로는 돌아오지 않는 전송을 끊을 수 없으므로 따로 확인한다
+     */
+    @Scheduled(fixedDelayString = "${chat.websocket.send-watchdog-interval:1000}")
+    public void closeStalledSends() {
+        long now = nanoClock.getAsLong();
+        for (SessionOutbox outbox : outboxes.values()) {
+            long started = outbox.sendStartedNanos;
+            if (started != 0) {
+                long elapsedMs = TimeUnit.NANOSECONDS.toMillis(now - started);
+                if (elapsedMs > sendTimeLimitMs) {
+                    closeSlowConsumer(outbox, "전송 중 " + elapsedMs + "ms 경과");
+                }
+            }
+        }
+    }
+
+    public int getPendingCount(WebSocketSession session) {
+        SessionOutbox outbox = outboxes.get(session.getId());
+        return outbox != null ? outbox.size.get() : 0;
+    }
+
+    private void closeSlowConsumer(SessionOutbox outbox, String reason) {
+        // 전송 스레드와 watchdog 이 동시에 끊을 수 있으므로 맵에서 제거한 쪽만 처리
+        if (outbox.closed || !outboxes.remove(outbox.session.getId(), outbox)) {
+            return;
+        }
+        outbox.closed = true;
+        slowConsumerCounter.increment();
+        log.warn("느린 세션 연결 종료: {} ({})", outbox.session.getId(), reason);
+        senderExecutor.execute(() -> {
+            try {
+                outbox.session.close(CloseStatus.SESSION_NOT_RELIABLE);
+            } catch (IOException e) {
+                log.debug("세션 종료 실패: {}", outbox.session.getId(), e);
+            }
+        });
+    }
+
+    // 세션별 송신 큐
+    private class SessionOutbox {
+        private final WebSocketSession session;
+        private final ChatProtocol protocol;
+        private final Queue<WebSocketMessage<?>> queue = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger size = new AtomicInteger();
+        private final AtomicInteger dropped = new AtomicInteger();
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private volatile boolean closed;
+        // 진행 중인 sendMessage 시작 시각 (0 이면 전송 중 아님)
+        private volatile long sendStartedNanos;
+
+        SessionOutbox(WebSocketSession session, ChatProtocol protocol) {
+            this.session = session;
+            this.protocol = protocol;
+        }
+
+        void offer(WebSocketMessage<?> message) {
+            if (closed) {
+                return;
+            }
+            if (size.incrementAndGet() > sendQueueLimit) {
+                size.decrementAndGet();
+                droppedCounter.increment();
+                if (dropped.incrementAndGet() >= slowConsumerDropLimit) {
+                    closeSlowConsumer(this, "송신 큐 초과");
+                }
+                return;
+            }
+            queue.offer(message);
+            scheduleDrain();
+        }
+
+        private void scheduleDrain() {
+            if (draining.compareAndSet(false, true)) {
+                senderExecutor.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            try {
+                WebSocketMessage<?> message;
+                while (!closed && (message = queue.poll()) != null) {
+                    size.decrementAndGet();
+                    if (!session.isOpen()) {
+                        closed = true;
+                        break;
+                    }
+                    long start = nanoClock.getAsLong();
+                    sendStartedNanos = start;
+                    session.sendMessage(message);
+                    sendStartedNanos = 0;
+                    long elapsedMs = TimeUnit.NANOSECONDS.toMillis(nanoClock.getAsLong() - start);
+                    if (elapsedMs > sendTimeLimitMs) {
+                        closeSlowConsumer(this, "전송 시간 초과 " + elapsedMs + "ms");
+                    }
+                }
+                // 큐를 다 비웠으면 따라잡은 것 - 가끔 넘치는 세션이 누적으로 끊기지 않도록 버린 횟수를 다시 셈
+                if (!closed) {
+                    dropped.set(0);
+                }
+            } catch (IOException | RuntimeException e) {
+                log.error("메시지 전송 실패: {}", session.getId(), e);
+                closeSlowConsumer(this, "전송 오류");
+            } finally {
+                sendStartedNanos = 0;
+                draining.set(false);
+            }
+            // drain 종료 직후 들어온 메시지 처리
+            if (!closed && !queue.isEmpty()) {
+                scheduleDrain();
+            }
+        }
+    }
+}
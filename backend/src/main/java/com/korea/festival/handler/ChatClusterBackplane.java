@@ -0,0 +1,245 @@
+package com.korea.festival.handler;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.PatternTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 여러 백엔드 노드 간 지역 채팅 이벤트 중계 (Redis pub/sub)
+ * - chat.cluster.enabled=false 이면 Redis 없이 로컬로만 전달 (단일 서버)
+ * - 이벤트는 로컬 세션에 바로 전달하고, 지역별 채널(chat:region:{region})로 발행해서 다른 노드가 자기 세션에 전달
+ * - 접속자 수는 노드별 해시(chat:online:{nodeId})에 기록하고, 살아있는 노드(chat:nodes)의 값을 합산
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatClusterBackplane {
+
+    private static final String CHANNEL_PREFIX = "chat:region:";
+    private static final String ONLINE_KEY_PREFIX = "chat:online:";
+    private static final String NODES_KEY = "chat:nodes";
+    private static final String TEMP_KEY_SUFFIX = ":tmp";
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisConnectionFactory connectionFactory;
+    private final ChatFrameCodec frameCodec;
+
+    @Value("${chat.cluster.enabled:false}")
+    private boolean enabled;
+
+    @Value("${chat.cluster.node-id:}")
+    private String nodeId;
+
+    @Value("${chat.cluster.node-ttl:30000}")
+    private long nodeTtlMs;
+
+    // 로컬 노드의 지역별 접속자 수
+    private final Map<String, Integer> localCounts = new ConcurrentHashMap<>();
+
+    private RedisMessageListenerContainer listenerContainer;
+    private volatile RegionEventListener listener = (region, frame, remote) -> { };
+
+    @PostConstruct
+    public void start() {
+        if (nodeId == null || nodeId.isBlank()) {
+            nodeId = UUID.randomUUID().toString();
+        }
+        if (!enabled) {
+            return;
+        }
+        listenerContainer = new RedisMessageListenerContainer();
+        listenerContainer.setConnectionFactory(connectionFactory);
+        listenerContainer.addMessageListener(this::onRedisMessage, new PatternTopic(CHANNEL_PREFIX + "*"));
+        listenerContainer.afterPropertiesSet();
+        listenerContainer.start();
+        heartbeat();
+        log.info("채팅 클러스터 모드 시작: nodeId={}", nodeId);
+    }
+
+    @PreDestroy
+    public void stop() throws Exception {
+        if (!enabled) {
+            return;
+        }
+        listenerContainer.stop();
+        listenerContainer.destroy();
+        redisTemplate.opsForZSet().remove(NODES_KEY, nodeId);
+        redisTemplate.delete(ONLINE_KEY_PREFIX + nodeId);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    public void setListener(RegionEventListener listener) {
+        this.listener = listener;
+    }
+
+    /**
+     * 지역 이벤트 발행 - 로컬 세션에는 즉시 전달하고 다른 노드로 중계 (노드 간에는 JSON 으로 전달)
+     */
+    public void publish(String region, ChatFrame frame) {
+        listener.onRegionEvent(region, frame, false);
+        if (enabled) {
+            try {
+                redisTemplate.convertAndSend(CHANNEL_PREFIX + region,
+                        nodeId + "\n" + frame.getType() + "\n" + frame.json());
+            } catch (Exception e) {
+                log.error("채팅 이벤트 발행 실패: region={}, type={}", region, frame.getType(), e);
+            }
+        }
+    }
+
+    private void onRedisMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int first = body.indexOf('\n');
+        int second = body.indexOf('\n', first + 1);
+        if (first < 0 || second < 0) {
+            return;
+        }
+        // 자기 노드가 발행한 이벤트는 이미 로컬에 전달됨
+        if (body.regionMatches(0, nodeId, 0, first) && first == nodeId.length()) {
+            return;
+        }
+        String channel = new String(message.getChannel(), StandardCharsets.UTF_8);
+        String region = channel.substring(CHANNEL_PREFIX.length());
+        String type = body.substring(first + 1, second);
+        ChatFrame frame = frameCodec.fromJson(type, body.substring(second + 1));
+        try {
+            listener.onRegionEvent(region, frame, true);
+        } catch (Exception e) {
+            log.error("원격 채팅 이벤트 처리 실패: region={}, type={}", region, type, e);
+        }
+    }
+
+    // ===== 접속자 수 =====
+
+    public void updateLocalCount(String region, int count) {
+        if (count > 0) {
+            localCounts.put(region, count);
+        } else {
+            localCounts.remove(region);
+        }
+        if (enabled) {
+            try {
+                if (count > 0) {
+                    redisTemplate.opsForHash().put(ONLINE_KEY_PREFIX + nodeId, region, String.valueOf(count));
+                } else {
+                    redisTemplate.opsForHash().delete(ONLINE_KEY_PREFIX + nodeId, region);
+                }
+            } catch (Exception e) {
+                log.error("접속자 수 기록 실패: region={}", region, e);
+            }
+        }
+    }
+
+    // 클러스터 전체 지역 접속자 수 (단일 서버 모드면 로컬 값)
+    public int getClusterCount(String region) {
+        if (!enabled) {
+            return localCounts.getOrDefault(region, 0);
+        }
+        try {
+            List<String> nodes = liveNodes();
+            List<Object> values = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection stringConnection = (StringRedisConnection) connection;
+                for (String node : nodes) {
+                    stringConnection.hGet(ONLINE_KEY_PREFIX + node, region);
+                }
+                return null;
+            });
+            int total = 0;
+            for (Object value : values) {
+                if (value != null) {
+                    total += Integer.parseInt(value.toString());
+                }
+            }
+            return total;
+        } catch (Exception e) {
+            log.error("클러스터 접속자 수 조회 실패 - 로컬 값 사용: region={}", region, e);
+            return localCounts.getOrDefault(region, 0);
+        }
+    }
+
+    public Map<String, Integer> getClusterCounts() {
+        if (!enabled) {
+            return new HashMap<>(localCounts);
+        }
+        try {
+            Map<String, Integer> totals = new HashMap<>();
+            for (String node : liveNodes()) {
+                redisTemplate.<String, String>opsForHash().entries(ONLINE_KEY_PREFIX + node)
+                        .forEach((region, count) -> totals.merge(region, Integer.parseInt(count), Integer::sum));
+            }
+            return totals;
+        } catch (Exception e) {
+            log.error("클러스터 접속자 수 조회 실패 - 로컬 값 사용", e);
+            return new HashMap<>(localCounts);
+        }
+    }
+
+    private List<String> liveNodes() {
+        long now = System.currentTimeMillis();
+        Set<String> nodes = redisTemplate.opsForZSet().rangeByScore(NODES_KEY, now - nodeTtlMs, Double.POSITIVE_INFINITY);
+        return nodes != null ? List.copyOf(nodes) : List.of();
+    }
+
+    // 노드 생존 신호 + 로컬 접속자 수 전체 재기록 (다운된 노드의 값은 TTL 로 자연 소멸)
+    // 임시 키에 다 쓴 뒤 RENAME 으로 한 번에 교체 - 읽는 쪽이 비어 있는 해시를 보거나, 중간에 죽어서 값이 사라지지 않음
+    @Scheduled(fixedDelayString = "${chat.cluster.heartbeat-interval:5000}")
+    public void heartbeat() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            long now = System.currentTimeMillis();
+            String key = ONLINE_KEY_PREFIX + nodeId;
+            redisTemplate.opsForZSet().add(NODES_KEY, nodeId, now);
+            redisTemplate.opsForZSet().removeRangeByScore(NODES_KEY, 0, now - nodeTtlMs);
+            Map<String, String> snapshot = new HashMap<>();
+            localCounts.forEach((region, count) -> snapshot.put(region, String.valueOf(count)));
+            if (snapshot.isEmpty()) {
+                redisTemplate.delete(key);
+                return;
+            }
+            String tempKey = key + TEMP_KEY_SUFFIX;
+            redisTemplate.delete(tempKey);
+            redisTemplate.opsForHash().putAll(tempKey, snapshot);
+            // RENAME 은 TTL 도 옮기므로 교체 전에 죽어도 임시 키는 사라짐
+            redisTemplate.expire(tempKey, nodeTtlMs, TimeUnit.MILLISECONDS);
+            redisTemplate.rename(tempKey, key);
+        } catch (Exception e) {
+            log.error("채팅 노드 heartbeat 실패: nodeId={}", nodeId, e);
+        }
+    }
+
+    // 지역 이벤트 수신 콜백 (remote=true 이면 다른 노드에서 온 이벤트)
+    @FunctionalInterface
+    public interface RegionEventListener {
+        void onRegionEvent(String region, ChatFrame frame, boolean remote);
+    }
+}
@@ -0,0 +1,71 @@
+package com.korea.festival.handler;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+import org.springframework.web.socket.BinaryMessage;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketMessage;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * 브로드캐스트 한 번에 해당하는 채팅 프레임
+ * - JSON / COMPACT 인코딩 결과를 처음 필요할 때 한 번만 만들고 모든 세션이 공유
+ * - BinaryMessage 는 전송 시 ByteBuffer 위치가 바뀌므로 바이트 배열만 공유하고 세션마다 감싼다
+ */
+public final class ChatFrame {
+
+    private final ChatFrameCodec codec;
+    private final String type;
+    private JsonNode tree;
+    private TextMessage text;
+    private byte[] compact;
+
+    ChatFrame(ChatFrameCodec codec, String type, JsonNode tree, String json) {
+        this.codec = codec;
+        this.type = type;
+        this.tree = tree;
+        this.text = json != null ? new TextMessage(json) : null;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public synchronized JsonNode tree() {
+        if (tree == null) {
+            try {
+                tree = codec.readJson(text.getPayload());
+            } catch (IOException e) {
+                throw new UncheckedIOException("채팅 프레임 파싱 실패", e);
+            }
+        }
+        return tree;
+    }
+
+    public synchronized TextMessage textMessage() {
+        if (text == null) {
+            text = new TextMessage(codec.toJson(tree));
+        }
+        return text;
+    }
+
+    public String json() {
+        return textMessage().getPayload();
+    }
+
+    public byte[] compactBytes() {
+        JsonNode node = tree();
+        synchronized (this) {
+            if (compact == null) {
+                compact = codec.toCompact(type, node);
+            }
+            return compact;
+        }
+    }
+
+    public WebSocketMessage<?> messageFor(ChatProtocol protocol) {
+        return protocol == ChatProtocol.COMPACT ? new BinaryMessage(compactBytes()) : textMessage();
+    }
+}
@@ -0,0 +1,122 @@
+package com.korea.festival.handler;
+
+import java.io.IOException;
+import java.util.Map;
+
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 채팅 프레임 인코딩/디코딩
+ * - JSON 은 스프링 설정 ObjectMapper 사용
+ * - COMPACT(CBOR) 는 타입별 고정 필드 순서 배열로 인코딩해서 필드 이름을 보내지 않는다
+ *
+ *   NEW_MESSAGE      [1, seq, id, region, nickname, content, timestamp, userCount(없으면 null)]
+ *   MESSAGE_DELETED  [2, messageId]
+ *   USER_COUNT       [3, region, count]
+ *   REGION_MESSAGES  [4, [[seq, id, userNickname, message, createdAt], ...]]
+ *   REPORT_CONFIRMED [5, messageId]
+ *   ERROR            [6, message]
+ *   REGION_MESSAGES_DELTA [7, region, [[seq, id, userNickname, message, createdAt], ...]]
+ *
+ *   목록에 없는 타입은 CBOR 맵으로 그대로 인코딩
+ */
+@Component
+@RequiredArgsConstructor
+public class ChatFrameCodec {
+
+    private static final Map<String, Schema> SCHEMAS = Map.of(
+            "NEW_MESSAGE", new Schema(1, "seq", "id", "region", "nickname", "content", "timestamp", "userCount"),
+            "MESSAGE_DELETED", new Schema(2, "messageId"),
+            "USER_COUNT", new Schema(3, "region", "count"),
+            "REGION_MESSAGES", new Schema(4, "messages"),
+            "REPORT_CONFIRMED", new Schema(5, "messageId"),
+            "ERROR", new Schema(6, "message"),
+            "REGION_MESSAGES_DELTA", new Schema(7, "region", "messages"));
+
+    // REGION_MESSAGES 안의 메시지 필드 순서 (RegionalChatDto)
+    private static final String[] SNAPSHOT_MESSAGE_FIELDS = {"seq", "id", "userNickname", "message", "createdAt"};
+
+    private final ObjectMapper objectMapper;
+    private final ObjectMapper cborMapper = new ObjectMapper(new CBORFactory());
+
+    public ObjectNode createObjectNode() {
+        return objectMapper.createObjectNode();
+    }
+
+    public JsonNode valueToTree(Object value) {
+        return objectMapper.valueToTree(value);
+    }
+
+    public ChatFrame frame(ObjectNode node) {
+        return new ChatFrame(this, node.get("type").asText(), node, null);
+    }
+
+    // 이미 직렬화된 JSON (다른 노드에서 받은 이벤트, 캐시된 스냅샷)
+    public ChatFrame fromJson(String type, String json) {
+        return new ChatFrame(this, type, null, json);
+    }
+
+    public JsonNode readJson(String json) throws IOException {
+        return objectMapper.readTree(json);
+    }
+
+    public JsonNode readCompact(byte[] payload) throws IOException {
+        return cborMapper.readTree(payload);
+    }
+
+    String toJson(JsonNode node) {
+        try {
+            return objectMapper.writeValueAsString(node);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("채팅 프레임 JSON 인코딩 실패", e);
+        }
+    }
+
+    byte[] toCompact(String type, JsonNode node) {
+        Schema schema = SCHEMAS.get(type);
+        JsonNode encoded = node;
+        if (schema != null) {
+            ArrayNode array = cborMapper.createArrayNode();
+            array.add(schema.code());
+            for (String field : schema.fields()) {
+                if ("messages".equals(field)) {
+                    array.add(compactMessages(node.get(field)));
+                } else {
+                    array.add(node.get(field));
+                }
+            }
+            encoded = array;
+        }
+        try {
+            return cborMapper.writeValueAsBytes(encoded);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("채팅 프레임 CBOR 인코딩 실패", e);
+        }
+    }
+
+    private ArrayNode compactMessages(JsonNode messages) {
+        ArrayNode rows = cborMapper.createArrayNode();
+        if (messages == null) {
+            return rows;
+        }
+        for (JsonNode message : messages) {
+            ArrayNode row = rows.addArray();
+            for (String field : SNAPSHOT_MESSAGE_FIELDS) {
+                row.add(message.get(field));
+            }
+        }
+        return rows;
+    }
+
+    private record Schema(int code, String... fields) {
+    }
+}
@@ -0,0 +1,54 @@
+package com.korea.festival.handler;
+
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.util.UriComponentsBuilder;
+
+/**
+ * 채팅 웹소켓 프레임 형식
+ * - JSON: 기존 텍스트 프레임 (기본값)
+ * - COMPACT: CBOR 바이너리 프레임. 서버→클라이언트 프레임은 필드 이름 없이 [타입코드, 값...] 고정 순서 배열
+ *   (순서는 ChatFrameCodec 참고), 클라이언트→서버 프레임은 JSON 과 같은 필드 이름의 CBOR 맵
+ *
+ * 협상 순서: Sec-WebSocket-Protocol 헤더 → ?protocol=compact 쿼리 파라미터 → JSON
+ */
+public enum ChatProtocol {
+
+    JSON("festival-chat.json"),
+    COMPACT("festival-chat.cbor");
+
+    public static final String ATTRIBUTE = "chatProtocol";
+    public static final List<String> SUB_PROTOCOLS = List.of(COMPACT.subProtocol, JSON.subProtocol);
+
+    private final String subProtocol;
+
+    ChatProtocol(String subProtocol) {
+        this.subProtocol = subProtocol;
+    }
+
+    public String getSubProtocol() {
+        return subProtocol;
+    }
+
+    // 연결 시 한 번 결정해서 세션 속성에 저장
+    public static ChatProtocol negotiate(WebSocketSession session) {
+        String accepted = session.getAcceptedProtocol();
+        if (COMPACT.subProtocol.equals(accepted)) {
+            return COMPACT;
+        }
+        if (JSON.subProtocol.equals(accepted) || session.getUri() == null) {
+            return JSON;
+        }
+        String param = UriComponentsBuilder.fromUri(session.getUri()).build()
+                .getQueryParams().getFirst("protocol");
+        return "compact".equalsIgnoreCase(param) || "cbor".equalsIgnoreCase(param) ? COMPACT : JSON;
+    }
+
+    public static ChatProtocol of(WebSocketSession session) {
+        Map<String, Object> attributes = session.getAttributes();
+        Object protocol = attributes != null ? attributes.get(ATTRIBUTE) : null;
+        return protocol instanceof ChatProtocol chatProtocol ? chatProtocol : JSON;
+    }
+}
@@ -0,0 +1,174 @@
+package com.korea.festival.handler;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.PingMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 웹소켓 heartbeat + 유휴 세션 정리 (해시 타이밍 휠)
+ * - 세션마다 다음 확인 시각을 휠 슬롯에 등록하고, 매 tick 에는 해당 슬롯의 세션만 확인 (전체 세션을 훑지 않음)
+ * - 확인 시점에 connection-timeout 동안 pong/메시지가 없었으면 만료, 아니면 ping 을 보내고 heartbeat-interval 뒤로 재등록
+ * - 만료된 세션은 한 번에 모아서 리스너로 전달 (지역별 USER_COUNT 를 tick 당 한 번만 보내도록)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatSessionReaper {
+
+    private final ChatBroadcaster chatBroadcaster;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${chat.websocket.heartbeat-interval:30000}")
+    private long heartbeatIntervalMs;
+
+    @Value("${chat.websocket.connection-timeout:60000}")
+    private long connectionTimeoutMs;
+
+    @Value("${chat.websocket.reaper-tick:1000}")
+    private long tickMs;
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final Object wheelLock = new Object();
+    private List<Entry>[] wheel;
+    private int mask;
+    private long currentTick;
+    private long startMs;
+
+    // 시간 (테스트에서 바꿔 끼움)
+    private LongSupplier clock = System::currentTimeMillis;
+
+    private volatile ExpiredSessionListener listener = sessions -> { };
+    private Counter reapedCounter;
+
+    @PostConstruct
+    @SuppressWarnings("unchecked")
+    public void init() {
+        // heartbeat-interval 이 한 바퀴 안에 들어가도록 2의 거듭제곱 크기로
+        int size = Integer.highestOneBit((int) Math.max(1, heartbeatIntervalMs / tickMs) * 2);
+        wheel = new List[size];
+        for (int i = 0; i < size; i++) {
+            wheel[i] = new ArrayList<>();
+        }
+        mask = size - 1;
+        startMs = clock.getAsLong();
+        reapedCounter = meterRegistry.counter("chat.session.reaped");
+        meterRegistry.gauge("chat.session.tracked", entries, Map::size);
+    }
+
+    public void setListener(ExpiredSessionListener listener) {
+        this.listener = listener;
+    }
+
+    public void register(WebSocketSession session) {
+        Entry entry = new Entry(session, clock.getAsLong());
+        entries.put(session.getId(), entry);
+        synchronized (wheelLock) {
+            schedule(entry, heartbeatIntervalMs);
+        }
+    }
+
+    // 휠에서는 다음 tick 처리 때 제거
+    public void unregister(WebSocketSession session) {
+        Entry entry = entries.remove(session.getId());
+        if (entry != null) {
+            entry.cancelled = true;
+        }
+    }
+
+    // pong 또는 클라이언트 메시지 수신
+    public void touch(WebSocketSession session) {
+        Entry entry = entries.get(session.getId());
+        if (entry != null) {
+            entry.lastSeenMs = clock.getAsLong();
+        }
+    }
+
+    @Scheduled(fixedRateString = "${chat.websocket.reaper-tick:1000}")
+    public void tick() {
+        long now = clock.getAsLong();
+        List<Entry> due = new ArrayList<>();
+        synchronized (wheelLock) {
+            long targetTick = (now - startMs) / tickMs;
+            while (currentTick < targetTick) {
+                currentTick++;
+                Iterator<Entry> it = wheel[(int) (currentTick & mask)].iterator();
+                while (it.hasNext()) {
+                    Entry entry = it.next();
+                    if (entry.cancelled) {
+                        it.remove();
+                    } else if (entry.deadlineTick <= currentTick) {
+                        it.remove();
+                        due.add(entry);
+                    }
+                }
+            }
+        }
+        if (due.isEmpty()) {
+            return;
+        }
+
+        List<WebSocketSession> expired = new ArrayList<>();
+        List<Entry> alive = new ArrayList<>(due.size());
+        for (Entry entry : due) {
+            if (now - entry.lastSeenMs > connectionTimeoutMs || !entry.session.isOpen()) {
+                if (entries.remove(entry.session.getId(), entry)) {
+                    expired.add(entry.session);
+                }
+            } else {
+                chatBroadcaster.send(entry.session, new PingMessage());
+                alive.add(entry);
+            }
+        }
+        synchronized (wheelLock) {
+            alive.forEach(entry -> schedule(entry, heartbeatIntervalMs));
+        }
+
+        if (!expired.isEmpty()) {
+            reapedCounter.increment(expired.size());
+            log.info("응답 없는 웹소켓 세션 정리: {}개", expired.size());
+            try {
+                listener.onExpired(expired);
+            } catch (Exception e) {
+                log.error("만료 세션 처리 실패", e);
+            }
+        }
+    }
+
+    private void schedule(Entry entry, long delayMs) {
+        long ticks = Math.max(1, (delayMs + tickMs - 1) / tickMs);
+        entry.deadlineTick = currentTick + ticks;
+        wheel[(int) (entry.deadlineTick & mask)].add(entry);
+    }
+
+    private static class Entry {
+        private final WebSocketSession session;
+        private volatile long lastSeenMs;
+        private volatile boolean cancelled;
+        private long deadlineTick;
+
+        Entry(WebSocketSession session, long now) {
+            this.session = session;
+            this.lastSeenMs = now;
+        }
+    }
+
+    @FunctionalInterface
+    public interface ExpiredSessionListener {
+        void onExpired(List<WebSocketSession> sessions);
+    }
+}
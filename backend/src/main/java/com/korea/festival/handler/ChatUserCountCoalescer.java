@@ -0,0 +1,52 @@
+package com.korea.festival.handler;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * USER_COUNT 전송 묶음 처리
+ * - 입장/퇴장 때마다 지역 전체에 보내지 않고 변경된 지역만 표시해 두었다가
+ *   user-count-flush-interval 마다 지역당 한 번만 전송 (N명이 몰려 들어와도 O(N²) 전송이 되지 않음)
+ * - 그 사이에 새 메시지가 나가면 takeDirty() 로 가져가서 NEW_MESSAGE 에 함께 실어 보냄
+ */
+@Slf4j
+@Component
+public class ChatUserCountCoalescer {
+
+    private final Set<String> dirtyRegions = ConcurrentHashMap.newKeySet();
+    private volatile Consumer<String> listener = region -> { };
+
+    public void setListener(Consumer<String> listener) {
+        this.listener = listener;
+    }
+
+    public void markDirty(String region) {
+        dirtyRegions.add(region);
+    }
+
+    // 새 메시지에 접속자 수를 실어 보낼 때 - 대기 중이던 USER_COUNT 는 보내지 않음
+    public boolean takeDirty(String region) {
+        return dirtyRegions.remove(region);
+    }
+
+    @Scheduled(fixedDelayString = "${chat.region.user-count-flush-interval:500}")
+    public void flush() {
+        // 전송 중에 다시 표시된 지역은 다음 flush 에서 (한 번의 flush 에서 지역당 최대 한 번)
+        for (String region : List.copyOf(dirtyRegions)) {
+            if (dirtyRegions.remove(region)) {
+                try {
+                    listener.accept(region);
+                } catch (Exception e) {
+                    log.error("접속자 수 전송 실패: region={}", region, e);
+                }
+            }
+        }
+    }
+}
@@ -1,53 +1,114 @@
 package com.korea.festival.handler;
 
-import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.CopyOnWriteArraySet;
 
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.socket.BinaryMessage;
 import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.PongMessage;
+import org.springframework.web.socket.SubProtocolCapable;
 import org.springframework.web.socket.TextMessage;
 import org.springframework.web.socket.WebSocketSession;
-import org.springframework.web.socket.handler.TextWebSocketHandler;
+import org.springframework.web.socket.handler.AbstractWebSocketHandler;
 
 import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.korea.festival.dto.RegionalChatDto;
 import com.korea.festival.entity.RegionalChat;
 import com.korea.festival.entity.RegionalChatReport;
+import com.korea.festival.entity.User;
+import com.korea.festival.exception.ChatRejectedException;
+import com.korea.festival.service.ChatModerationService;
+import com.korea.festival.service.RegionalChatDeletedEvent;
+import com.korea.festival.service.RegionalChatRecentCache;
 import com.korea.festival.service.RegionalChatService;
 import com.korea.festival.service.UserService;
 
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
-public class ChatWebSocketHandler extends TextWebSocketHandler {
+public class ChatWebSocketHandler extends AbstractWebSocketHandler implements SubProtocolCapable {
 
     private final RegionalChatService regionalChatService;
     private final UserService userService;
-    private final ObjectMapper objectMapper = new ObjectMapper();
-
-    // 지역별 세션 관리
-    private final Map<String, CopyOnWriteArraySet<WebSocketSession>> regionSessions = new ConcurrentHashMap<>();
+    private final ChatBroadcaster chatBroadcaster;
+    private final RegionalChatRecentCache recentCache;
+    private final ChatClusterBackplane clusterBackplane;
+    private final ChatFrameCodec frameCodec;
+    private final ChatModerationService moderationService;
+    private final ChatSessionReaper sessionReaper;
+    private final ChatUserCountCoalescer userCountCoalescer;
+
+    // 지역별 세션 관리 (입장/퇴장이 잦으므로 CopyOnWrite 대신 concurrent set)
+    private final Map<String, Set<WebSocketSession>> regionSessions = new ConcurrentHashMap<>();
     
+    // 세션 속성에 보관하는 인증 사용자 키
+    private static final String IDENTITY_ATTRIBUTE = "chatIdentity";
+
     // 세션별 사용자 정보
     private final Map<String, UserSession> userSessions = new ConcurrentHashMap<>();
 
+    // 지역별 최근 메시지 프레임 (캐시 스냅샷 문자열이 바뀔 때만 다시 인코딩)
+    private final Map<String, ChatFrame> snapshotFrames = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void init() {
+        clusterBackplane.setListener(this::deliverRegionEvent);
+        sessionReaper.setListener(this::evictSessions);
+        userCountCoalescer.setListener(this::broadcastUserCount);
+    }
+
+    @Override
+    public List<String> getSubProtocols() {
+        return ChatProtocol.SUB_PROTOCOLS;
+    }
+
     @Override
     public void afterConnectionEstablished(WebSocketSession session) throws Exception {
-        log.info("WebSocket 연결 성공: {}", session.getId());
+        ChatProtocol protocol = ChatProtocol.negotiate(session);
+        session.getAttributes().put(ChatProtocol.ATTRIBUTE, protocol);
+        chatBroadcaster.register(session);
+        sessionReaper.register(session);
+        log.info("WebSocket 연결 성공: {} ({})", session.getId(), protocol);
     }
 
     @Override
     protected void handleTextMessage(WebSocketSession session, TextMessage message) throws Exception {
+        sessionReaper.touch(session);
+        handleFrame(session, () -> frameCodec.readJson(message.getPayload()));
+    }
+
+    // COMPACT 프로토콜 클라이언트가 보내는 CBOR 프레임 (필드 이름은 JSON 과 동일)
+    @Override
+    protected void handleBinaryMessage(WebSocketSession session, BinaryMessage message) throws Exception {
+        ByteBuffer payload = message.getPayload();
+        byte[] bytes = new byte[payload.remaining()];
+        payload.get(bytes);
+        sessionReaper.touch(session);
+        handleFrame(session, () -> frameCodec.readCompact(bytes));
+    }
+
+    @Override
+    protected void handlePongMessage(WebSocketSession session, PongMessage message) throws Exception {
+        sessionReaper.touch(session);
+    }
+
+    private void handleFrame(WebSocketSession session, FrameReader reader) {
         try {
-            JsonNode jsonNode = objectMapper.readTree(message.getPayload());
+            JsonNode jsonNode = reader.read();
             String messageType = jsonNode.get("type").asText();
             
             log.info("메시지 타입: {}, 세션: {}", messageType, session.getId());
@@ -81,6 +142,8 @@ public class ChatWebSocketHandler extends TextWebSocketHandler {
     public void afterConnectionClosed(WebSocketSession session, CloseStatus status) throws Exception {
         log.info("WebSocket 연결 종료: {}, 상태: {}", session.getId(), status);
         handleLeaveRegion(session);
+        chatBroadcaster.unregister(session);
+        sessionReaper.unregister(session);
     }
 
     @Override
@@ -91,26 +154,54 @@ public class ChatWebSocketHandler extends TextWebSocketHandler {
 
     private void handleJoinRegion(WebSocketSession session, JsonNode jsonNode) throws Exception {
         String region = getSafeText(jsonNode, "region");
-        Long userId = getSafeLong(jsonNode, "userId");
-        String nickname = getSafeText(jsonNode, "nickname");
-        String username = getSafeText(jsonNode, "username");
+        Long lastSeenSeq = getSafeLong(jsonNode, "lastSeenSeq");
 
-        if (region == null || userId == null || nickname == null || username == null) {
+        if (region == null) {
             sendErrorMessage(session, "JOIN_REGION 필수 값 누락");
             return;
         }
 
+        // 사용자 정보는 payload 가 아니라 핸드셰이크에서 인증된 사용자로 확인
+        ChatIdentity identity = resolveIdentity(session);
+        if (identity == null) {
+            sendErrorMessage(session, "인증되지 않은 사용자입니다.");
+            return;
+        }
+
         // 기존 지역에서 나가기
         handleLeaveRegion(session);
 
         // 새 지역에 참가
-        regionSessions.computeIfAbsent(region, k -> new CopyOnWriteArraySet<>()).add(session);
-        userSessions.put(session.getId(), new UserSession(userId, username, nickname, region));
+        regionSessions.computeIfAbsent(region, k -> ConcurrentHashMap.newKeySet()).add(session);
+        userSessions.put(session.getId(),
+                new UserSession(identity.userId(), identity.username(), identity.nickname(), region));
 
-        log.info("사용자 {}({})가 {} 지역에 입장", nickname, userId, region);
+        log.info("사용자 {}({})가 {} 지역에 입장", identity.nickname(), identity.userId(), region);
 
-        sendRecentMessages(session, region);
-        broadcastUserCount(region);
+        if (lastSeenSeq == null || !sendMissedMessages(session, region, lastSeenSeq)) {
+            sendRecentMessages(session, region);
+        }
+        scheduleUserCount(region);
+    }
+
+    // 인증된 사용자를 DB 에서 한 번만 조회해 세션 속성에 보관 (지역 이동 때는 다시 조회하지 않음)
+    private ChatIdentity resolveIdentity(WebSocketSession session) {
+        Map<String, Object> attributes = session.getAttributes();
+        if (attributes.get(IDENTITY_ATTRIBUTE) instanceof ChatIdentity identity) {
+            return identity;
+        }
+        if (!(attributes.get("user") instanceof UserDetails principal)) {
+            return null;
+        }
+        try {
+            User user = userService.getUserByUsername(principal.getUsername());
+            ChatIdentity identity = new ChatIdentity(user.getId(), user.getUsername(), user.getNickname());
+            attributes.put(IDENTITY_ATTRIBUTE, identity);
+            return identity;
+        } catch (RuntimeException e) {
+            log.warn("채팅 사용자 조회 실패: {}", principal.getUsername(), e);
+            return null;
+        }
     }
 
     private String getSafeText(JsonNode node, String key) {
@@ -124,18 +215,58 @@ public class ChatWebSocketHandler extends TextWebSocketHandler {
     }
 
     private void handleLeaveRegion(WebSocketSession session) {
+        String region = removeFromRegion(session);
+        if (region != null) {
+            scheduleUserCount(region);
+        }
+    }
+
+    // 지역에서 세션 제거 후 해당 지역 반환 (입장하지 않은 세션이면 null)
+    private String removeFromRegion(WebSocketSession session) {
         UserSession userSession = userSessions.remove(session.getId());
-        if (userSession != null) {
-            String region = userSession.getRegion();
-            CopyOnWriteArraySet<WebSocketSession> sessions = regionSessions.get(region);
-            if (sessions != null) {
-                sessions.remove(session);
-                if (sessions.isEmpty()) {
-                    regionSessions.remove(region);
+        if (userSession == null) {
+            return null;
+        }
+        String region = userSession.getRegion();
+        Set<WebSocketSession> sessions = regionSessions.get(region);
+        if (sessions == null) {
+            return null;
+        }
+        sessions.remove(session);
+        if (sessions.isEmpty()) {
+            regionSessions.remove(region, sessions);
+        }
+        log.info("사용자 {}가 {} 지역에서 퇴장", userSession.getNickname(), region);
+        return region;
+    }
+
+    // heartbeat 응답이 없는 세션 정리 - 지역별 USER_COUNT 는 한 번만 표시
+    private void evictSessions(List<WebSocketSession> sessions) {
+        Set<String> regions = new HashSet<>();
+        for (WebSocketSession session : sessions) {
+            String region = removeFromRegion(session);
+            if (region != null) {
+                regions.add(region);
+            }
+            chatBroadcaster.close(session, CloseStatus.SESSION_NOT_RELIABLE);
+        }
+        regions.forEach(this::scheduleUserCount);
+    }
+
+    // heartbeat 로 못 잡은 닫힌 세션 정리 (안전망)
+    @Scheduled(fixedDelayString = "${chat.region.cleanup-interval:300000}")
+    public void cleanupClosedSessions() {
+        Set<String> regions = new HashSet<>();
+        regionSessions.forEach((region, sessions) -> {
+            for (WebSocketSession session : sessions) {
+                if (!session.isOpen() && removeFromRegion(session) != null) {
+                    regions.add(region);
                 }
-                log.info("사용자 {}가 {} 지역에서 퇴장", userSession.getNickname(), region);
-                broadcastUserCount(region);
             }
+        });
+        if (!regions.isEmpty()) {
+            log.info("닫힌 세션 정리: {}개 지역", regions.size());
+            regions.forEach(this::scheduleUserCount);
         }
     }
 
@@ -155,24 +286,26 @@ public class ChatWebSocketHandler extends TextWebSocketHandler {
             return;
         }
 
-        // 욕설 필터링 (기본적인 검증)
-        if (containsInappropriateContent(content)) {
+        // 금칙어 필터링 (Aho-Corasick, 메시지 한 번만 훑음)
+        if (moderationService.containsBannedWord(content)) {
             sendErrorMessage(session, "부적절한 내용이 포함되어 있습니다.");
             return;
         }
 
         try {
-            // 메시지 저장
+            // 메시지 저장 (write-behind 큐에 넣고 바로 반환)
             RegionalChatDto chatDto = new RegionalChatDto();
             chatDto.setRegion(region);
             chatDto.setMessage(content);
             
             RegionalChatDto savedMessage = regionalChatService.sendMessage(
-            	    userSession.getUsername(), chatDto);
+            	    userSession.getUserId(), userSession.getNickname(), chatDto);
 
             // 지역 내 모든 사용자에게 메시지 전송
             broadcastMessage(region, createNewMessageJson(savedMessage));
 
+        } catch (ChatRejectedException e) {
+            sendErrorMessage(session, e.getMessage());
         } catch (Exception e) {
             log.error("메시지 저장 실패", e);
             sendErrorMessage(session, "메시지 전송에 실패했습니다.");
@@ -189,15 +322,8 @@ public class ChatWebSocketHandler extends TextWebSocketHandler {
         Long messageId = jsonNode.get("messageId").asLong();
         
         try {
-            regionalChatService.deleteMessage(userSession.getUserId().toString(), messageId);
-            
-            // 지역 내 모든 사용자에게 삭제 알림
-            ObjectNode deleteMessage = objectMapper.createObjectNode();
-            deleteMessage.put("type", "MESSAGE_DELETED");
-            deleteMessage.put("messageId", messageId);
-            
-            broadcastMessage(userSession.getRegion(), deleteMessage);
-            
+            // 지역 내 모든 사용자에게 삭제 알림은 onMessageDeleted 에서 전송
+            regionalChatService.deleteMessage(userSession.getUsername(), messageId);
         } catch (Exception e) {
             log.error("메시지 삭제 실패", e);
             sendErrorMessage(session, "메시지 삭제에 실패했습니다.");
@@ -223,11 +349,11 @@ public class ChatWebSocketHandler extends TextWebSocketHandler {
             );
             
             // 신고자에게만 확인 메시지 전송
-            ObjectNode reportConfirm = objectMapper.createObjectNode();
+            ObjectNode reportConfirm = frameCodec.createObjectNode();
             reportConfirm.put("type", "REPORT_CONFIRMED");
             reportConfirm.put("messageId", messageId);
             
-            session.sendMessage(new TextMessage(reportConfirm.toString()));
+            chatBroadcaster.send(session, frameCodec.frame(reportConfirm));
             
         } catch (Exception e) {
             log.error("메시지 신고 실패", e);
@@ -235,102 +361,155 @@ public class ChatWebSocketHandler extends TextWebSocketHandler {
         }
     }
 
-    private void sendRecentMessages(WebSocketSession session, String region) throws Exception {
+    /**
+     * 재접속 이어받기 - 놓친 메시지만 REGION_MESSAGES_DELTA(오래된 순)로 전송.
+     * 간격이 너무 크면 false 를 반환하고, 호출자가 전체 목록(REGION_MESSAGES)을 다시 보낸다
+     */
+    private boolean sendMissedMessages(WebSocketSession session, String region, long lastSeenSeq) {
         try {
-            // 최근 50개 메시지 조회
-            var messages = regionalChatService.getRegionalMessages(region, 
-                org.springframework.data.domain.PageRequest.of(0, 50));
-            
-            ObjectNode messagesList = objectMapper.createObjectNode();
-            messagesList.put("type", "REGION_MESSAGES");
-            messagesList.putPOJO("messages", messages.getContent());
-            
-            session.sendMessage(new TextMessage(messagesList.toString()));
-            
+            List<RegionalChatDto> missed = regionalChatService.getMessagesAfter(region, lastSeenSeq);
+            if (missed == null) {
+                log.debug("이어받기 간격 초과 - 전체 목록 전송: region={}, lastSeenSeq={}", region, lastSeenSeq);
+                return false;
+            }
+            ObjectNode delta = frameCodec.createObjectNode();
+            delta.put("type", "REGION_MESSAGES_DELTA");
+            delta.put("region", region);
+            delta.set("messages", frameCodec.valueToTree(missed));
+            chatBroadcaster.send(session, frameCodec.frame(delta));
+            return true;
+        } catch (Exception e) {
+            log.error("이어받기 메시지 조회 실패", e);
+            return false;
+        }
+    }
+
+    // 최근 메시지는 메모리 캐시에서 미리 직렬화된 프레임으로 전송 (DB 조회 없음)
+    private void sendRecentMessages(WebSocketSession session, String region) {
+        try {
+            String snapshot = recentCache.getSnapshotFrame(region);
+            // 캐시는 내용이 바뀔 때만 새 문자열을 만들므로 참조 비교로 충분
+            ChatFrame frame = snapshotFrames.get(region);
+            if (frame == null || frame.json() != snapshot) {
+                frame = frameCodec.fromJson("REGION_MESSAGES", snapshot);
+                snapshotFrames.put(region, frame);
+            }
+            chatBroadcaster.send(session, frame);
         } catch (Exception e) {
             log.error("최근 메시지 조회 실패", e);
         }
     }
 
-    private void broadcastMessage(String region, JsonNode message) {
-        CopyOnWriteArraySet<WebSocketSession> sessions = regionSessions.get(region);
+    // 메시지 삭제/숨김 (본인, 관리자, 신고) - 커밋 후 지역 내 모든 사용자에게 삭제 알림
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMessageDeleted(RegionalChatDeletedEvent event) {
+        ObjectNode deleteMessage = frameCodec.createObjectNode();
+        deleteMessage.put("type", "MESSAGE_DELETED");
+        deleteMessage.put("messageId", event.messageId());
+
+        broadcastMessage(event.region(), deleteMessage);
+    }
+
+    // 지역 이벤트 발행 - 로컬 세션 전달 + (클러스터 모드면) 다른 노드로 중계
+    private void broadcastMessage(String region, ObjectNode message) {
+        clusterBackplane.publish(region, frameCodec.frame(message));
+    }
+
+    // 프레임은 프로토콜별로 한 번만 인코딩하고, 실제 전송은 세션별 송신 큐에서 비동기로 처리
+    private void deliverRegionEvent(String region, ChatFrame frame, boolean remote) {
+        if (remote) {
+            applyRemoteEvent(region, frame);
+        }
+        Set<WebSocketSession> sessions = regionSessions.get(region);
         if (sessions != null) {
-            String messageStr = message.toString();
-            sessions.removeIf(session -> {
-                try {
-                    if (session.isOpen()) {
-                        session.sendMessage(new TextMessage(messageStr));
-                        return false;
-                    }
-                } catch (IOException e) {
-                    log.error("메시지 전송 실패: " + session.getId(), e);
-                }
-                return true;
-            });
+            chatBroadcaster.broadcast(sessions, frame);
         }
     }
 
-    private void broadcastUserCount(String region) {
-        CopyOnWriteArraySet<WebSocketSession> sessions = regionSessions.get(region);
-        if (sessions != null) {
-            ObjectNode userCount = objectMapper.createObjectNode();
-            userCount.put("type", "USER_COUNT");
-            userCount.put("region", region);
-            userCount.put("count", sessions.size());
-            
-            broadcastMessage(region, userCount);
+    // 다른 노드에서 발생한 전송/삭제를 이 노드의 최근 메시지 캐시에 반영
+    private void applyRemoteEvent(String region, ChatFrame frame) {
+        String type = frame.getType();
+        try {
+            if ("NEW_MESSAGE".equals(type)) {
+                JsonNode node = frame.tree();
+                RegionalChatDto message = new RegionalChatDto();
+                message.setId(node.get("id").asLong());
+                message.setSeq(node.path("seq").asLong());
+                message.setRegion(region);
+                message.setMessage(node.get("content").asText());
+                message.setUserNickname(node.get("nickname").asText());
+                message.setCreatedAt(LocalDateTime.parse(node.get("timestamp").asText()));
+                recentCache.append(message);
+            } else if ("MESSAGE_DELETED".equals(type)) {
+                JsonNode node = frame.tree();
+                recentCache.remove(region, node.get("messageId").asLong());
+            }
+        } catch (Exception e) {
+            log.error("원격 이벤트 캐시 반영 실패: region={}, type={}", region, type, e);
         }
     }
 
+    // 접속자 수 변경 - 로컬 수는 바로 기록하고 USER_COUNT 전송은 묶어서 처리
+    private void scheduleUserCount(String region) {
+        recordLocalCount(region);
+        userCountCoalescer.markDirty(region);
+    }
+
+    private void recordLocalCount(String region) {
+        Set<WebSocketSession> sessions = regionSessions.get(region);
+        clusterBackplane.updateLocalCount(region, sessions != null ? sessions.size() : 0);
+    }
+
+    private void broadcastUserCount(String region) {
+        // 동시 입장/퇴장이면 먼저 센 값이 나중에 기록될 수 있으므로 보내기 직전에 다시 기록
+        recordLocalCount(region);
+        ObjectNode userCount = frameCodec.createObjectNode();
+        userCount.put("type", "USER_COUNT");
+        userCount.put("region", region);
+        userCount.put("count", clusterBackplane.getClusterCount(region));
+        
+        broadcastMessage(region, userCount);
+    }
+
     private ObjectNode createNewMessageJson(RegionalChatDto message) {
-        ObjectNode messageJson = objectMapper.createObjectNode();
+        ObjectNode messageJson = frameCodec.createObjectNode();
         messageJson.put("type", "NEW_MESSAGE");
+        messageJson.put("seq", message.getSeq());
         messageJson.put("id", message.getId());
         messageJson.put("content", message.getMessage());
         messageJson.put("nickname", message.getUserNickname());
         messageJson.put("region", message.getRegion());
         messageJson.put("timestamp", message.getCreatedAt().toString());
+        // 보내지 못한 접속자 수 변경이 있으면 같이 전달
+        if (userCountCoalescer.takeDirty(message.getRegion())) {
+            messageJson.put("userCount", clusterBackplane.getClusterCount(message.getRegion()));
+        }
         return messageJson;
     }
 
     private void sendErrorMessage(WebSocketSession session, String error) {
-        try {
-            ObjectNode errorMessage = objectMapper.createObjectNode();
-            errorMessage.put("type", "ERROR");
-            errorMessage.put("message", error);
-            
-            session.sendMessage(new TextMessage(errorMessage.toString()));
-        } catch (IOException e) {
-            log.error("오류 메시지 전송 실패", e);
-        }
-    }
-
-    private boolean containsInappropriateContent(String content) {
-        // 기본적인 욕설 필터링 로직
-        String[] inappropriateWords = {
-            "욕설1", "욕설2", "스팸", "광고"
-            // 실제 구현시에는 더 정교한 필터링 필요
-        };
+        ObjectNode errorMessage = frameCodec.createObjectNode();
+        errorMessage.put("type", "ERROR");
+        errorMessage.put("message", error);
         
-        String lowerContent = content.toLowerCase();
-        for (String word : inappropriateWords) {
-            if (lowerContent.contains(word.toLowerCase())) {
-                return true;
-            }
-        }
-        return false;
+        chatBroadcaster.send(session, frameCodec.frame(errorMessage));
     }
 
-    // 지역별 실시간 통계 제공 (관리자용)
+    // 지역별 실시간 통계 제공 (관리자용) - 클러스터 모드면 전체 노드 합산
     public Map<String, Integer> getRegionUserCounts() {
-        Map<String, Integer> counts = new ConcurrentHashMap<>();
-        regionSessions.forEach((region, sessions) -> {
-            counts.put(region, sessions.size());
-        });
-        return counts;
+        return clusterBackplane.getClusterCounts();
+    }
+
+    @FunctionalInterface
+    private interface FrameReader {
+        JsonNode read() throws Exception;
     }
 
     // 사용자 세션 정보 클래스
+    // 핸드셰이크에서 인증된 사용자 (DB id / 닉네임)
+    private record ChatIdentity(Long userId, String username, String nickname) {
+    }
+
     private static class UserSession {
         private final Long userId;
         private final String username; // 추가
@@ -0,0 +1,20 @@
+package com.korea.festival.repository;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import com.korea.festival.entity.BannedWord;
+
+@Repository
+public interface BannedWordRepository extends JpaRepository<BannedWord, Long> {
+
+    boolean existsByWord(String word);
+
+    List<BannedWord> findAllByOrderByCreatedAtDesc();
+
+    @Query("SELECT b.word FROM BannedWord b")
+    List<String> findAllWords();
+}
@@ -1,11 +1,30 @@
 package com.korea.festival.repository;
 
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.korea.festival.dto.BoardSummaryDTO;
 import com.korea.festival.entity.Board;
 
 @Repository
 public interface BoardRepository extends JpaRepository<Board, Long>{
 
+	// 목록용: 작성자 닉네임/댓글 수까지 한 번에 (댓글/본문은 로딩하지 않음)
+	@Query(value = "SELECT new com.korea.festival.dto.BoardSummaryDTO(b.id, b.title, b.category, b.likes, b.view, " +
+			"u.nickname, (SELECT COUNT(c) FROM BoardComment c WHERE c.board = b), b.createdAt, b.updatedAt) " +
+			"FROM Board b JOIN b.user u",
+			countQuery = "SELECT COUNT(b) FROM Board b")
+	Page<BoardSummaryDTO> findSummaries(Pageable pageable);
+
+	// 한 페이지 게시글들의 태그를 한 번에 → [boardId, tag]
+	@Query("SELECT b.id, t FROM Board b JOIN b.tags t WHERE b.id IN :boardIds")
+	List<Object[]> findTagsByBoardIds(@Param("boardIds") Collection<Long> boardIds);
+
 }
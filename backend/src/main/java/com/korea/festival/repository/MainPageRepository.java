@@ -4,12 +4,12 @@ import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
-import com.korea.festival.dto.FestivalDTO_MainPage;
 import com.korea.festival.entity.Festival_MainPage;
 
 // 메인페이지용 레포지토리
@@ -17,42 +17,28 @@ import com.korea.festival.entity.Festival_MainPage;
 public interface MainPageRepository extends JpaRepository<Festival_MainPage, Long> {
 	
 
-	// 앞으로 열릴 축제 최신순
-	@Query("SELECT f FROM Festival_MainPage f WHERE f.startDate >= :today ORDER BY f.startDate ASC")
-	List<Festival_MainPage> findUpcomingFestivals(@Param("today") LocalDate today);
+	// 진행 중이거나 앞으로 열릴 축제 시작일순 (이미 끝난 축제, API 에서 사라진 축제 제외)
+	@Query("SELECT f FROM Festival_MainPage f WHERE f.active = true AND f.endDate >= :today ORDER BY f.startDate ASC, f.id ASC")
+	List<Festival_MainPage> findUpcomingFestivals(@Param("today") LocalDate today, Pageable pageable);
 
 
-    // 인기순 정렬 (조회수 기준)
-    List<Festival_MainPage> findAllByOrderByViewsDesc();
+    // 인기순 정렬 (조회수 기준) 상위 N개
+    List<Festival_MainPage> findByActiveTrueOrderByViewsDesc(Pageable pageable);
 
    
-    // 좋아요 기준 상위 10개 가져오기
-    List<Festival_MainPage> findTop10ByOrderByLikesCountDesc();
+    // 좋아요 기준 상위 N개
+    List<Festival_MainPage> findByActiveTrueOrderByLikesCountDesc(Pageable pageable);
     
     // 축제 중복 체크
     Optional<Festival_MainPage> findByContentId(String contentId);
+
+    // id 만 필요한 경우 (좋아요 토글)
+    @Query("SELECT f.id FROM Festival_MainPage f WHERE f.contentId = :contentId")
+    Optional<Long> findIdByContentId(@Param("contentId") String contentId);
     
     // contentId 존재 여부 체크 (중복 방지용)
     boolean existsByContentId(String contentId);
-    
-    
-    // 전체 축제 조회
-    @Query("SELECT new com.korea.festival.dto.FestivalDTO_MainPage(" +
-           "f.id, f.contentId, f.name, f.startDate, f.endDate, f.location, " +
-           "f.firstimage, f.description, f.bookingUrl, f.views, f.likesCount, " +
-           "f.clicks, f.createdAt, null, null) " +
-           "FROM Festival_MainPage f")
-    List<FestivalDTO_MainPage> findAllFestivals();
-
-    // 이름이나 지역으로 검색
-    @Query("SELECT new com.korea.festival.dto.FestivalDTO_MainPage(" +
-           "f.id, f.contentId, f.name, f.startDate, f.endDate, f.location, " +
-           "f.firstimage, f.description, f.bookingUrl, f.views, f.likesCount, " +
-           "f.clicks, f.createdAt, null, null) " +
-           "FROM Festival_MainPage f " +
-           "WHERE LOWER(f.name) LIKE LOWER(CONCAT('%', :query, '%')) " +
-           "OR LOWER(f.location) LIKE LOWER(CONCAT('%', :query, '%'))")
-    List<FestivalDTO_MainPage> searchByNameOrLocation(@Param("query") String query);
+
 
 
 
@@ -10,6 +10,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.korea.festival.dto.RegionalChatDto;
 import com.korea.festival.entity.RegionalChat;
 import com.korea.festival.entity.User;
 
@@ -28,6 +29,26 @@ public interface RegionalChatRepository extends JpaRepository<RegionalChat, Long
 
     Page<RegionalChat> findByRegionAndIsHiddenFalseOrderByCreatedAtDesc(String region, Pageable pageable);
 
+    // 최근 메시지 캐시 초기화용 - 작성자 닉네임만 조인해서 DTO로 바로 조회 (User 엔티티/권한 로딩 없음)
+    @Query("SELECT new com.korea.festival.dto.RegionalChatDto(r.id, r.region, r.message, u.nickname, r.createdAt, r.seq) " +
+           "FROM RegionalChat r JOIN r.user u " +
+           "WHERE r.region = :region AND r.isHidden = false " +
+           "ORDER BY r.createdAt DESC, r.id DESC")
+    List<RegionalChatDto> findRecentByRegion(@Param("region") String region, Pageable pageable);
+
+    // 재접속 이어받기용 - (region, seq) 인덱스 범위 조회, 오래된 순
+    @Query("SELECT new com.korea.festival.dto.RegionalChatDto(r.id, r.region, r.message, u.nickname, r.createdAt, r.seq) " +
+           "FROM RegionalChat r JOIN r.user u " +
+           "WHERE r.region = :region AND r.seq > :seq AND r.isHidden = false " +
+           "ORDER BY r.seq ASC")
+    List<RegionalChatDto> findByRegionAfterSeq(@Param("region") String region, @Param("seq") Long seq, Pageable pageable);
+
+    @Query("SELECT MAX(r.seq) FROM RegionalChat r WHERE r.region = :region")
+    Long findMaxSeqByRegion(@Param("region") String region);
+
+    @Query("SELECT DISTINCT r.region FROM RegionalChat r")
+    List<String> findDistinctRegions();
+
     Page<RegionalChat> findByUserOrderByCreatedAtDesc(User user, Pageable pageable);
 
     @Query("SELECT r FROM RegionalChat r WHERE " +
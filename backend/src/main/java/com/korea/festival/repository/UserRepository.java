@@ -13,6 +13,10 @@ import com.korea.festival.entity.User;
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByUsername(String username);
+
+    // id 만 필요한 경우 (엔티티 로딩 없이)
+    @Query("SELECT u.id FROM User u WHERE u.username = :username")
+    Optional<Long> findIdByUsername(@Param("username") String username);
     Optional<User> findByEmail(String email);
     Optional<User> findByNickname(String nickname);
     
@@ -2,7 +2,10 @@ package com.korea.festival.service;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.springframework.data.domain.Page;
@@ -15,12 +18,11 @@ import com.korea.festival.dto.BoardCommentRequestDTO;
 import com.korea.festival.dto.BoardCommentResponseDTO;
 import com.korea.festival.dto.BoardRequestDTO;
 import com.korea.festival.dto.BoardResponseDTO;
+import com.korea.festival.dto.BoardSummaryDTO;
 import com.korea.festival.entity.Board;
 import com.korea.festival.entity.BoardComment;
-import com.korea.festival.entity.BoardLikes;
 import com.korea.festival.entity.User;
 import com.korea.festival.repository.BoardCommentRepository;
-import com.korea.festival.repository.BoardLikesRepository;
 import com.korea.festival.repository.BoardRepository;
 import com.korea.festival.repository.UserRepository;
 
@@ -31,10 +33,13 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class BoardService {
 	
+	private static final int MAX_COMMENT_PAGE_SIZE = 100;
+	
 	private final BoardCommentRepository commentRepository;
 	private final BoardRepository boardRepository;
-	private final BoardLikesRepository boardLikesRepository;
 	private final UserRepository userRepository;
+	private final LikeEngine likeEngine;
+	private final CommentTreeLoader commentTreeLoader;
 	
 	//c
 	public BoardResponseDTO boardWrtie(BoardRequestDTO dto,Long userId) {
@@ -59,13 +64,29 @@ public class BoardService {
 	}
 	
 	//r-all
-	public Page<BoardResponseDTO> boardFindAll(int page, int size, Long userId){
+	// 목록은 요약 projection 으로: 페이지 + count + 태그 + 좋아요 여부, 페이지 크기와 관계없이 쿼리 4번
+	// (댓글 트리는 boardFindOne 에서만 로딩)
+	public Page<BoardSummaryDTO> boardFindAll(int page, int size, Long userId){
 		
 		Pageable pageable = PageRequest.of(page, size,Sort.by("createdAt").descending());
 		
-		Page<Board> boards = boardRepository.findAll(pageable);
+		Page<BoardSummaryDTO> boards = boardRepository.findSummaries(pageable);
+		List<Long> boardIds = boards.map(BoardSummaryDTO::getId).getContent();
+		if (boardIds.isEmpty()) {
+			return boards;
+		}
+		
+		Map<Long, List<String>> tags = new HashMap<>();
+		for (Object[] row : boardRepository.findTagsByBoardIds(boardIds)) {
+			tags.computeIfAbsent((Long) row[0], id -> new ArrayList<>()).add((String) row[1]);
+		}
+		Set<Long> liked = likeEngine.likedKeys(LikeEngine.Target.BOARD, userId, boardIds, Long.class);
 		
-		return boards.map(board->toDTO(board,userId));
+		boards.forEach(board -> {
+			board.setTags(tags.getOrDefault(board.getId(), List.of()));
+			board.setLikedByCurrentUser(liked.contains(board.getId()));
+		});
+		return boards;
 	}
 	
 	
@@ -123,38 +144,22 @@ public class BoardService {
 	//like
 	@Transactional
 	public BoardResponseDTO likeToggle(Long boardId,Long userId) {
+		// 좋아요 행 추가/삭제 + 카운터 증감을 원자적으로 (동시 클릭에도 likes 가 정확함)
+		likeEngine.toggle(LikeEngine.Target.BOARD, boardId, userId);
 		Board board = boardRepository.findById(boardId)
 				.orElseThrow(()->new RuntimeException("게시글 없음"));
-		User user = userRepository.findById(userId)
-				.orElseThrow(()->new RuntimeException("사용자 없음"));
-		
-		boardLikesRepository.findByBoardIdAndUserId(boardId, userId).ifPresentOrElse(
-					exit ->{
-						boardLikesRepository.delete(exit);
-						board.setLikes(board.getLikes()-1);
-					},
-					()->{
-						BoardLikes newLike = new BoardLikes();
-						newLike.setBoard(board);
-						newLike.setUser(user);
-						boardLikesRepository.save(newLike);
-						board.setLikes(board.getLikes()+1);
-					}
-				);
 		return toDTO(board, userId);
 	}
 	
 	//toDTO
 	private BoardResponseDTO toDTO(Board board, Long currentUserId) {
-	    boolean liked = false;
-	    if (currentUserId != null) {
-	        liked = boardLikesRepository.existsByBoardIdAndUserId(board.getId(), currentUserId);
-	    }
+	    boolean liked = likeEngine.isLiked(LikeEngine.Target.BOARD, currentUserId, board.getId());
 
-	    // 댓글 변환
-	    List<BoardCommentResponseDTO> commentDTOs = board.getComments().stream()
-	            .map(this::toDTO) // 재귀적 변환
-	            .collect(Collectors.toList());
+	    // 댓글 트리 (쿼리 한 번으로 조립, 최상위 댓글 + replies)
+	    List<BoardCommentResponseDTO> commentDTOs = board.getId() == null ? new ArrayList<>()
+	            : commentTreeLoader.load(CommentTreeLoader.Target.BOARD, board.getId()).stream()
+	                    .map(this::toDTO)
+	                    .collect(Collectors.toList());
 
 	    return BoardResponseDTO.builder()
 	            .id(board.getId())
@@ -222,8 +227,28 @@ public class BoardService {
 
     // 게시글 댓글 전체 조회 (최상위 + 대댓글)
     public List<BoardCommentResponseDTO> commentFindAll(Long boardId) {
-        List<BoardComment> comments = commentRepository.findByBoardIdAndParentIsNull(boardId);
-        return comments.stream().map(this::toDTO).collect(Collectors.toList());
+        return commentTreeLoader.load(CommentTreeLoader.Target.BOARD, boardId).stream()
+                .map(this::toDTO)
+                .collect(Collectors.toList());
+    }
+
+    // 게시글 댓글 페이지 조회 (최상위 댓글 기준, 대댓글 포함)
+    public Page<BoardCommentResponseDTO> commentFindPage(Long boardId, int page, int size) {
+        Pageable pageable = PageRequest.of(page, Math.max(1, Math.min(size, MAX_COMMENT_PAGE_SIZE)));
+        return commentTreeLoader.loadThreads(CommentTreeLoader.Target.BOARD, boardId, pageable)
+                .map(this::toDTO);
+    }
+
+    // 댓글 트리 노드 → DTO (재귀, 추가 쿼리 없음)
+    private BoardCommentResponseDTO toDTO(CommentTreeLoader.Node node) {
+        return BoardCommentResponseDTO.builder()
+                .id(node.row().id())
+                .userId(node.row().userId())
+                .userNickname(node.row().userNickname())
+                .content(node.row().content())
+                .createdAt(node.row().createdAt())
+                .replies(node.replies().stream().map(this::toDTO).collect(Collectors.toList()))
+                .build();
     }
 
     // DTO 변환 (재귀)
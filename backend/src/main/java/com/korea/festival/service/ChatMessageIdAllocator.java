@@ -0,0 +1,84 @@
+package com.korea.festival.service;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 채팅 메시지 ID 로컬 발급기
+ * - DB에 저장되기 전에 브로드캐스트해야 하므로 IDENTITY 대신 애플리케이션에서 ID를 발급한다
+ * - 최초 사용 시 regional_chats 의 MAX(id) 와 저장 재시도 파일에 남은 최대 ID 중 큰 값에서 이어서 발급
+ *   (재시도 대기 중인 ID 를 다시 발급하면 재시도 시 INSERT IGNORE 로 원래 메시지가 버려짐)
+ * - 클러스터 모드에서는 노드끼리 겹치지 않도록 Redis INCRBY 로 id-block-size 만큼씩 구간을 예약
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatMessageIdAllocator {
+
+    private static final String ID_KEY = "chat:message:id";
+
+    private static final RedisScript<Long> RAISE_TO_SCRIPT = RedisScript.of(
+            "local current = tonumber(redis.call('GET', KEYS[1]) or '0') " +
+            "if current < tonumber(ARGV[1]) then redis.call('SET', KEYS[1], ARGV[1]) return tonumber(ARGV[1]) end " +
+            "return current", Long.class);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final StringRedisTemplate redisTemplate;
+    private final RegionalChatWriteBehindService writeBehindService;
+
+    @Value("${chat.cluster.enabled:false}")
+    private boolean clusterEnabled;
+
+    @Value("${chat.cluster.id-block-size:1000}")
+    private long blockSize;
+
+    private long next;  // 다음에 발급할 ID
+    private long limit; // 현재 구간의 마지막 ID
+    private boolean initialized = false;
+
+    public synchronized long nextId() {
+        if (!initialized) {
+            initialize();
+        }
+        if (next > limit) {
+            reserveBlock();
+        }
+        return next++;
+    }
+
+    // 테이블이 ddl-auto 로 생성된 뒤에 조회해야 하므로 지연 초기화
+    private void initialize() {
+        Long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM regional_chats", Long.class);
+        long journaledId = writeBehindService.maxJournaledId();
+        long start = Math.max(maxId != null ? maxId : 0L, journaledId);
+        if (clusterEnabled) {
+            // 카운터가 없거나 start 보다 작으면 start 로 (비교와 설정을 한 번에 - 다른 노드의 구간 예약과 섞이지 않음)
+            redisTemplate.execute(RAISE_TO_SCRIPT, List.of(ID_KEY), String.valueOf(start));
+            next = 1;
+            limit = 0;
+        } else {
+            next = start + 1;
+            limit = Long.MAX_VALUE;
+        }
+        initialized = true;
+        log.info("채팅 메시지 ID 발급기 초기화: DB 최대값={}, 재시도 파일 최대값={}, 클러스터={}",
+                maxId, journaledId, clusterEnabled);
+    }
+
+    private void reserveBlock() {
+        Long end = redisTemplate.opsForValue().increment(ID_KEY, blockSize);
+        if (end == null) {
+            throw new IllegalStateException("채팅 메시지 ID 구간 예약 실패");
+        }
+        next = end - blockSize + 1;
+        limit = end;
+    }
+}
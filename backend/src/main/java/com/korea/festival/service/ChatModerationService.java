@@ -0,0 +1,124 @@
+package com.korea.festival.service;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.korea.festival.entity.BannedWord;
+import com.korea.festival.repository.BannedWordRepository;
+import com.korea.festival.utils.AhoCorasickMatcher;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 채팅 금칙어 검사
+ * - chat.moderation.banned-words + 관리자 등록 금칙어(chat_banned_words)를 Aho-Corasick 오토마톤으로 컴파일
+ * - 목록이 바뀌면 새 오토마톤을 만들어 통째로 교체 (검사 중인 스레드는 이전 오토마톤을 그대로 사용)
+ * - 다른 노드에서 등록한 금칙어도 reload-interval 마다 다시 읽어서 반영
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ChatModerationService {
+
+    private static final String BANNED_WORDS_PROPERTY = "chat.moderation.banned-words";
+
+    private final BannedWordRepository bannedWordRepository;
+    private final Environment environment;
+
+    private final AtomicReference<AhoCorasickMatcher> matcher =
+            new AtomicReference<>(AhoCorasickMatcher.compile(List.of()));
+    private Set<String> activeWords = Set.of();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void init() {
+        reload();
+    }
+
+    @Scheduled(fixedDelayString = "${chat.moderation.reload-interval:60000}",
+               initialDelayString = "${chat.moderation.reload-interval:60000}")
+    public void refresh() {
+        reload();
+    }
+
+    public boolean containsBannedWord(String content) {
+        return matcher.get().containsAny(content);
+    }
+
+    /**
+     * 금칙어 목록을 다시 읽어서 오토마톤 교체. 목록이 그대로면 다시 컴파일하지 않음
+     */
+    public synchronized int reload() {
+        Set<String> words = new LinkedHashSet<>(getConfiguredWords());
+        try {
+            words.addAll(bannedWordRepository.findAllWords());
+        } catch (Exception e) {
+            log.error("관리자 금칙어 조회 실패 - 기존 목록 유지", e);
+            return activeWords.size();
+        }
+        if (!words.equals(activeWords)) {
+            long start = System.nanoTime();
+            AhoCorasickMatcher compiled = AhoCorasickMatcher.compile(words);
+            matcher.set(compiled);
+            activeWords = words;
+            log.info("채팅 금칙어 적용: {}개 ({}ms)", compiled.getPatternCount(), (System.nanoTime() - start) / 1_000_000);
+        }
+        return activeWords.size();
+    }
+
+    public List<String> getConfiguredWords() {
+        return Binder.get(environment)
+                .bind(BANNED_WORDS_PROPERTY, Bindable.listOf(String.class))
+                .orElse(List.of());
+    }
+
+    // ===== 관리자 금칙어 관리 =====
+
+    @Transactional(readOnly = true)
+    public List<BannedWord> getAdminWords() {
+        return bannedWordRepository.findAllByOrderByCreatedAtDesc();
+    }
+
+    @Transactional
+    public BannedWord addWord(String word, String adminUsername) {
+        String trimmed = word != null ? word.trim() : "";
+        if (trimmed.isEmpty() || trimmed.length() > 100) {
+            throw new RuntimeException("금칙어는 1자 이상 100자 이하로 입력해주세요");
+        }
+        if (AhoCorasickMatcher.normalize(trimmed).isEmpty()) {
+            throw new RuntimeException("글자나 숫자가 포함된 금칙어만 등록할 수 있습니다");
+        }
+        if (bannedWordRepository.existsByWord(trimmed)) {
+            throw new RuntimeException("이미 등록된 금칙어입니다");
+        }
+
+        BannedWord saved = bannedWordRepository.save(BannedWord.builder()
+                .word(trimmed)
+                .createdBy(adminUsername)
+                .build());
+        reload();
+        log.info("금칙어 등록: {} (관리자: {})", trimmed, adminUsername);
+        return saved;
+    }
+
+    @Transactional
+    public void deleteWord(Long wordId, String adminUsername) {
+        BannedWord word = bannedWordRepository.findById(wordId)
+                .orElseThrow(() -> new RuntimeException("금칙어를 찾을 수 없습니다"));
+        bannedWordRepository.delete(word);
+        bannedWordRepository.flush();
+        reload();
+        log.info("금칙어 삭제: {} (관리자: {})", word.getWord(), adminUsername);
+    }
+}
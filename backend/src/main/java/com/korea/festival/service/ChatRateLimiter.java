@@ -0,0 +1,140 @@
+package com.korea.festival.service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.korea.festival.exception.ChatRejectedException;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 채팅 전송 속도 제한 (메모리, 사용자 ID 기준)
+ * - chat.message.rate-limit.messages-per-minute 크기의 토큰 버킷 (CAS 로 갱신, 락 없음)
+ * - cooldown-seconds 안에 연속 전송 금지
+ * - duplicate-check-minutes 안에 같은 지역으로 같은 내용 재전송 금지 (최근 메시지 해시 창)
+ * - 오래 사용하지 않은 버킷은 주기적으로 제거해서 메모리 사용량 유지
+ */
+@Slf4j
+@Component
+public class ChatRateLimiter {
+
+    // 사용자별로 기억하는 최근 메시지 해시 개수 (2의 거듭제곱)
+    private static final int RECENT_WINDOW = 8;
+
+    @Value("${chat.message.rate-limit.messages-per-minute:20}")
+    private int messagesPerMinute;
+
+    @Value("${chat.message.rate-limit.cooldown-seconds:2}")
+    private int cooldownSeconds;
+
+    @Value("${chat.message.rate-limit.duplicate-check-minutes:1}")
+    private int duplicateCheckMinutes;
+
+    private final Map<Long, Bucket> buckets = new ConcurrentHashMap<>();
+    // 시간 (테스트에서 바꿔 끼움)
+    private LongSupplier nanoClock = System::nanoTime;
+    private long startNanos;
+
+    private double refillPerNano;
+    private long cooldownNanos;
+    private long duplicateWindowSeconds;
+    private long idleNanos;
+
+    @PostConstruct
+    public void init() {
+        startNanos = nanoClock.getAsLong();
+        refillPerNano = messagesPerMinute / (double) TimeUnit.MINUTES.toNanos(1);
+        cooldownNanos = TimeUnit.SECONDS.toNanos(cooldownSeconds);
+        duplicateWindowSeconds = TimeUnit.MINUTES.toSeconds(duplicateCheckMinutes);
+        // 버킷이 가득 차고 중복 창도 지난 뒤에는 제거해도 결과가 같다
+        idleNanos = Math.max(TimeUnit.MINUTES.toNanos(1), TimeUnit.SECONDS.toNanos(duplicateWindowSeconds));
+    }
+
+    /**
+     * 전송 가능 여부 확인. 제한에 걸리면 ChatRejectedException
+     */
+    public void check(Long userId, String region, String message) {
+        long now = nanoClock.getAsLong();
+        Bucket bucket = buckets.computeIfAbsent(userId, id -> new Bucket(now));
+        bucket.lastAccessNanos = now;
+
+        int hash = (region + '\n' + message).hashCode();
+        long nowSeconds = TimeUnit.NANOSECONDS.toSeconds(now - startNanos) + 1;
+        if (bucket.isDuplicate(hash, nowSeconds)) {
+            throw new ChatRejectedException("동일한 메시지를 너무 자주 보낼 수 없습니다");
+        }
+
+        while (true) {
+            State current = bucket.state.get();
+            if (now - current.lastSendNanos() < cooldownNanos) {
+                throw new ChatRejectedException(cooldownSeconds + "초 후에 다시 보낼 수 있습니다");
+            }
+            double tokens = Math.min(messagesPerMinute,
+                    current.tokens() + (now - current.lastRefillNanos()) * refillPerNano);
+            if (tokens < 1) {
+                throw new ChatRejectedException("1분에 최대 " + messagesPerMinute + "개의 메시지만 보낼 수 있습니다");
+            }
+            if (bucket.state.compareAndSet(current, new State(tokens - 1, now, now))) {
+                break;
+            }
+        }
+        bucket.record(hash, nowSeconds);
+    }
+
+    public int getTrackedUserCount() {
+        return buckets.size();
+    }
+
+    @Scheduled(fixedDelayString = "${chat.message.rate-limit.eviction-interval:60000}")
+    public void evictIdleBuckets() {
+        long now = nanoClock.getAsLong();
+        int before = buckets.size();
+        buckets.values().removeIf(bucket -> now - bucket.lastAccessNanos > idleNanos);
+        int evicted = before - buckets.size();
+        if (evicted > 0) {
+            log.debug("유휴 전송 제한 버킷 제거: {}개 (남은 사용자 {}명)", evicted, buckets.size());
+        }
+    }
+
+    private record State(double tokens, long lastRefillNanos, long lastSendNanos) {
+    }
+
+    private class Bucket {
+        private final AtomicReference<State> state;
+        // 상위 32비트: 메시지 해시, 하위 32비트: 전송 시각(초)
+        private final AtomicLongArray recent = new AtomicLongArray(RECENT_WINDOW);
+        private final AtomicInteger cursor = new AtomicInteger();
+        private volatile long lastAccessNanos;
+
+        Bucket(long now) {
+            this.state = new AtomicReference<>(new State(messagesPerMinute, now, now - cooldownNanos));
+            this.lastAccessNanos = now;
+        }
+
+        boolean isDuplicate(int hash, long nowSeconds) {
+            for (int i = 0; i < RECENT_WINDOW; i++) {
+                long entry = recent.get(i);
+                if (entry != 0 && (int) (entry >>> 32) == hash
+                        && nowSeconds - (entry & 0xFFFFFFFFL) < duplicateWindowSeconds) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        void record(int hash, long nowSeconds) {
+            int index = cursor.getAndIncrement() & (RECENT_WINDOW - 1);
+            recent.set(index, ((long) hash << 32) | (nowSeconds & 0xFFFFFFFFL));
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.korea.festival.service;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import com.korea.festival.repository.RegionalChatRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 지역별 메시지 순번 발급기
+ * - 같은 지역 안에서 단조 증가하는 seq 를 메시지에 붙여서 클라이언트가 순서/누락을 판단할 수 있게 한다
+ * - 지역별로 처음 사용할 때 regional_chats 의 MAX(seq) 와 저장 재시도 파일에 남은 최대 seq 중 큰 값에서 이어서 발급
+ *   (재시도 대기 중인 seq 를 다시 발급하면 같은 seq 가 두 개가 되어 이어받기에서 하나가 빠짐)
+ * - 클러스터 모드에서는 모든 노드가 같은 순번을 쓰도록 Redis INCR (chat:seq:{region})
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatSequenceAllocator {
+
+    private static final String SEQ_KEY_PREFIX = "chat:seq:";
+
+    private final RegionalChatRepository regionalChatRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final RegionalChatWriteBehindService writeBehindService;
+
+    @Value("${chat.cluster.enabled:false}")
+    private boolean clusterEnabled;
+
+    private final Map<String, AtomicLong> sequences = new ConcurrentHashMap<>();
+    private final Set<String> seededRegions = ConcurrentHashMap.newKeySet();
+
+    public long next(String region) {
+        if (!clusterEnabled) {
+            return sequences.computeIfAbsent(region, r -> new AtomicLong(storedMax(r))).incrementAndGet();
+        }
+        String key = seedRedis(region);
+        Long seq = redisTemplate.opsForValue().increment(key);
+        if (seq == null) {
+            throw new IllegalStateException("채팅 메시지 순번 발급 실패: " + region);
+        }
+        return seq;
+    }
+
+    // 마지막으로 발급된 순번
+    public long current(String region) {
+        if (!clusterEnabled) {
+            return sequences.computeIfAbsent(region, r -> new AtomicLong(storedMax(r))).get();
+        }
+        String value = redisTemplate.opsForValue().get(seedRedis(region));
+        return value != null ? Long.parseLong(value) : 0L;
+    }
+
+    private String seedRedis(String region) {
+        String key = SEQ_KEY_PREFIX + region;
+        if (seededRegions.add(region)) {
+            // 최초 노드만 시작값을 기록 (이미 있으면 무시)
+            redisTemplate.opsForValue().setIfAbsent(key, String.valueOf(storedMax(region)));
+        }
+        return key;
+    }
+
+    private long storedMax(String region) {
+        // 재시도 파일은 DB 에 저장된 뒤에 지워지므로 파일을 먼저 읽어야 재시도 중인 순번을 놓치지 않음
+        long journaled = writeBehindService.maxJournaledSeq(region);
+        Long max = regionalChatRepository.findMaxSeqByRegion(region);
+        log.debug("지역 메시지 순번 초기화: region={}, DB 최대값={}, 재시도 파일 최대값={}", region, max, journaled);
+        return Math.max(max != null ? max : 0L, journaled);
+    }
+}
@@ -0,0 +1,145 @@
+package com.korea.festival.service;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 게시글/리뷰 댓글 트리 로더
+ * - 대상의 댓글 전체를 작성자 닉네임과 함께 평평한 쿼리 한 번으로 읽고 ((parent_id, created_at) 순)
+ *   메모리에서 id → 노드 맵으로 한 번에 트리 조립 (O(n), 엔티티/지연 로딩 없음)
+ * - 댓글이 많은 글은 loadThreads 로 최상위 댓글 단위 페이지:
+ *   (id, parent_id) 골격만 읽어 해당 페이지 스레드에 속한 id 를 고른 뒤 그 행만 조회 → 페이지 크기와 관계없이 쿼리 2번
+ */
+@Component
+public class CommentTreeLoader {
+
+    private static final int IN_BATCH = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+
+    public CommentTreeLoader(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+    }
+
+    public enum Target {
+        BOARD("board_comment", "board_id"),
+        REVIEW("review_comment", "review_id");
+
+        private final String rowsSql;
+        private final String skeletonSql;
+        private final String rowsByIdSql;
+
+        Target(String table, String ownerColumn) {
+            String columns = "SELECT c.id, c.parent_id, c.user_id, u.nickname, c.content, c.created_at FROM " + table +
+                    " c LEFT JOIN users u ON u.id = c.user_id ";
+            String order = " ORDER BY c.parent_id, c.created_at, c.id";
+            this.rowsSql = columns + "WHERE c." + ownerColumn + " = ?" + order;
+            this.skeletonSql = "SELECT c.id, c.parent_id FROM " + table + " c WHERE c." + ownerColumn + " = ?" + order;
+            this.rowsByIdSql = columns + "WHERE c.id IN (:ids)" + order;
+        }
+    }
+
+    // 대상의 댓글 전체 → 최상위 댓글 목록 (작성 순, 대댓글은 replies 에 작성 순)
+    public List<Node> load(Target target, Long ownerId) {
+        return assemble(jdbcTemplate.query(target.rowsSql, CommentTreeLoader::row, ownerId));
+    }
+
+    // 최상위 댓글 기준 페이지 (각 스레드는 대댓글까지 전부 포함)
+    public Page<Node> loadThreads(Target target, Long ownerId, Pageable pageable) {
+        List<Long> roots = new ArrayList<>();
+        Map<Long, List<Long>> children = new HashMap<>();
+        jdbcTemplate.query(target.skeletonSql, rs -> {
+            long id = rs.getLong(1);
+            long parentId = rs.getLong(2);
+            if (rs.wasNull()) {
+                roots.add(id);
+            } else {
+                children.computeIfAbsent(parentId, k -> new ArrayList<>()).add(id);
+            }
+        }, ownerId);
+
+        int from = (int) Math.min(pageable.getOffset(), roots.size());
+        int to = Math.min(from + pageable.getPageSize(), roots.size());
+        if (from == to) {
+            return new PageImpl<>(List.of(), pageable, roots.size());
+        }
+
+        // 페이지 스레드에 속한 id (깊이와 관계없이 골격을 따라 내려감)
+        List<Long> ids = new ArrayList<>(roots.subList(from, to));
+        for (int i = 0; i < ids.size(); i++) {
+            List<Long> replies = children.get(ids.get(i));
+            if (replies != null) {
+                ids.addAll(replies);
+            }
+        }
+
+        List<Row> rows = new ArrayList<>(ids.size());
+        for (int i = 0; i < ids.size(); i += IN_BATCH) {
+            Collection<Long> batch = ids.subList(i, Math.min(i + IN_BATCH, ids.size()));
+            rows.addAll(namedJdbcTemplate.query(target.rowsByIdSql, new MapSqlParameterSource("ids", batch),
+                    CommentTreeLoader::row));
+        }
+        List<Node> threads = assemble(rows);
+        // 배치가 나뉘면 행 순서가 섞일 수 있으므로 스레드 순서는 골격 기준으로 맞춤
+        Map<Long, Integer> position = new HashMap<>();
+        for (int i = from; i < to; i++) {
+            position.put(roots.get(i), i);
+        }
+        threads.sort((a, b) -> Integer.compare(position.get(a.row().id()), position.get(b.row().id())));
+        return new PageImpl<>(threads, pageable, roots.size());
+    }
+
+    // rows 는 (parent_id, created_at) 순 → 같은 부모의 대댓글은 작성 순으로 붙음
+    // 부모가 목록에 없는 댓글은 최상위로 취급
+    static List<Node> assemble(List<Row> rows) {
+        Map<Long, Node> nodes = new HashMap<>(rows.size() * 2);
+        for (Row row : rows) {
+            nodes.put(row.id(), new Node(row, new ArrayList<>()));
+        }
+        List<Node> roots = new ArrayList<>();
+        for (Row row : rows) {
+            Node node = nodes.get(row.id());
+            Node parent = row.parentId() != null ? nodes.get(row.parentId()) : null;
+            if (parent != null && parent != node) {
+                parent.replies().add(node);
+            } else {
+                roots.add(node);
+            }
+        }
+        return roots;
+    }
+
+    private static Row row(ResultSet rs, int rowNum) throws SQLException {
+        Timestamp createdAt = rs.getTimestamp("created_at");
+        return new Row(
+                rs.getLong("id"),
+                rs.getObject("parent_id", Long.class),
+                rs.getObject("user_id", Long.class),
+                rs.getString("nickname"),
+                rs.getString("content"),
+                createdAt != null ? createdAt.toLocalDateTime() : null);
+    }
+
+    public record Row(Long id, Long parentId, Long userId, String userNickname, String content, LocalDateTime createdAt) {
+    }
+
+    public record Node(Row row, List<Node> replies) {
+    }
+}
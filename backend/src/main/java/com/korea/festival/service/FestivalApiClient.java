@@ -0,0 +1,335 @@
+package com.korea.festival.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.net.URI;
+import java.time.Duration;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.reactivestreams.Subscription;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.netty.channel.ChannelOption;
+import io.netty.handler.timeout.TimeoutException;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.BaseSubscriber;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+import reactor.util.retry.Retry;
+
+/**
+ * 공공데이터(KorService2 searchFestival2) 호출 전용 HTTP 클라이언트
+ * - Reactor Netty 연결 풀 (keep-alive 재사용, 최대 max-connections 개, 나머지 요청은 풀에서 대기) + gzip
+ * - connect-timeout / response-timeout 초과, 연결 오류, 5xx/429 는 지수 backoff + jitter 로 max-retries 번까지 재시도
+ *   (4xx 는 다시 보내도 같으므로 바로 실패)
+ * - 호출마다 festival.api.request 타이머 (outcome 태그), 재시도는 festival.api.retries 카운터
+ * - 본문은 모아 두지 않고 받는 대로 파서에 넘김 (파서가 느리면 더 요청하지 않아 Netty 읽기가 멈춤)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FestivalApiClient {
+
+    // 파서가 아직 읽지 않은 채로 받아 둘 수 있는 본문 버퍼 수
+    private static final int BODY_PREFETCH = 16;
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${festival.api.url:https://apis.data.go.kr/B551011/KorService2/searchFestival2}")
+    private String apiUrl;
+
+    @Value("${festival.api.service-key:}")
+    private String serviceKey;
+
+    @Value("${festival.api.max-connections:8}")
+    private int maxConnections;
+
+    @Value("${festival.api.connect-timeout:3000}")
+    private int connectTimeoutMillis;
+
+    @Value("${festival.api.response-timeout:10000}")
+    private long responseTimeoutMillis;
+
+    @Value("${festival.api.max-retries:3}")
+    private int maxRetries;
+
+    @Value("${festival.api.retry-backoff:500}")
+    private long retryBackoffMillis;
+
+    private ConnectionProvider connectionProvider;
+    private WebClient webClient;
+    private Counter retryCounter;
+
+    @PostConstruct
+    public void init() {
+        connectionProvider = ConnectionProvider.builder("festival-api")
+                .maxConnections(maxConnections)
+                // 대기 요청 수는 제한하지 않고 대기 시간으로만 제한 (기본값은 연결 수의 2배라 초과분이 바로 실패함)
+                .pendingAcquireMaxCount(-1)
+                .pendingAcquireTimeout(Duration.ofMillis(responseTimeoutMillis * 3))
+                .maxIdleTime(Duration.ofSeconds(30))
+                .build();
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                .compress(true)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectTimeoutMillis)
+                .responseTimeout(Duration.ofMillis(responseTimeoutMillis));
+        webClient = WebClient.builder()
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .build();
+        retryCounter = meterRegistry.counter("festival.api.retries");
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (connectionProvider != null) {
+            connectionProvider.dispose();
+        }
+    }
+
+    // 응답 본문을 읽는 함수 (본문 전체를 문자열로 만들지 않고 InputStream 으로 바로 파싱하도록)
+    @FunctionalInterface
+    public interface BodyReader<T> {
+        T read(InputStream body) throws IOException;
+    }
+
+    // 축제 목록 한 페이지
+    public <T> Mono<T> fetchPage(int pageNo, int numOfRows, String startDate, String endDate, BodyReader<T> reader) {
+        // serviceKey 는 이미 인코딩된 값이라 다시 인코딩하지 않음
+        URI uri = URI.create(UriComponentsBuilder.fromHttpUrl(apiUrl)
+                .queryParam("serviceKey", serviceKey)
+                .queryParam("numOfRows", numOfRows)
+                .queryParam("pageNo", pageNo)
+                .queryParam("MobileOS", "ETC")
+                .queryParam("MobileApp", "AppTest")
+                .queryParam("_type", "json")
+                .queryParam("eventStartDate", startDate)
+                .queryParam("eventEndDate", endDate)
+                .queryParam("arrange", "A")
+                .toUriString());
+        return Mono.defer(() -> {
+                    long start = System.nanoTime();
+                    Flux<DataBuffer> body = webClient.get()
+                            .uri(uri)
+                            .retrieve()
+                            .bodyToFlux(DataBuffer.class);
+                    return Mono.fromCallable(() -> read(body, reader))
+                            .subscribeOn(Schedulers.boundedElastic())
+                            .doOnSuccess(result -> record(start, "success"))
+                            .doOnError(e -> record(start, outcome(e)));
+                })
+                .retryWhen(Retry.backoff(maxRetries, Duration.ofMillis(retryBackoffMillis))
+                        .jitter(0.5)
+                        .filter(FestivalApiClient::isRetryable)
+                        .doBeforeRetry(signal -> {
+                            retryCounter.increment();
+                            log.warn("축제 API 재시도 {}회: pageNo={}, {}", signal.totalRetries() + 1, pageNo,
+                                    signal.failure().getMessage());
+                        })
+                        .onRetryExhaustedThrow((spec, signal) -> signal.failure()));
+    }
+
+    // 파서는 호출한 스레드에서 본문 스트림을 읽음 (받은 버퍼는 Netty 스레드가 큐에 넣기만 함)
+    // 수신 중 오류 (4xx/5xx, 연결 끊김) 는 파서 오류보다 우선 - 재시도 여부를 원래 오류로 판단
+    private static <T> T read(Flux<DataBuffer> body, BodyReader<T> reader) throws Exception {
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        try (InputStream in = new BodyInputStream(body, failure)) {
+            T result;
+            try {
+                result = reader.read(in);
+            } catch (IOException e) {
+                throwFailure(failure.get());
+                // 응답 형식 오류는 다시 요청해도 같으므로 재시도 대상이 아님
+                throw new IllegalStateException("축제 API 응답 해석 실패", e);
+            }
+            throwFailure(failure.get());
+            return result;
+        }
+    }
+
+    private static void throwFailure(Throwable failure) throws Exception {
+        if (failure instanceof Exception e) {
+            throw e;
+        }
+        if (failure != null) {
+            throw new IllegalStateException(failure);
+        }
+    }
+
+    static boolean isRetryable(Throwable e) {
+        if (e instanceof WebClientRequestException || e instanceof IOException || e instanceof TimeoutException) {
+            // 연결 실패, 응답 시간 초과, 본문 수신 중 끊김
+            return true;
+        }
+        if (e instanceof WebClientResponseException response) {
+            return response.getStatusCode().is5xxServerError() || response.getStatusCode().value() == 429;
+        }
+        return false;
+    }
+
+    private void record(long start, String outcome) {
+        Timer.builder("festival.api.request")
+                .tag("outcome", outcome)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry)
+                .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+
+    private static String outcome(Throwable e) {
+        if (e instanceof WebClientResponseException response) {
+            return response.getStatusCode().is5xxServerError() ? "server_error" : "client_error";
+        }
+        return isRetryable(e) ? "io_error" : "error";
+    }
+
+    /**
+     * 응답 본문 Flux 를 InputStream 으로 연결
+     * - Netty 스레드는 받은 버퍼를 큐에 넣기만 하고 막히지 않음 (쓰기 전용 스레드가 없어 스레드 풀 고갈과 무관)
+     * - 처음에 BODY_PREFETCH 개를 요청하고 파서가 버퍼 하나를 다 읽을 때마다 하나씩 더 요청
+     *   (파서가 느리면 요청이 멈추고 Netty 읽기도 멈춤)
+     * - 닫으면 구독을 취소하고 아직 읽지 않은 버퍼를 반환
+     */
+    private static final class BodyInputStream extends InputStream {
+
+        private static final Object END = new Object();
+
+        private final BlockingQueue<Object> queue = new LinkedBlockingQueue<>();
+        private final AtomicReference<Throwable> failure;
+        private final BaseSubscriber<DataBuffer> subscriber;
+        private DataBuffer current;
+        private boolean done;
+        private volatile boolean closed;
+
+        BodyInputStream(Flux<DataBuffer> body, AtomicReference<Throwable> failure) {
+            this.failure = failure;
+            this.subscriber = new BaseSubscriber<>() {
+                @Override
+                protected void hookOnSubscribe(Subscription subscription) {
+                    subscription.request(BODY_PREFETCH);
+                }
+
+                @Override
+                protected void hookOnNext(DataBuffer buffer) {
+                    queue.add(buffer);
+                    if (closed) {
+                        releaseQueued();
+                    }
+                }
+
+                @Override
+                protected void hookOnError(Throwable e) {
+                    failure.set(e);
+                    queue.add(END);
+                }
+
+                @Override
+                protected void hookOnComplete() {
+                    queue.add(END);
+                }
+            };
+            body.subscribe(subscriber);
+        }
+
+        @Override
+        public int read() throws IOException {
+            DataBuffer buffer = next();
+            return buffer != null ? buffer.read() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) throws IOException {
+            if (length == 0) {
+                return 0;
+            }
+            DataBuffer buffer = next();
+            if (buffer == null) {
+                return -1;
+            }
+            int count = Math.min(length, buffer.readableByteCount());
+            buffer.read(bytes, offset, count);
+            return count;
+        }
+
+        @Override
+        public int available() {
+            return current != null ? current.readableByteCount() : 0;
+        }
+
+        // 읽을 바이트가 남은 버퍼 (본문 끝이면 null)
+        private DataBuffer next() throws IOException {
+            if (closed) {
+                throw new IOException("본문 스트림이 닫혔습니다");
+            }
+            while (current == null || current.readableByteCount() == 0) {
+                if (current != null) {
+                    DataBufferUtils.release(current);
+                    current = null;
+                    subscriber.request(1);
+                }
+                if (done) {
+                    return null;
+                }
+                Object item;
+                try {
+                    item = queue.take();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new InterruptedIOException("본문 수신 대기 중 인터럽트");
+                }
+                if (item == END) {
+                    done = true;
+                    Throwable e = failure.get();
+                    if (e != null) {
+                        throw new IOException("축제 API 본문 수신 실패", e);
+                    }
+                    return null;
+                }
+                current = (DataBuffer) item;
+            }
+            return current;
+        }
+
+        @Override
+        public void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            subscriber.dispose();
+            if (current != null) {
+                DataBufferUtils.release(current);
+                current = null;
+            }
+            releaseQueued();
+        }
+
+        private void releaseQueued() {
+            Object item;
+            while ((item = queue.poll()) != null) {
+                if (item instanceof DataBuffer buffer) {
+                    DataBufferUtils.release(buffer);
+                }
+            }
+        }
+    }
+}
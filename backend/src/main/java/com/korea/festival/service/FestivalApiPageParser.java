@@ -0,0 +1,222 @@
+package com.korea.festival.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.korea.festival.dto.FestivalApiItem;
+import com.korea.festival.dto.FestivalApiPage;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * searchFestival2 응답 스트리밍 파서
+ * - JsonNode 트리나 중간 문자열 없이 JsonParser 토큰을 따라가며 response.body 의 totalCount 와 items.item 만 읽음
+ * - 항목마다 필요한 필드만 꺼내 바로 FestivalApiItem 으로 변환하고, 나머지 필드/중첩 값은 건너뜀
+ * - items.item 은 여러 건이면 배열, 한 건이면 객체, 결과가 없으면 items 가 "" 로 옴
+ */
+@Slf4j
+@Component
+public class FestivalApiPageParser {
+
+    private static final Set<String> FIELDS = Set.of("contentid", "title", "addr1", "eventstartdate", "eventenddate",
+            "firstimage", "firstimage2", "areacode", "sigungucode", "mapx", "mapy", "modifiedtime");
+
+    private final JsonFactory jsonFactory;
+
+    public FestivalApiPageParser(ObjectMapper objectMapper) {
+        this.jsonFactory = objectMapper.getFactory();
+    }
+
+    public FestivalApiPage parse(InputStream in) throws IOException {
+        try (JsonParser parser = jsonFactory.createParser(in)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IOException("축제 API 응답이 JSON 객체가 아닙니다.");
+            }
+            PageBuilder page = new PageBuilder();
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String name = parser.currentName();
+                parser.nextToken();
+                if ("response".equals(name) && parser.currentToken() == JsonToken.START_OBJECT) {
+                    readResponse(parser, page);
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            return new FestivalApiPage(page.totalCount, page.items);
+        }
+    }
+
+    private void readResponse(JsonParser parser, PageBuilder page) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.currentName();
+            parser.nextToken();
+            if ("body".equals(name) && parser.currentToken() == JsonToken.START_OBJECT) {
+                readBody(parser, page);
+            } else {
+                parser.skipChildren();
+            }
+        }
+    }
+
+    private void readBody(JsonParser parser, PageBuilder page) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.currentName();
+            JsonToken token = parser.nextToken();
+            if ("totalCount".equals(name)) {
+                page.totalCount = parser.getValueAsInt(0);
+            } else if ("items".equals(name) && token == JsonToken.START_OBJECT) {
+                readItems(parser, page);
+            } else {
+                parser.skipChildren();
+            }
+        }
+    }
+
+    private void readItems(JsonParser parser, PageBuilder page) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.currentName();
+            JsonToken token = parser.nextToken();
+            if ("item".equals(name) && token == JsonToken.START_ARRAY) {
+                while (parser.nextToken() == JsonToken.START_OBJECT) {
+                    readItem(parser, page.items);
+                }
+            } else if ("item".equals(name) && token == JsonToken.START_OBJECT) {
+                readItem(parser, page.items);
+            } else {
+                parser.skipChildren();
+            }
+        }
+    }
+
+    private void readItem(JsonParser parser, List<FestivalApiItem> items) throws IOException {
+        String contentId = "";
+        String title = "";
+        String addr1 = "";
+        String eventStartDate = "";
+        String eventEndDate = "";
+        String firstimage = "";
+        String firstimage2 = "";
+        String areaCode = "";
+        String sigunguCode = "";
+        String mapX = "";
+        String mapY = "";
+        String modifiedTime = "";
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.currentName();
+            JsonToken token = parser.nextToken();
+            if (token.isStructStart()) {
+                parser.skipChildren();
+                continue;
+            }
+            if (!FIELDS.contains(name)) {
+                // 사용하지 않는 필드는 문자열로 만들지 않음
+                continue;
+            }
+            String value = token == JsonToken.VALUE_NULL ? "" : parser.getText();
+            switch (name) {
+                case "contentid" -> contentId = value;
+                case "title" -> title = value;
+                case "addr1" -> addr1 = value;
+                case "eventstartdate" -> eventStartDate = value;
+                case "eventenddate" -> eventEndDate = value;
+                case "firstimage" -> firstimage = value;
+                case "firstimage2" -> firstimage2 = value;
+                case "areacode" -> areaCode = value;
+                case "sigungucode" -> sigunguCode = value;
+                case "mapx" -> mapX = value;
+                case "mapy" -> mapY = value;
+                default -> modifiedTime = value;
+            }
+        }
+        try {
+            items.add(new FestivalApiItem(
+                    contentId,
+                    title,
+                    addr1,
+                    date(eventStartDate),
+                    date(eventEndDate),
+                    image(firstimage, firstimage2),
+                    code(areaCode),
+                    code(sigunguCode),
+                    coordinate(mapX),
+                    coordinate(mapY),
+                    modifiedTime(modifiedTime)));
+        } catch (DateTimeException | NumberFormatException e) {
+            log.warn("축제 기간 형식 오류로 건너뜀: contentId={}", contentId);
+        }
+    }
+
+    private static String image(String firstimage, String firstimage2) {
+        if (!firstimage.isBlank()) {
+            return firstimage;
+        }
+        if (!firstimage2.isBlank()) {
+            return firstimage2;
+        }
+        return "/default.jpg";
+    }
+
+    private static String code(String value) {
+        return value.isBlank() ? null : value.trim();
+    }
+
+    // 좌표가 없거나 0 이면 null (지도에 표시하지 않음)
+    private static Double coordinate(String value) {
+        try {
+            double parsed = Double.parseDouble(value);
+            return parsed == 0 || Double.isNaN(parsed) ? null : parsed;
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    // yyyyMMdd - DateTimeFormatter 는 항목마다 중간 객체를 많이 만들어서 직접 읽음
+    private static LocalDate date(String value) {
+        if (value.length() != 8) {
+            throw new NumberFormatException(value);
+        }
+        return LocalDate.of(digits(value, 0, 4), digits(value, 4, 6), digits(value, 6, 8));
+    }
+
+    // yyyyMMddHHmmss
+    private static LocalDateTime modifiedTime(String value) {
+        try {
+            if (value.length() != 14) {
+                return null;
+            }
+            return LocalDateTime.of(digits(value, 0, 4), digits(value, 4, 6), digits(value, 6, 8),
+                    digits(value, 8, 10), digits(value, 10, 12), digits(value, 12, 14));
+        } catch (DateTimeException | NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static int digits(String value, int from, int to) {
+        int result = 0;
+        for (int i = from; i < to; i++) {
+            int digit = value.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                throw new NumberFormatException(value);
+            }
+            result = result * 10 + digit;
+        }
+        return result;
+    }
+
+    private static final class PageBuilder {
+        private int totalCount;
+        private final List<FestivalApiItem> items = new ArrayList<>();
+    }
+}
@@ -0,0 +1,168 @@
+package com.korea.festival.service;
+
+import java.sql.Date;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Predicate;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.korea.festival.dto.FestivalResponseDTO;
+import com.korea.festival.utils.IntervalIndex;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 기간으로 축제 찾기 ("지금 진행 중" / "이번 주말" / 임의 기간)
+ * - active 축제의 (start_date, end_date) 를 IntervalIndex 로 메모리에 올려 두고 기간과 겹치는 축제를 O(log n + k) 로 조회
+ * - 지역코드 / 시군구코드 / 최소 좋아요 조건을 함께 걸 수 있고, 시작일순 또는 좋아요순으로 정렬
+ * - FestivalChangedEvent (동기화, 좋아요) 가 오면 표시만 하고 refresh-interval 마다 새로 만들어 교체
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FestivalCalendarService {
+
+    private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("yyyyMMdd");
+
+    private static final String SELECT_SQL =
+            "SELECT content_id, name, location, firstimage, start_date, end_date, area_code, sigungu_code, likes_count " +
+            "FROM festivals WHERE active = true AND start_date IS NOT NULL";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${festival.calendar.max-results:500}")
+    private int maxResults;
+
+    @Value("${festival.calendar.max-range-days:366}")
+    private int maxRangeDays;
+
+    private volatile IntervalIndex<Item> index = IntervalIndex.build(List.of());
+    private final AtomicBoolean dirty = new AtomicBoolean();
+
+    public List<FestivalResponseDTO> find(Query query) {
+        DateRange range = resolve(query.when(), query.from(), query.to(), LocalDate.now());
+        Predicate<Item> filter = item ->
+                (isBlank(query.areaCode()) || query.areaCode().equals(item.areaCode()))
+                && (isBlank(query.sigunguCode()) || query.sigunguCode().equals(item.sigunguCode()))
+                && item.dto().getLikes() >= query.minLikes();
+        Comparator<Item> order = comparator(query.sort());
+        List<Item> items = index.overlapping(range.from().toEpochDay(), range.to().toEpochDay(), filter);
+        items.sort(order);
+        int limit = Math.max(1, Math.min(query.limit(), maxResults));
+        return items.stream().limit(limit).map(Item::dto).toList();
+    }
+
+    private static Comparator<Item> comparator(String sort) {
+        Comparator<Item> byStart = Comparator.comparing((Item item) -> item.dto().getEventstartdate())
+                .thenComparing(item -> item.dto().getContentid());
+        if (isBlank(sort) || "startDate".equals(sort)) {
+            return byStart;
+        }
+        if ("likes".equals(sort)) {
+            return Comparator.comparingInt((Item item) -> item.dto().getLikes()).reversed().thenComparing(byStart);
+        }
+        throw new IllegalArgumentException("지원하지 않는 정렬입니다: " + sort);
+    }
+
+    // when: today(진행 중) / weekend(이번 주말) / 없으면 from~to
+    DateRange resolve(String when, LocalDate from, LocalDate to, LocalDate today) {
+        if ("today".equals(when)) {
+            return new DateRange(today, today);
+        }
+        if ("weekend".equals(when)) {
+            // 일요일이면 오늘 하루, 그 외에는 다가오는(또는 오늘인) 토요일~일요일
+            if (today.getDayOfWeek() == DayOfWeek.SUNDAY) {
+                return new DateRange(today, today);
+            }
+            LocalDate saturday = today.plusDays(DayOfWeek.SATURDAY.getValue() - today.getDayOfWeek().getValue());
+            return new DateRange(saturday, saturday.plusDays(1));
+        }
+        if (!isBlank(when)) {
+            throw new IllegalArgumentException("지원하지 않는 기간입니다: " + when);
+        }
+        if (from == null) {
+            throw new IllegalArgumentException("기간(when 또는 from)을 입력해주세요.");
+        }
+        LocalDate end = to != null ? to : from;
+        if (end.isBefore(from)) {
+            throw new IllegalArgumentException("종료일이 시작일보다 앞설 수 없습니다.");
+        }
+        if (end.toEpochDay() - from.toEpochDay() >= maxRangeDays) {
+            throw new IllegalArgumentException("기간은 최대 " + maxRangeDays + "일까지 조회할 수 있습니다.");
+        }
+        return new DateRange(from, end);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onChanged(FestivalChangedEvent event) {
+        dirty.set(true);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void init() {
+        rebuild();
+    }
+
+    @Scheduled(fixedDelayString = "${festival.calendar.refresh-interval:2000}")
+    public void refreshIfDirty() {
+        if (dirty.getAndSet(false)) {
+            rebuild();
+        }
+    }
+
+    public synchronized void rebuild() {
+        long start = System.currentTimeMillis();
+        try {
+            List<IntervalIndex.Entry<Item>> entries = new ArrayList<>();
+            jdbcTemplate.query(SELECT_SQL, rs -> {
+                LocalDate startDate = rs.getDate("start_date").toLocalDate();
+                Date endDate = rs.getDate("end_date");
+                // 종료일이 없거나 잘못된 경우 하루짜리 축제로 취급
+                LocalDate end = endDate != null && !endDate.toLocalDate().isBefore(startDate)
+                        ? endDate.toLocalDate() : startDate;
+                Item item = new Item(rs.getString("area_code"), rs.getString("sigungu_code"), new FestivalResponseDTO(
+                        rs.getString("content_id"),
+                        rs.getString("name"),
+                        rs.getString("location"),
+                        rs.getString("firstimage"),
+                        startDate.format(FORMATTER),
+                        end.format(FORMATTER),
+                        rs.getInt("likes_count")));
+                entries.add(new IntervalIndex.Entry<>(startDate.toEpochDay(), end.toEpochDay(), item));
+            });
+            index = IntervalIndex.build(entries);
+            log.info("축제 기간 인덱스 생성: {}건, {}ms", entries.size(), System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            // 실패하면 기존 인덱스 유지, 다음 주기에 다시 시도
+            dirty.set(true);
+            log.error("축제 기간 인덱스 생성 실패", e);
+        }
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
+    public record Query(String when, LocalDate from, LocalDate to, String areaCode, String sigunguCode,
+                        int minLikes, String sort, int limit) {
+    }
+
+    record DateRange(LocalDate from, LocalDate to) {
+    }
+
+    private record Item(String areaCode, String sigunguCode, FestivalResponseDTO dto) {
+    }
+}
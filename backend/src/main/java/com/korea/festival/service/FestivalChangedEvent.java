@@ -0,0 +1,6 @@
+package com.korea.festival.service;
+
+// 축제 정보/조회수/좋아요가 바뀌었을 때 발행 (contentId 가 null 이면 전체)
+// 메인페이지 순위, 검색 인덱스 등 메모리 읽기 모델이 받아서 갱신
+public record FestivalChangedEvent(String contentId) {
+}
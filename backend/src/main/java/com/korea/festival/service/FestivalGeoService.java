@@ -0,0 +1,155 @@
+package com.korea.festival.service;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Predicate;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.korea.festival.dto.FestivalMapDTO;
+import com.korea.festival.utils.GeoGridIndex;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 지도(한눈에 보기)용 축제 위치 조회
+ * - 좌표가 있는 active 축제를 GeoGridIndex 로 메모리에 올려 두고 화면 영역 / 반경(km) 질의를 DB 없이 처리
+ * - 날짜(그날 진행 중인 축제만), 지역코드 조건을 함께 걸 수 있음
+ * - FestivalChangedEvent 가 오면 표시만 하고 refresh-interval 마다 새로 만들어 교체
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FestivalGeoService {
+
+    private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("yyyyMMdd");
+
+    private static final String SELECT_SQL =
+            "SELECT content_id, name, location, firstimage, start_date, end_date, area_code, sigungu_code, " +
+            "map_x, map_y, likes_count FROM festivals WHERE active = true AND map_x IS NOT NULL AND map_y IS NOT NULL";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 약 5km 격자
+    @Value("${festival.geo.cell-degrees:0.05}")
+    private double cellDegrees;
+
+    @Value("${festival.geo.max-results:500}")
+    private int maxResults;
+
+    @Value("${festival.geo.max-radius-km:200}")
+    private double maxRadiusKm;
+
+    private volatile GeoGridIndex<Spot> index = GeoGridIndex.build(List.of(), 1);
+    private final AtomicBoolean dirty = new AtomicBoolean();
+
+    // 지도 화면 영역 안의 축제
+    public List<FestivalMapDTO> inBox(double minX, double minY, double maxX, double maxY,
+                                      LocalDate date, String areaCode, int limit) {
+        if (!Double.isFinite(minX) || !Double.isFinite(minY) || !Double.isFinite(maxX) || !Double.isFinite(maxY)) {
+            throw new IllegalArgumentException("잘못된 좌표입니다.");
+        }
+        // 지구 범위 밖은 잘라냄
+        return index.within(clamp(minX, 180), clamp(minY, 90), clamp(maxX, 180), clamp(maxY, 90),
+                        filter(date, areaCode), limit(limit))
+                .stream().map(Spot::dto).toList();
+    }
+
+    // 위치 기준 반경 radiusKm 안의 축제, 가까운 순
+    public List<FestivalMapDTO> nearby(double lat, double lng, double radiusKm, LocalDate date, int limit) {
+        if (!(lat >= -90 && lat <= 90) || !(lng >= -180 && lng <= 180)) {
+            throw new IllegalArgumentException("위도는 -90~90, 경도는 -180~180 사이여야 합니다.");
+        }
+        if (!(radiusKm > 0 && radiusKm <= maxRadiusKm)) {
+            throw new IllegalArgumentException("반경은 0보다 크고 " + maxRadiusKm + "km 이하여야 합니다.");
+        }
+        return index.near(lng, lat, radiusKm, filter(date, null), limit(limit)).stream()
+                .map(hit -> hit.value().dto().toBuilder()
+                        .distanceKm(Math.round(hit.distanceKm() * 100) / 100.0)
+                        .build())
+                .toList();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onChanged(FestivalChangedEvent event) {
+        dirty.set(true);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void init() {
+        rebuild();
+    }
+
+    @Scheduled(fixedDelayString = "${festival.geo.refresh-interval:5000}")
+    public void refreshIfDirty() {
+        if (dirty.getAndSet(false)) {
+            rebuild();
+        }
+    }
+
+    public synchronized void rebuild() {
+        long start = System.currentTimeMillis();
+        try {
+            List<GeoGridIndex.Entry<Spot>> entries = new ArrayList<>();
+            jdbcTemplate.query(SELECT_SQL, rs -> {
+                Date startDate = rs.getDate("start_date");
+                Date endDate = rs.getDate("end_date");
+                Spot spot = new Spot(
+                        startDate != null ? startDate.toLocalDate() : null,
+                        endDate != null ? endDate.toLocalDate() : null,
+                        rs.getString("area_code"),
+                        FestivalMapDTO.builder()
+                                .contentid(rs.getString("content_id"))
+                                .title(rs.getString("name"))
+                                .addr1(rs.getString("location"))
+                                .firstimage(rs.getString("firstimage"))
+                                .eventstartdate(startDate != null ? startDate.toLocalDate().format(FORMATTER) : null)
+                                .eventenddate(endDate != null ? endDate.toLocalDate().format(FORMATTER) : null)
+                                .areacode(rs.getString("area_code"))
+                                .sigungucode(rs.getString("sigungu_code"))
+                                .mapx(rs.getDouble("map_x"))
+                                .mapy(rs.getDouble("map_y"))
+                                .likes(rs.getInt("likes_count"))
+                                .build());
+                entries.add(new GeoGridIndex.Entry<>(spot.dto().getMapx(), spot.dto().getMapy(), spot));
+            });
+            index = GeoGridIndex.build(entries, cellDegrees);
+            log.info("축제 위치 인덱스 생성: {}건, {}ms", entries.size(), System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            // 실패하면 기존 인덱스 유지, 다음 주기에 다시 시도
+            dirty.set(true);
+            log.error("축제 위치 인덱스 생성 실패", e);
+        }
+    }
+
+    private static double clamp(double degrees, double bound) {
+        return Math.max(-bound, Math.min(bound, degrees));
+    }
+
+    private int limit(int limit) {
+        return Math.max(1, Math.min(limit, maxResults));
+    }
+
+    private static Predicate<Spot> filter(LocalDate date, String areaCode) {
+        return spot -> (date == null || spot.isActiveOn(date))
+                && (areaCode == null || areaCode.isBlank() || areaCode.equals(spot.areaCode()));
+    }
+
+    private record Spot(LocalDate startDate, LocalDate endDate, String areaCode, FestivalMapDTO dto) {
+
+        boolean isActiveOn(LocalDate date) {
+            return startDate != null && !date.isBefore(startDate) && (endDate == null || !date.isAfter(endDate));
+        }
+    }
+}
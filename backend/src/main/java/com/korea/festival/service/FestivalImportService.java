@@ -0,0 +1,291 @@
+package com.korea.festival.service;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.korea.festival.dto.FestivalApiItem;
+import com.korea.festival.dto.FestivalApiPage;
+import com.korea.festival.dto.FestivalImportResult;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+
+/**
+ * 공공데이터(KorService2 searchFestival2) 축제 동기화
+ * 1. 첫 페이지로 totalCount 확인 후 나머지 페이지를 fetch-concurrency 만큼 동시에 조회 (FestivalApiClient - 연결 풀, 재시도)
+ *    응답은 FestivalApiPageParser 로 스트리밍 파싱 (문자열/JsonNode 트리를 만들지 않음)
+ * 2. 기존 contentId 의 해시/modifiedtime 을 한 번의 쿼리로 읽어서 신규/변경/유지/사라짐 분류
+ * 3. 신규는 batch insert, 변경은 batch update, 사라진 축제는 active=false - chunk-size 건씩 나눠서 트랜잭션 처리
+ * - 삭제 후 다시 넣지 않으므로 조회수/클릭수/좋아요와 연관 데이터는 유지되고 메인 화면이 비는 구간도 없음
+ * - sync-cron 주기로 자동 실행, 관리자 import 와 겹치면 나중 요청은 거절
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FestivalImportService {
+
+    private static final String SELECT_EXISTING_SQL =
+            "SELECT content_id, content_hash, modified_time, active FROM festivals";
+
+    private static final String INSERT_SQL =
+            "INSERT INTO festivals (content_id, name, location, start_date, end_date, firstimage, " +
+            "area_code, sigungu_code, map_x, map_y, " +
+            "content_hash, modified_time, views, clicks, likes_count, active, created_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 0, 0, 0, true, ?)";
+
+    private static final String UPDATE_SQL =
+            "UPDATE festivals SET name = ?, location = ?, start_date = ?, end_date = ?, firstimage = ?, " +
+            "area_code = ?, sigungu_code = ?, map_x = ?, map_y = ?, " +
+            "content_hash = ?, modified_time = ?, active = true WHERE content_id = ?";
+
+    private static final String DEACTIVATE_SQL =
+            "UPDATE festivals SET active = false WHERE content_id = ?";
+
+    // 동기화(해시) 도입 전에 저장된 행은 active 를 쓰지 않았으므로 한 번 켜 둠
+    private static final String ACTIVATE_LEGACY_SQL =
+            "UPDATE festivals SET active = true WHERE content_hash IS NULL AND active = false";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+    private final FestivalApiClient festivalApiClient;
+    private final FestivalApiPageParser festivalApiPageParser;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${festival.import.num-of-rows:500}")
+    private int numOfRows;
+
+    @Value("${festival.import.fetch-concurrency:4}")
+    private int fetchConcurrency;
+
+    @Value("${festival.import.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${festival.import.months-ahead:12}")
+    private int monthsAhead;
+
+    @Value("${festival.import.sync-enabled:true}")
+    private boolean syncEnabled;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    // 색인/순위 모델의 init 보다 먼저 실행, 바뀐 행이 있으면 전체 다시 만들도록 알림
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @EventListener(ApplicationReadyEvent.class)
+    public void activateLegacyFestivals() {
+        try {
+            int activated = jdbcTemplate.update(ACTIVATE_LEGACY_SQL);
+            if (activated > 0) {
+                log.info("동기화 이전 축제 {}건 active 로 전환", activated);
+                eventPublisher.publishEvent(new FestivalChangedEvent(null));
+            }
+        } catch (Exception e) {
+            log.warn("기존 축제 active 전환 실패: {}", e.getMessage());
+        }
+    }
+
+    @Scheduled(cron = "${festival.import.sync-cron:0 0 4 * * *}")
+    public void scheduledSync() {
+        if (!syncEnabled) {
+            return;
+        }
+        try {
+            importFestivals();
+        } catch (Exception e) {
+            log.error("축제 정기 동기화 실패", e);
+        }
+    }
+
+    public FestivalImportResult importFestivals() {
+        if (!running.compareAndSet(false, true)) {
+            throw new RuntimeException("축제 동기화가 이미 진행 중입니다.");
+        }
+        try {
+            return sync();
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private FestivalImportResult sync() {
+        long start = System.currentTimeMillis();
+        LocalDate today = LocalDate.now();
+        String startDate = today.format(DateTimeFormatter.BASIC_ISO_DATE);
+        String endDate = today.plusMonths(monthsAhead).format(DateTimeFormatter.BASIC_ISO_DATE);
+
+        // 1. 페이지 조회
+        Map<String, FestivalApiItem> fetched = new LinkedHashMap<>();
+        FestivalApiPage first = fetchPage(1, startDate, endDate);
+        first.items().forEach(item -> fetched.putIfAbsent(item.contentId(), item));
+        int pages = Math.max(1, (first.totalCount() + numOfRows - 1) / numOfRows);
+
+        if (pages > 1) {
+            // 연결 풀을 공유하며 fetch-concurrency 개씩 동시에 요청 (결과는 페이지 순서대로)
+            List<FestivalApiPage> rest;
+            try {
+                rest = Flux.range(2, pages - 1)
+                        .flatMapSequential(pageNo -> festivalApiClient.fetchPage(pageNo, numOfRows, startDate, endDate,
+                                festivalApiPageParser::parse), fetchConcurrency)
+                        .collectList()
+                        .block();
+            } catch (Exception e) {
+                throw new RuntimeException("축제 데이터 조회 실패", e);
+            }
+            rest.forEach(page -> page.items().forEach(item -> fetched.putIfAbsent(item.contentId(), item)));
+        }
+        long fetchMillis = System.currentTimeMillis() - start;
+
+        // 2. 기존 데이터와 비교
+        Map<String, Existing> existing = loadExisting();
+        List<FestivalApiItem> inserts = new ArrayList<>();
+        List<FestivalApiItem> updates = new ArrayList<>();
+        for (FestivalApiItem item : fetched.values()) {
+            Existing current = existing.get(item.contentId());
+            if (current == null) {
+                inserts.add(item);
+            } else if (current.isChanged(item)) {
+                updates.add(item);
+            }
+        }
+        List<String> vanished = new ArrayList<>();
+        if (fetched.isEmpty()) {
+            // 응답이 비어 있으면 API 쪽 문제일 가능성이 커서 비활성화하지 않음 (메인 화면이 비지 않도록)
+            log.warn("축제 API 응답이 비어 있어 비활성화 처리를 건너뜀");
+        } else {
+            existing.forEach((contentId, current) -> {
+                if (current.active() && !fetched.containsKey(contentId)) {
+                    vanished.add(contentId);
+                }
+            });
+        }
+
+        // 3. 반영
+        long writeStart = System.currentTimeMillis();
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        for (List<FestivalApiItem> chunk : chunks(inserts)) {
+            transactionTemplate.executeWithoutResult(status ->
+                jdbcTemplate.batchUpdate(INSERT_SQL, chunk, chunk.size(), (ps, item) -> {
+                    ps.setString(1, item.contentId());
+                    ps.setString(2, item.title());
+                    ps.setString(3, item.addr1());
+                    ps.setDate(4, Date.valueOf(item.eventStartDate()));
+                    ps.setDate(5, Date.valueOf(item.eventEndDate()));
+                    ps.setString(6, item.firstimage());
+                    ps.setString(7, item.areaCode());
+                    ps.setString(8, item.sigunguCode());
+                    ps.setObject(9, item.mapX(), Types.DOUBLE);
+                    ps.setObject(10, item.mapY(), Types.DOUBLE);
+                    ps.setString(11, item.contentHash());
+                    ps.setTimestamp(12, toTimestamp(item.modifiedTime()));
+                    ps.setTimestamp(13, now);
+                }));
+        }
+        for (List<FestivalApiItem> chunk : chunks(updates)) {
+            transactionTemplate.executeWithoutResult(status ->
+                jdbcTemplate.batchUpdate(UPDATE_SQL, chunk, chunk.size(), (ps, item) -> {
+                    ps.setString(1, item.title());
+                    ps.setString(2, item.addr1());
+                    ps.setDate(3, Date.valueOf(item.eventStartDate()));
+                    ps.setDate(4, Date.valueOf(item.eventEndDate()));
+                    ps.setString(5, item.firstimage());
+                    ps.setString(6, item.areaCode());
+                    ps.setString(7, item.sigunguCode());
+                    ps.setObject(8, item.mapX(), Types.DOUBLE);
+                    ps.setObject(9, item.mapY(), Types.DOUBLE);
+                    ps.setString(10, item.contentHash());
+                    ps.setTimestamp(11, toTimestamp(item.modifiedTime()));
+                    ps.setString(12, item.contentId());
+                }));
+        }
+        for (List<String> chunk : chunks(vanished)) {
+            transactionTemplate.executeWithoutResult(status ->
+                jdbcTemplate.batchUpdate(DEACTIVATE_SQL, chunk, chunk.size(),
+                        (ps, contentId) -> ps.setString(1, contentId)));
+        }
+        long end = System.currentTimeMillis();
+
+        FestivalImportResult result = FestivalImportResult.builder()
+                .totalCount(first.totalCount())
+                .pages(pages)
+                .fetched(fetched.size())
+                .inserted(inserts.size())
+                .updated(updates.size())
+                .unchanged(fetched.size() - inserts.size() - updates.size())
+                .deactivated(vanished.size())
+                .fetchMillis(fetchMillis)
+                .writeMillis(end - writeStart)
+                .elapsedMillis(end - start)
+                .build();
+        // 바뀐 축제만 알려서 메모리 모델(순위, 검색 인덱스)이 부분 갱신하도록
+        inserts.forEach(item -> eventPublisher.publishEvent(new FestivalChangedEvent(item.contentId())));
+        updates.forEach(item -> eventPublisher.publishEvent(new FestivalChangedEvent(item.contentId())));
+        vanished.forEach(contentId -> eventPublisher.publishEvent(new FestivalChangedEvent(contentId)));
+        log.info("축제 동기화 완료: {} (조회 {}ms, 저장 {}ms)", result.toSummary(), fetchMillis, result.getWriteMillis());
+        return result;
+    }
+
+    private FestivalApiPage fetchPage(int pageNo, String startDate, String endDate) {
+        try {
+            return festivalApiClient.fetchPage(pageNo, numOfRows, startDate, endDate, festivalApiPageParser::parse).block();
+        } catch (Exception e) {
+            throw new RuntimeException("축제 API 페이지 조회 실패: pageNo=" + pageNo, e);
+        }
+    }
+
+    private Timestamp toTimestamp(LocalDateTime time) {
+        return time != null ? Timestamp.valueOf(time) : null;
+    }
+
+    private Map<String, Existing> loadExisting() {
+        Map<String, Existing> existing = new HashMap<>();
+        jdbcTemplate.query(SELECT_EXISTING_SQL, rs -> {
+            Timestamp modifiedTime = rs.getTimestamp("modified_time");
+            existing.put(rs.getString("content_id"), new Existing(
+                    rs.getString("content_hash"),
+                    modifiedTime != null ? modifiedTime.toLocalDateTime() : null,
+                    rs.getBoolean("active")));
+        });
+        return existing;
+    }
+
+    private <T> List<List<T>> chunks(List<T> items) {
+        List<List<T>> chunks = new ArrayList<>();
+        for (int i = 0; i < items.size(); i += chunkSize) {
+            chunks.add(items.subList(i, Math.min(i + chunkSize, items.size())));
+        }
+        return chunks;
+    }
+
+    // DB 에 저장된 동기화 표시
+    private record Existing(String contentHash, LocalDateTime modifiedTime, boolean active) {
+
+        boolean isChanged(FestivalApiItem item) {
+            return !active
+                    || !item.contentHash().equals(contentHash)
+                    || (item.modifiedTime() != null && !item.modifiedTime().equals(modifiedTime));
+        }
+    }
+}
@@ -1,9 +1,11 @@
 package com.korea.festival.service;
 
+import java.util.Collection;
 import java.util.List;
-import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
@@ -26,35 +28,24 @@ public class FestivalLikeService {
     private final FestivalLikeRepository likeRepository;
     private final MainPageRepository mainPageRepository;
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final LikeEngine likeEngine;
 
     @Transactional
     public String toggleLike(String username, String contentId) {
         Authentication auth = SecurityContextHolder.getContext().getAuthentication();
         username = auth.getName();
 
-        User user = userRepository.findByUsername(username)
+        Long userId = userRepository.findIdByUsername(username)
                 .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
 
-        Festival_MainPage festival = mainPageRepository.findByContentId(contentId)
+        Long festivalId = mainPageRepository.findIdByContentId(contentId)
                 .orElseThrow(() -> new RuntimeException("축제를 찾을 수 없습니다."));
 
-        Optional<FestivalLikeEntity> existingLike = likeRepository.findByUserAndFestival(user, festival);
-
-        if (existingLike.isPresent()) {
-            // 좋아요 취소
-            likeRepository.delete(existingLike.get());
-            festival.decreaseLikes();   // 좋아요 수 -1
-            return "unliked";
-        } else {
-            // 좋아요 추가
-            FestivalLikeEntity like = new FestivalLikeEntity();
-            like.setUser(user);
-            like.setFestival(festival);
-            likeRepository.save(like);
-
-            festival.increaseLikes();   // 좋아요 수 +1
-            return "liked";
-        }
+        // 좋아요 행 추가/삭제 + likes_count 증감을 원자적으로 (동시 클릭에도 정확함)
+        LikeEngine.Result result = likeEngine.toggle(LikeEngine.Target.FESTIVAL, festivalId, userId);
+        eventPublisher.publishEvent(new FestivalChangedEvent(contentId));
+        return result.liked() ? "liked" : "unliked";
     }
 
 
@@ -71,16 +62,18 @@ public class FestivalLikeService {
     // 사용자가 특정 축제를 좋아요했는지 여부
     @Transactional(readOnly = true)
     public boolean isLikedByUser(String contentId, String username) {
-        User user = userRepository.findByUsername(username)
+        return likedContentIds(username, List.of(contentId)).contains(contentId);
+    }
+
+    // 목록의 축제들 중 사용자가 좋아요한 contentId (한 번에 조회)
+    @Transactional(readOnly = true)
+    public Set<String> likedContentIds(String username, Collection<String> contentIds) {
+        Long userId = userRepository.findIdByUsername(username)
                 .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
+        return likeEngine.likedKeys(LikeEngine.Target.FESTIVAL, userId, contentIds, String.class);
+    }
 
-        Festival_MainPage festival = mainPageRepository.findByContentId(contentId)
-                .orElseThrow(() -> new RuntimeException("축제를 찾을 수 없습니다."));
 
-        return likeRepository.existsByUserAndFestival(user, festival);
-    }
-    
-    
     //  사용자가 좋아요 누른 축제 목록 조회
     public List<FestivalDTO_MainPage> getLikedFestivalsByUser(String username) {
         User user = userRepository.findByUsername(username)
@@ -0,0 +1,171 @@
+package com.korea.festival.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.korea.festival.dto.FestivalCursor;
+import com.korea.festival.dto.FestivalResponseDTO;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 축제 목록 keyset 페이지
+ * - 시작일순 (start_date, id) 오름차순 / 좋아요순 (likes_count, id) 내림차순
+ * - OFFSET 대신 마지막 행의 (정렬 값, id) 를 커서로 받아 그 다음부터 조회 → 몇 번째 페이지든 인덱스 범위 탐색 한 번
+ *   (Festival_MainPage 의 idx_festivals_active_start_id / idx_festivals_active_likes_id)
+ * - 조회한 행을 리스트로 모으지 않고 바로 JSON 으로 응답 스트림에 씀
+ *   응답: {"items":[...], "nextCursor":"..."} (마지막 페이지면 nextCursor = null)
+ */
+@Service
+@RequiredArgsConstructor
+public class FestivalListService {
+
+    private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("yyyyMMdd");
+
+    private static final String COLUMNS =
+            "SELECT id, content_id, name, location, firstimage, start_date, end_date, likes_count FROM festivals ";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Value("${festival.list.max-page-size:100}")
+    private int maxPageSize;
+
+    public enum Sort {
+        START_DATE("startDate",
+                COLUMNS + "WHERE active = true AND start_date IS NOT NULL ORDER BY start_date ASC, id ASC LIMIT ?",
+                COLUMNS + "WHERE active = true AND start_date IS NOT NULL " +
+                        "AND (start_date > ? OR (start_date = ? AND id > ?)) ORDER BY start_date ASC, id ASC LIMIT ?"),
+        LIKES("likes",
+                COLUMNS + "WHERE active = true ORDER BY likes_count DESC, id DESC LIMIT ?",
+                COLUMNS + "WHERE active = true " +
+                        "AND (likes_count < ? OR (likes_count = ? AND id < ?)) ORDER BY likes_count DESC, id DESC LIMIT ?");
+
+        private final String param;
+        private final String firstPageSql;
+        private final String nextPageSql;
+
+        Sort(String param, String firstPageSql, String nextPageSql) {
+            this.param = param;
+            this.firstPageSql = firstPageSql;
+            this.nextPageSql = nextPageSql;
+        }
+
+        public static Sort of(String param) {
+            for (Sort sort : values()) {
+                if (sort.param.equals(param)) {
+                    return sort;
+                }
+            }
+            throw new IllegalArgumentException("지원하지 않는 정렬입니다: " + param);
+        }
+    }
+
+    // 응답을 쓰기 전에 파라미터 검증 (스트림이 시작된 뒤에는 오류 응답을 보낼 수 없음)
+    public PageQuery prepare(String sortParam, String cursorToken, int size) {
+        Sort sort = Sort.of(sortParam);
+        FestivalCursor cursor = null;
+        if (cursorToken != null && !cursorToken.isBlank()) {
+            cursor = FestivalCursor.decode(cursorToken);
+            if (!sort.param.equals(cursor.sort())) {
+                throw new IllegalArgumentException("커서의 정렬 기준이 다릅니다.");
+            }
+            if (sort == Sort.START_DATE) {
+                try {
+                    LocalDate.parse(cursor.value());
+                } catch (DateTimeParseException e) {
+                    throw new IllegalArgumentException("잘못된 커서입니다.", e);
+                }
+            } else {
+                try {
+                    Integer.parseInt(cursor.value());
+                } catch (NumberFormatException e) {
+                    throw new IllegalArgumentException("잘못된 커서입니다.", e);
+                }
+            }
+        }
+        return new PageQuery(sort, cursor, Math.max(1, Math.min(size, maxPageSize)));
+    }
+
+    public void write(PageQuery query, OutputStream out) throws IOException {
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            generator.writeStartObject();
+            generator.writeArrayFieldStart("items");
+
+            // size + 1 개를 읽어서 다음 페이지가 있는지 판단
+            int[] written = {0};
+            FestivalCursor[] last = {null};
+            boolean[] hasNext = {false};
+            jdbcTemplate.query(query.sql(), rs -> {
+                if (written[0] == query.size()) {
+                    hasNext[0] = true;
+                    return;
+                }
+                try {
+                    generator.writeObject(toDTO(rs));
+                } catch (IOException e) {
+                    throw new SQLException("응답 쓰기 실패", e);
+                }
+                last[0] = cursorOf(query.sort(), rs);
+                written[0]++;
+            }, query.args());
+
+            generator.writeEndArray();
+            if (hasNext[0]) {
+                generator.writeStringField("nextCursor", last[0].encode());
+            } else {
+                generator.writeNullField("nextCursor");
+            }
+            generator.writeEndObject();
+        }
+    }
+
+    private static FestivalCursor cursorOf(Sort sort, ResultSet rs) throws SQLException {
+        String value = sort == Sort.START_DATE
+                ? rs.getDate("start_date").toLocalDate().toString()
+                : String.valueOf(rs.getInt("likes_count"));
+        return new FestivalCursor(sort.param, value, rs.getLong("id"));
+    }
+
+    private static FestivalResponseDTO toDTO(ResultSet rs) throws SQLException {
+        Date startDate = rs.getDate("start_date");
+        Date endDate = rs.getDate("end_date");
+        return new FestivalResponseDTO(
+                rs.getString("content_id"),
+                rs.getString("name"),
+                rs.getString("location"),
+                rs.getString("firstimage"),
+                startDate != null ? startDate.toLocalDate().format(FORMATTER) : null,
+                endDate != null ? endDate.toLocalDate().format(FORMATTER) : null,
+                rs.getInt("likes_count"));
+    }
+
+    public record PageQuery(Sort sort, FestivalCursor cursor, int size) {
+
+        String sql() {
+            return cursor == null ? sort.firstPageSql : sort.nextPageSql;
+        }
+
+        Object[] args() {
+            if (cursor == null) {
+                return new Object[] {size + 1};
+            }
+            Object value = sort == Sort.START_DATE
+                    ? Date.valueOf(LocalDate.parse(cursor.value()))
+                    : Integer.parseInt(cursor.value());
+            return new Object[] {value, value, cursor.id(), size + 1};
+        }
+    }
+}
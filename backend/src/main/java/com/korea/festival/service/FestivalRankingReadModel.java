@@ -0,0 +1,149 @@
+package com.korea.festival.service;
+
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.DigestUtils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.korea.festival.dto.FestivalDTO_MainPage;
+import com.korea.festival.entity.Festival_MainPage;
+import com.korea.festival.repository.MainPageRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 메인페이지 축제 순위 (최신순 / 조회수순 / 좋아요순) 읽기 모델
+ * - 순위별 상위 top-k 를 JSON 바이트 + ETag 로 미리 만들어 두고 요청마다 그대로 응답 (DB 조회/직렬화 없음)
+ * - 조회수/좋아요/동기화가 일어나면 FestivalChangedEvent 로 표시만 하고 refresh-interval 마다 한 번 다시 만듦
+ * - 조회수는 FestivalViewCounter 의 아직 반영 전 값까지 더해서 순위를 매김 (조회가 있으면 refresh-interval 마다 갱신)
+ * - 날짜가 바뀌는 것(최신순 기준일)과 누락된 변경을 위해 rebuild-interval 마다 무조건 다시 만듦
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FestivalRankingReadModel {
+
+    private final MainPageRepository mainPageRepository;
+    private final ObjectMapper objectMapper;
+    private final FestivalViewCounter festivalViewCounter;
+
+    @Value("${festival.ranking.top-k:10}")
+    private int topK;
+
+    private final AtomicReference<Rankings> rankings = new AtomicReference<>();
+    private final AtomicBoolean dirty = new AtomicBoolean(true);
+    private volatile long lastViewTotal = -1;
+
+    public Snapshot latest() {
+        return current().latest();
+    }
+
+    public Snapshot popular() {
+        return current().popular();
+    }
+
+    public Snapshot likes() {
+        return current().likes();
+    }
+
+    // 커밋 이후에 표시해야 다시 만들 때 바뀐 값이 보임
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onChanged(FestivalChangedEvent event) {
+        dirty.set(true);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void init() {
+        rebuild();
+    }
+
+    @Scheduled(fixedDelayString = "${festival.ranking.refresh-interval:1000}")
+    public void refreshIfDirty() {
+        if (dirty.get() || festivalViewCounter.totalIncrements() != lastViewTotal) {
+            rebuild();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${festival.ranking.rebuild-interval:300000}",
+            initialDelayString = "${festival.ranking.rebuild-interval:300000}")
+    public void periodicRebuild() {
+        rebuild();
+    }
+
+    public synchronized void rebuild() {
+        dirty.set(false);
+        lastViewTotal = festivalViewCounter.totalIncrements();
+        try {
+            PageRequest top = PageRequest.of(0, topK);
+            // 반영 전 조회수로 순위가 바뀔 수 있으니 조회수순은 여유 있게 가져와서 다시 정렬
+            List<FestivalDTO_MainPage> popular = mainPageRepository
+                    .findByActiveTrueOrderByViewsDesc(PageRequest.of(0, topK * 2)).stream()
+                    .map(this::toDTO)
+                    .sorted(Comparator.comparingInt(FestivalDTO_MainPage::getViews).reversed())
+                    .limit(topK)
+                    .toList();
+            rankings.set(new Rankings(
+                    snapshot(mainPageRepository.findUpcomingFestivals(LocalDate.now(), top).stream().map(this::toDTO).toList()),
+                    snapshot(popular),
+                    snapshot(mainPageRepository.findByActiveTrueOrderByLikesCountDesc(top).stream().map(this::toDTO).toList())));
+        } catch (Exception e) {
+            // 실패하면 이전 스냅샷을 계속 쓰고 다음 주기에 다시 시도
+            dirty.set(true);
+            log.error("메인페이지 축제 순위 생성 실패", e);
+        }
+    }
+
+    private Rankings current() {
+        Rankings current = rankings.get();
+        if (current == null) {
+            rebuild();
+            current = rankings.get();
+            if (current == null) {
+                throw new RuntimeException("축제 순위를 불러올 수 없습니다.");
+            }
+        }
+        return current;
+    }
+
+    private Snapshot snapshot(List<FestivalDTO_MainPage> dtos) throws Exception {
+        byte[] body = objectMapper.writeValueAsBytes(dtos);
+        return new Snapshot(body, "\"" + DigestUtils.md5DigestAsHex(body) + "\"");
+    }
+
+    private FestivalDTO_MainPage toDTO(Festival_MainPage f) {
+        return FestivalDTO_MainPage.builder()
+                .id(f.getId())
+                .contentId(f.getContentId())
+                .name(f.getName())
+                .startDate(f.getStartDate())
+                .endDate(f.getEndDate())
+                .location(f.getLocation())
+                .firstimage(f.getFirstimage())
+                .description(f.getDescription())
+                .bookingUrl(f.getBookingUrl())
+                .views(f.getViews() + (int) festivalViewCounter.pending(f.getContentId()))
+                .clicks(f.getClicks())
+                .likesCount(f.getLikesCount())
+                .createdAt(f.getCreatedAt())
+                .build();
+    }
+
+    // 미리 직렬화한 응답 본문과 ETag
+    public record Snapshot(byte[] body, String etag) {
+    }
+
+    private record Rankings(Snapshot latest, Snapshot popular, Snapshot likes) {
+    }
+}
@@ -0,0 +1,160 @@
+package com.korea.festival.service;
+
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.korea.festival.dto.FestivalResponseDTO;
+import com.korea.festival.utils.NgramSearchIndex;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 축제 검색 (메모리 bigram 역색인)
+ * - 이름(가중치 3) / 주소(2) / 설명(1) 을 색인, 결과는 점수 → 좋아요 순으로 페이지 단위 반환
+ * - 시작 시 active 축제 전체로 색인을 만들고, 이후에는 FestivalChangedEvent 로 바뀐 축제만 모아서 refresh-interval 마다 부분 갱신
+ * - rebuild-interval 마다 전체를 다시 만들어 교체 (누락 보정)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FestivalSearchService {
+
+    private static final int REFRESH_BATCH_SIZE = 1000;
+    private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("yyyyMMdd");
+
+    private static final String SELECT_SQL =
+            "SELECT content_id, name, location, description, firstimage, start_date, end_date, likes_count " +
+            "FROM festivals WHERE active = true";
+
+    private static final String SELECT_BY_IDS_SQL = SELECT_SQL + " AND content_id IN (:contentIds)";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Value("${festival.search.max-page-size:100}")
+    private int maxPageSize;
+
+    private volatile NgramSearchIndex<FestivalResponseDTO> index = newIndex();
+    private final Set<String> dirtyIds = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean dirtyAll = new AtomicBoolean();
+
+    public Page<FestivalResponseDTO> search(String query, int page, int size) {
+        int pageSize = Math.max(1, Math.min(size, maxPageSize));
+        // (page + 1) * size 가 int 를 넘지 않도록
+        int pageNo = Math.max(0, Math.min(page, Integer.MAX_VALUE / pageSize - 1));
+        NgramSearchIndex.Result<FestivalResponseDTO> result = index.search(query, pageNo, pageSize);
+        return new PageImpl<>(result.items(), PageRequest.of(pageNo, pageSize), result.total());
+    }
+
+    public List<FestivalResponseDTO> suggest(String prefix, int limit) {
+        return index.suggest(prefix, Math.max(1, Math.min(limit, maxPageSize)));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onChanged(FestivalChangedEvent event) {
+        if (event.contentId() == null) {
+            dirtyAll.set(true);
+        } else {
+            dirtyIds.add(event.contentId());
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void init() {
+        rebuild();
+    }
+
+    @Scheduled(fixedDelayString = "${festival.search.rebuild-interval:600000}",
+            initialDelayString = "${festival.search.rebuild-interval:600000}")
+    public void periodicRebuild() {
+        rebuild();
+    }
+
+    @Scheduled(fixedDelayString = "${festival.search.refresh-interval:2000}")
+    public synchronized void refresh() {
+        if (dirtyAll.getAndSet(false)) {
+            dirtyIds.clear();
+            rebuild();
+            return;
+        }
+        if (dirtyIds.isEmpty()) {
+            return;
+        }
+        List<String> ids = new ArrayList<>(dirtyIds);
+        dirtyIds.removeAll(ids);
+        try {
+            NgramSearchIndex<FestivalResponseDTO> current = index;
+            Set<String> found = new HashSet<>();
+            for (int i = 0; i < ids.size(); i += REFRESH_BATCH_SIZE) {
+                List<String> batch = ids.subList(i, Math.min(i + REFRESH_BATCH_SIZE, ids.size()));
+                jdbcTemplate.query(SELECT_BY_IDS_SQL, new MapSqlParameterSource("contentIds", batch), rs -> {
+                    found.add(rs.getString("content_id"));
+                    put(current, rs);
+                });
+            }
+            // 조회되지 않은 축제는 삭제되었거나 비활성화된 것
+            ids.stream().filter(id -> !found.contains(id)).forEach(current::remove);
+        } catch (Exception e) {
+            dirtyIds.addAll(ids);
+            log.error("축제 검색 색인 갱신 실패: {}건", ids.size(), e);
+        }
+    }
+
+    public synchronized void rebuild() {
+        long start = System.currentTimeMillis();
+        try {
+            NgramSearchIndex<FestivalResponseDTO> rebuilt = newIndex();
+            jdbcTemplate.getJdbcTemplate().query(SELECT_SQL, rs -> {
+                put(rebuilt, rs);
+            });
+            index = rebuilt;
+            log.info("축제 검색 색인 생성: {}건, {}ms", rebuilt.size(), System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            // 실패하면 기존 색인 유지
+            log.error("축제 검색 색인 생성 실패", e);
+        }
+    }
+
+    private static NgramSearchIndex<FestivalResponseDTO> newIndex() {
+        return new NgramSearchIndex<>(3, 2, 1);
+    }
+
+    private static void put(NgramSearchIndex<FestivalResponseDTO> target, ResultSet rs) throws SQLException {
+        String contentId = rs.getString("content_id");
+        String name = rs.getString("name");
+        String location = rs.getString("location");
+        Date startDate = rs.getDate("start_date");
+        Date endDate = rs.getDate("end_date");
+        int likes = rs.getInt("likes_count");
+        FestivalResponseDTO dto = new FestivalResponseDTO(
+                contentId,
+                name,
+                location,
+                rs.getString("firstimage"),
+                startDate != null ? startDate.toLocalDate().format(FORMATTER) : null,
+                endDate != null ? endDate.toLocalDate().format(FORMATTER) : null,
+                likes);
+        target.put(contentId, Arrays.asList(name, location, rs.getString("description")), likes, dto);
+    }
+}
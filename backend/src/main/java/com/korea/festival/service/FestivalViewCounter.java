@@ -0,0 +1,128 @@
+package com.korea.festival.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 축제 조회수 write-behind 집계
+ * - 조회마다 DB 를 읽고 쓰지 않고 contentId 별 LongAdder 에 더해 두었다가 flush-interval 마다
+ *   UPDATE festivals SET views = views + ? 를 batch 로 반영 (동시 조회에도 유실 없음, 행 잠금 경합 없음)
+ * - 종료 시 남은 값을 한 번 더 반영, 반영 실패한 값은 다음 주기에 다시 시도
+ * - 아직 반영 전인 값은 pending() 으로 조회 가능 (메인페이지 순위가 실시간 조회수를 사용)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FestivalViewCounter {
+
+    private static final String UPDATE_SQL = "UPDATE festivals SET views = views + ? WHERE content_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+    private final MeterRegistry meterRegistry;
+
+    // 축제 수만큼만 유지 (없는 contentId 는 flush 때 제거)
+    private final Map<String, LongAdder> pending = new ConcurrentHashMap<>();
+    // DB 반영 중인 값 (반영이 끝날 때까지 pending() 에 포함)
+    private final Map<String, Long> inFlight = new ConcurrentHashMap<>();
+    private final LongAdder totalIncrements = new LongAdder();
+
+    private Counter incrementCounter;
+    private Counter flushedCounter;
+    private Timer flushTimer;
+
+    @PostConstruct
+    public void init() {
+        incrementCounter = meterRegistry.counter("festival.views.increments");
+        flushedCounter = meterRegistry.counter("festival.views.flushed");
+        flushTimer = meterRegistry.timer("festival.views.flush");
+        meterRegistry.gauge("festival.views.pending", pending, map -> map.values().stream().mapToLong(LongAdder::sum).sum());
+        meterRegistry.gauge("festival.views.tracked", pending, Map::size);
+    }
+
+    public void increment(String contentId) {
+        pending.computeIfAbsent(contentId, id -> new LongAdder()).increment();
+        totalIncrements.increment();
+        incrementCounter.increment();
+    }
+
+    // 아직 DB 에 반영되지 않은 조회수
+    public long pending(String contentId) {
+        LongAdder adder = pending.get(contentId);
+        return (adder != null ? adder.sum() : 0) + inFlight.getOrDefault(contentId, 0L);
+    }
+
+    // 지금까지 받은 조회 수 (변화 감지용)
+    public long totalIncrements() {
+        return totalIncrements.sum();
+    }
+
+    @Scheduled(fixedDelayString = "${festival.views.flush-interval:5000}")
+    public synchronized void flush() {
+        List<Delta> batch = new ArrayList<>();
+        pending.forEach((contentId, adder) -> {
+            long delta = adder.sumThenReset();
+            if (delta > 0) {
+                inFlight.put(contentId, delta);
+                batch.add(new Delta(contentId, delta));
+            }
+        });
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        long start = System.nanoTime();
+        try {
+            int[][] results = new TransactionTemplate(transactionManager).execute(status ->
+                jdbcTemplate.batchUpdate(UPDATE_SQL, batch, batch.size(), (ps, delta) -> {
+                    ps.setLong(1, delta.views());
+                    ps.setString(2, delta.contentId());
+                }));
+            long flushed = 0;
+            for (int i = 0; i < batch.size(); i++) {
+                Delta delta = batch.get(i);
+                if (results != null && results[0][i] == 0) {
+                    // 없는 축제 - 더 이상 모으지 않음
+                    pending.remove(delta.contentId());
+                } else {
+                    flushed += delta.views();
+                }
+            }
+            flushedCounter.increment(flushed);
+            log.debug("조회수 반영: 축제 {}개, {}회", batch.size(), flushed);
+        } catch (Exception e) {
+            // 다음 주기에 다시 반영
+            batch.forEach(delta -> pending.computeIfAbsent(delta.contentId(), id -> new LongAdder()).add(delta.views()));
+            log.error("조회수 반영 실패: 축제 {}개", batch.size(), e);
+        } finally {
+            inFlight.clear();
+            flushTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    private record Delta(String contentId, long views) {
+    }
+}
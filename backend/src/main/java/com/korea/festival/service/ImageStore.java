@@ -0,0 +1,162 @@
+package com.korea.festival.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+import jakarta.annotation.PostConstruct;
+
+/**
+ * 리뷰 이미지 저장소 (내용 주소 방식)
+ * - 파일 이름 = 내용의 SHA-256 → 같은 이미지는 한 번만 저장, DB 에는 키 ("ab/<sha256>.png") 만 저장
+ * - 업로드 스트림을 임시 파일로 쓰면서 해시를 계산하고 완료되면 최종 이름으로 이동 (메모리에 통째로 올리지 않음)
+ * - 확장자는 파일 이름이 아니라 앞부분 바이트로 판별 (jpg / png / gif / webp 만 허용)
+ * - 한 번 저장된 키의 내용은 바뀌지 않으므로 ImageController 가 오래 캐시하도록 응답
+ */
+@Component
+public class ImageStore {
+
+    public static final String URL_PREFIX = "/uploads/images/";
+
+    private static final Pattern KEY = Pattern.compile("[0-9a-f]{2}/[0-9a-f]{64}\\.(jpg|png|gif|webp)");
+    private static final int HEAD_BYTES = 12;
+
+    @Value("${app.upload.path}")
+    private String uploadPath;
+
+    @Value("${app.upload.max-image-size:10485760}")
+    private long maxImageSize = 10 * 1024 * 1024;
+
+    private Path root;
+
+    @PostConstruct
+    public void init() throws IOException {
+        root = Paths.get(uploadPath, "images").toAbsolutePath().normalize();
+        Files.createDirectories(root);
+    }
+
+    public String store(MultipartFile file) {
+        try (InputStream in = file.getInputStream()) {
+            return store(in);
+        } catch (IOException e) {
+            throw new RuntimeException("이미지 저장 실패: " + file.getOriginalFilename(), e);
+        }
+    }
+
+    public String store(InputStream in) throws IOException {
+        return store(in, maxImageSize);
+    }
+
+    // 크기 제한을 따로 지정 (이미 받아 둔 이미지를 옮길 때)
+    public String store(InputStream in, long maxSize) throws IOException {
+        MessageDigest digest = sha256();
+        Path temp = Files.createTempFile(root, "upload-", ".tmp");
+        try {
+            byte[] head = new byte[HEAD_BYTES];
+            int headLength = 0;
+            long size = 0;
+            try (OutputStream out = Files.newOutputStream(temp)) {
+                byte[] buffer = new byte[8192];
+                int n;
+                while ((n = in.read(buffer)) != -1) {
+                    if (headLength < HEAD_BYTES) {
+                        int copy = Math.min(n, HEAD_BYTES - headLength);
+                        System.arraycopy(buffer, 0, head, headLength, copy);
+                        headLength += copy;
+                    }
+                    size += n;
+                    if (size > maxSize) {
+                        throw new IllegalArgumentException("이미지는 " + maxSize / (1024 * 1024) + "MB 까지 올릴 수 있습니다.");
+                    }
+                    digest.update(buffer, 0, n);
+                    out.write(buffer, 0, n);
+                }
+            }
+
+            String extension = extension(head, headLength);
+            if (extension == null) {
+                throw new IllegalArgumentException("지원하지 않는 이미지 형식입니다.");
+            }
+            String hash = HexFormat.of().formatHex(digest.digest());
+            String key = hash.substring(0, 2) + "/" + hash + "." + extension;
+
+            Path target = root.resolve(key);
+            if (!Files.exists(target)) {
+                Files.createDirectories(target.getParent());
+                try {
+                    Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+                } catch (FileAlreadyExistsException e) {
+                    // 같은 이미지가 동시에 올라온 경우 - 내용이 같으므로 먼저 저장된 파일 사용
+                }
+            }
+            return key;
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    public static boolean isKey(String value) {
+        return value != null && KEY.matcher(value).matches();
+    }
+
+    // 키 → 파일 (키 형식이 아니면 empty → 경로 조작 방지)
+    public Optional<Path> resolve(String key) {
+        if (!isKey(key)) {
+            return Optional.empty();
+        }
+        Path path = root.resolve(key);
+        return Files.isRegularFile(path) ? Optional.of(path) : Optional.empty();
+    }
+
+    // 응답용 이미지 주소 (아직 옮기지 않은 예전 base64 값은 data URI 로)
+    public static String url(String value) {
+        if (isKey(value)) {
+            return URL_PREFIX + value;
+        }
+        return "data:image/png;base64," + value;
+    }
+
+    public static String contentType(String key) {
+        String extension = key.substring(key.lastIndexOf('.') + 1);
+        return "jpg".equals(extension) ? "image/jpeg" : "image/" + extension;
+    }
+
+    private static String extension(byte[] head, int length) {
+        if (length >= 3 && (head[0] & 0xff) == 0xFF && (head[1] & 0xff) == 0xD8 && (head[2] & 0xff) == 0xFF) {
+            return "jpg";
+        }
+        if (length >= 8 && (head[0] & 0xff) == 0x89 && head[1] == 'P' && head[2] == 'N' && head[3] == 'G') {
+            return "png";
+        }
+        if (length >= 6 && head[0] == 'G' && head[1] == 'I' && head[2] == 'F' && head[3] == '8') {
+            return "gif";
+        }
+        if (length >= 12 && head[0] == 'R' && head[1] == 'I' && head[2] == 'F' && head[3] == 'F'
+                && head[8] == 'W' && head[9] == 'E' && head[10] == 'B' && head[11] == 'P') {
+            return "webp";
+        }
+        return null;
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
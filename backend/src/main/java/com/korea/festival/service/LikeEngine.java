@@ -0,0 +1,175 @@
+package com.korea.festival.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import com.korea.festival.utils.BloomFilter;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 좋아요 토글 공통 처리 (축제 / 게시글 / 리뷰)
+ * - 엔티티를 읽어 메모리에서 +1/-1 하지 않고 (동시 클릭 시 갱신 유실), 좋아요 행의 삭제/추가 결과(영향받은 행 수)로만
+ *   카운터를 UPDATE ... SET likes = likes ± 1 로 원자적으로 바꿈
+ * - (user, target) 유니크 제약이 있어서 같은 사용자가 동시에 눌러도 행은 최대 1개, 카운터는 행 수와 항상 일치
+ * - 호출하는 쪽 트랜잭션 안에서 실행
+ * - 목록 화면의 "내가 좋아요했는지" 는 likedKeys 로 한 페이지를 IN 쿼리 한 번에 조회,
+ *   대상별 Bloom filter 로 좋아요를 누른 적 없는 사용자는 쿼리 없이 빈 결과
+ *   (filter 는 노드 메모리에만 있어서 다른 노드의 좋아요를 모름 → 다중 서버 모드에서는 쓰지 않음)
+ */
+@Slf4j
+@Component
+public class LikeEngine {
+
+    private static final int MAX_IN_SIZE = 1000;
+    private static final String USER_EXISTS_SQL = "SELECT COUNT(*) FROM users WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${like.bloom.expected-users:100000}")
+    private int expectedUsers = 100_000;
+
+    @Value("${chat.cluster.enabled:false}")
+    private boolean clusterEnabled;
+
+    // 대상별 "한 번이라도 좋아요를 누른 사용자" - 아니라고 나오면 목록의 좋아요 여부 조회를 생략
+    private final Map<Target, BloomFilter> likers = new ConcurrentHashMap<>();
+    private volatile boolean ready;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+
+    public LikeEngine(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+    }
+
+    public enum Target {
+        FESTIVAL("festival_likes", "festival_id", "festivals", "likes_count", false, "content_id"),
+        BOARD("board_likes", "board_id", "board", "likes", true, "id"),
+        REVIEW("review_likes", "review_id", "review", "likes", true, "id");
+
+        private final String deleteSql;
+        private final String insertSql;
+        private final String targetExistsSql;
+        private final String incrementSql;
+        private final String decrementSql;
+        private final String countSql;
+        private final String likedKeysSql;
+        private final String usersSql;
+
+        // keyColumn: 목록에서 대상을 구분하는 값 (축제는 content_id, 나머지는 id)
+        Target(String likeTable, String targetColumn, String targetTable, String counterColumn, boolean createdAt,
+               String keyColumn) {
+            this.deleteSql = "DELETE FROM " + likeTable + " WHERE " + targetColumn + " = ? AND user_id = ?";
+            // 이미 있으면 (동시 요청 포함) 0행 - 예외 없이 넘어감
+            this.insertSql = createdAt
+                    ? "INSERT IGNORE INTO " + likeTable + " (" + targetColumn + ", user_id, created_at) VALUES (?, ?, CURRENT_TIMESTAMP)"
+                    : "INSERT IGNORE INTO " + likeTable + " (" + targetColumn + ", user_id) VALUES (?, ?)";
+            this.targetExistsSql = "SELECT COUNT(*) FROM " + targetTable + " WHERE id = ?";
+            this.incrementSql = "UPDATE " + targetTable + " SET " + counterColumn + " = " + counterColumn + " + 1 WHERE id = ?";
+            this.decrementSql = "UPDATE " + targetTable + " SET " + counterColumn + " = " + counterColumn + " - 1 " +
+                    "WHERE id = ? AND " + counterColumn + " > 0";
+            this.countSql = "SELECT " + counterColumn + " FROM " + targetTable + " WHERE id = ?";
+            this.likedKeysSql = "id".equals(keyColumn)
+                    ? "SELECT " + targetColumn + " FROM " + likeTable + " WHERE user_id = :userId AND " + targetColumn + " IN (:keys)"
+                    : "SELECT t." + keyColumn + " FROM " + likeTable + " l JOIN " + targetTable + " t ON t.id = l." + targetColumn +
+                      " WHERE l.user_id = :userId AND t." + keyColumn + " IN (:keys)";
+            this.usersSql = "SELECT DISTINCT user_id FROM " + likeTable;
+        }
+    }
+
+    public Result toggle(Target target, long targetId, long userId) {
+        // 1. 이미 눌렀으면 취소
+        if (jdbcTemplate.update(target.deleteSql, targetId, userId) > 0) {
+            jdbcTemplate.update(target.decrementSql, targetId);
+            return new Result(false, likes(target, targetId));
+        }
+        // 2. 아니면 추가
+        if (jdbcTemplate.update(target.insertSql, targetId, userId) > 0) {
+            if (jdbcTemplate.update(target.incrementSql, targetId) == 0) {
+                // 트랜잭션 롤백으로 추가한 행도 취소됨
+                throw new RuntimeException("좋아요 대상을 찾을 수 없습니다.");
+            }
+            likers(target).add(userId);
+            return new Result(true, likes(target, targetId));
+        }
+        // 3. 추가되지 않음 - 같은 사용자의 동시 요청이 먼저 추가했거나 (MySQL IGNORE 는 외래키 오류도 무시) 대상/사용자가 없음
+        //    좋아요 행은 그 사이 또 다른 요청이 지웠을 수 있으므로 대상과 사용자를 따로 확인
+        if (!exists(target.targetExistsSql, targetId) || !exists(USER_EXISTS_SQL, userId)) {
+            throw new RuntimeException("좋아요 대상을 찾을 수 없습니다.");
+        }
+        return new Result(true, likes(target, targetId));
+    }
+
+    // 목록 한 페이지의 대상 중 userId 가 좋아요한 것 (IN 쿼리 한 번, 좋아요한 적 없는 사용자는 쿼리 없음)
+    public <K> Set<K> likedKeys(Target target, Long userId, Collection<K> keys, Class<K> keyType) {
+        if (userId == null || keys.isEmpty()) {
+            return Set.of();
+        }
+        if (ready && !likers(target).mightContain(userId)) {
+            return Set.of();
+        }
+        Set<K> liked = new HashSet<>();
+        List<K> distinct = new ArrayList<>(new LinkedHashSet<>(keys));
+        for (int i = 0; i < distinct.size(); i += MAX_IN_SIZE) {
+            MapSqlParameterSource params = new MapSqlParameterSource("userId", userId)
+                    .addValue("keys", distinct.subList(i, Math.min(i + MAX_IN_SIZE, distinct.size())));
+            liked.addAll(namedJdbcTemplate.queryForList(target.likedKeysSql, params, keyType));
+        }
+        return liked;
+    }
+
+    public boolean isLiked(Target target, Long userId, Object key) {
+        return !likedKeys(target, userId, List.of(key), Object.class).isEmpty();
+    }
+
+    // 기존 좋아요 사용자들을 filter 에 채움 (그 전까지는 filter 로 건너뛰지 않음)
+    @EventListener(ApplicationReadyEvent.class)
+    public void init() {
+        if (clusterEnabled) {
+            log.info("다중 서버 모드 - 좋아요 사용자 filter 사용 안 함 (항상 DB 조회)");
+            return;
+        }
+        try {
+            for (Target target : Target.values()) {
+                BloomFilter filter = likers(target);
+                jdbcTemplate.query(target.usersSql, rs -> {
+                    filter.add(rs.getLong(1));
+                });
+            }
+            ready = true;
+        } catch (Exception e) {
+            log.warn("좋아요 사용자 filter 초기화 실패 - 항상 DB 조회: {}", e.getMessage());
+        }
+    }
+
+    private BloomFilter likers(Target target) {
+        return likers.computeIfAbsent(target, t -> new BloomFilter(expectedUsers, 0.01));
+    }
+
+    private boolean exists(String sql, long id) {
+        Integer count = jdbcTemplate.queryForObject(sql, Integer.class, id);
+        return count != null && count > 0;
+    }
+
+    private int likes(Target target, long targetId) {
+        Integer likes = jdbcTemplate.queryForObject(target.countSql, Integer.class, targetId);
+        return likes != null ? likes : 0;
+    }
+
+    public record Result(boolean liked, int likes) {
+    }
+}
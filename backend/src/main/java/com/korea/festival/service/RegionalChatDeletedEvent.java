@@ -0,0 +1,6 @@
+package com.korea.festival.service;
+
+// 지역채팅 메시지가 삭제/숨김 처리되었을 때 발행 (본인 삭제, 관리자 삭제, 신고 자동 숨김, 신고 승인)
+// 커밋 후 채팅 핸들러가 받아서 클러스터 전체에 MESSAGE_DELETED 전송
+public record RegionalChatDeletedEvent(String region, Long messageId) {
+}
@@ -0,0 +1,219 @@
+package com.korea.festival.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.korea.festival.dto.RegionalChatDto;
+import com.korea.festival.repository.RegionalChatRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 지역별 최근 메시지 링 버퍼
+ * - JOIN_REGION 때마다 DB를 조회하지 않도록 최근 N개 메시지를 메모리에 유지
+ * - 전송/삭제/숨김 시 갱신되고, REGION_MESSAGES 프레임은 미리 직렬화해서 재사용
+ * - 서버 시작 시 지역별로 한 번씩 조회해서 채움
+ * - 메시지는 seq 순서로 유지 (동시 전송/원격 이벤트로 늦게 도착한 메시지는 제자리에 삽입)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RegionalChatRecentCache {
+
+    private final RegionalChatRepository regionalChatRepository;
+    private final ObjectMapper objectMapper;
+
+    @Value("${chat.region.recent-message-count:50}")
+    private int capacity;
+
+    private final Map<String, RegionBuffer> buffers = new ConcurrentHashMap<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        try {
+            List<String> regions = regionalChatRepository.findDistinctRegions();
+            regions.forEach(this::buffer);
+            log.info("최근 메시지 캐시 초기화 완료: {}개 지역", regions.size());
+        } catch (Exception e) {
+            // 실패해도 지역별로 처음 조회할 때 다시 로드됨
+            log.error("최근 메시지 캐시 초기화 실패", e);
+        }
+    }
+
+    public void append(RegionalChatDto message) {
+        buffer(message.getRegion()).append(message);
+    }
+
+    public void remove(String region, Long messageId) {
+        RegionBuffer buffer = buffers.get(region);
+        if (buffer != null) {
+            buffer.remove(messageId);
+        }
+    }
+
+    // 최신순 메시지 목록
+    public List<RegionalChatDto> getRecentMessages(String region) {
+        return buffer(region).newestFirst();
+    }
+
+    /**
+     * lastSeenSeq 이후 메시지 (오래된 순). 버퍼가 그 구간을 모두 담고 있지 않으면 null
+     */
+    public List<RegionalChatDto> getMessagesAfter(String region, long lastSeenSeq) {
+        return buffer(region).after(lastSeenSeq);
+    }
+
+    // 미리 직렬화된 REGION_MESSAGES 프레임
+    public String getSnapshotFrame(String region) {
+        return buffer(region).snapshotFrame();
+    }
+
+    private RegionBuffer buffer(String region) {
+        return buffers.computeIfAbsent(region, this::load);
+    }
+
+    private RegionBuffer load(String region) {
+        List<RegionalChatDto> recent = regionalChatRepository.findRecentByRegion(region, PageRequest.of(0, capacity));
+        RegionBuffer buffer = new RegionBuffer(capacity);
+        // 조회 결과는 최신순이므로 오래된 것부터 넣는다
+        for (int i = recent.size() - 1; i >= 0; i--) {
+            buffer.append(recent.get(i));
+        }
+        return buffer;
+    }
+
+    // 고정 크기 원형 버퍼 (지역 단위 락)
+    private class RegionBuffer {
+        private final RegionalChatDto[] slots;
+        private int head; // 다음에 쓸 위치
+        private int count;
+        private volatile String snapshot;
+
+        RegionBuffer(int capacity) {
+            this.slots = new RegionalChatDto[capacity];
+        }
+
+        synchronized void append(RegionalChatDto message) {
+            if (count > 0 && message.getSeq() != null) {
+                Long newestSeq = slots[(head - 1 + slots.length) % slots.length].getSeq();
+                if (newestSeq != null && message.getSeq() < newestSeq) {
+                    insertInOrder(message);
+                    return;
+                }
+            }
+            push(message);
+        }
+
+        private void push(RegionalChatDto message) {
+            slots[head] = message;
+            head = (head + 1) % slots.length;
+            if (count < slots.length) {
+                count++;
+            }
+            snapshot = null;
+        }
+
+        synchronized void remove(Long messageId) {
+            List<RegionalChatDto> remaining = new ArrayList<>(count);
+            boolean removed = false;
+            for (RegionalChatDto message : oldestFirst()) {
+                if (message.getId().equals(messageId)) {
+                    removed = true;
+                } else {
+                    remaining.add(message);
+                }
+            }
+            if (removed) {
+                reset(remaining);
+            }
+        }
+
+        private void insertInOrder(RegionalChatDto message) {
+            List<RegionalChatDto> messages = oldestFirst();
+            Long oldestSeq = messages.get(0).getSeq();
+            if (count == slots.length && oldestSeq != null && message.getSeq() < oldestSeq) {
+                return; // 버퍼 범위보다 오래된 메시지
+            }
+            messages.add(message);
+            messages.sort(Comparator.comparing(RegionalChatDto::getSeq, Comparator.nullsFirst(Comparator.naturalOrder())));
+            reset(messages.subList(Math.max(0, messages.size() - slots.length), messages.size()));
+        }
+
+        private void reset(List<RegionalChatDto> messages) {
+            Arrays.fill(slots, null);
+            head = 0;
+            count = 0;
+            messages.forEach(this::push);
+            snapshot = null;
+        }
+
+        // 가장 오래된 메시지가 lastSeenSeq 바로 다음 순번 이하여야 빠진 메시지가 없다고 볼 수 있음
+        synchronized List<RegionalChatDto> after(long lastSeenSeq) {
+            List<RegionalChatDto> messages = oldestFirst();
+            if (messages.isEmpty() || messages.get(0).getSeq() == null || messages.get(0).getSeq() > lastSeenSeq + 1) {
+                return null;
+            }
+            List<RegionalChatDto> delta = new ArrayList<>();
+            for (RegionalChatDto message : messages) {
+                if (message.getSeq() != null && message.getSeq() > lastSeenSeq) {
+                    delta.add(message);
+                }
+            }
+            return delta;
+        }
+
+        synchronized List<RegionalChatDto> newestFirst() {
+            List<RegionalChatDto> messages = oldestFirst();
+            Collections.reverse(messages);
+            return messages;
+        }
+
+        String snapshotFrame() {
+            String frame = snapshot;
+            if (frame == null) {
+                synchronized (this) {
+                    if (snapshot == null) {
+                        snapshot = serialize(newestFirst());
+                    }
+                    frame = snapshot;
+                }
+            }
+            return frame;
+        }
+
+        private List<RegionalChatDto> oldestFirst() {
+            List<RegionalChatDto> messages = new ArrayList<>(count);
+            int start = (head - count + slots.length) % slots.length;
+            for (int i = 0; i < count; i++) {
+                messages.add(slots[(start + i) % slots.length]);
+            }
+            return messages;
+        }
+    }
+
+    private String serialize(List<RegionalChatDto> messages) {
+        ObjectNode frame = objectMapper.createObjectNode();
+        frame.put("type", "REGION_MESSAGES");
+        frame.set("messages", objectMapper.valueToTree(messages));
+        try {
+            return objectMapper.writeValueAsString(frame);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("최근 메시지 직렬화 실패", e);
+        }
+    }
+}
@@ -1,12 +1,18 @@
 package com.korea.festival.service;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.TreeMap;
 import java.util.stream.Collectors;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.korea.festival.dto.RegionalChatDto;
@@ -32,6 +38,15 @@ public class RegionalChatService {
     private final RegionalChatRepository regionalChatRepository;
     private final RegionalChatReportRepository reportRepository;
     private final UserRepository userRepository;
+    private final RegionalChatWriteBehindService writeBehindService;
+    private final ChatMessageIdAllocator messageIdAllocator;
+    private final RegionalChatRecentCache recentCache;
+    private final ChatRateLimiter rateLimiter;
+    private final ChatSequenceAllocator sequenceAllocator;
+    private final ApplicationEventPublisher eventPublisher;
+    
+    @Value("${chat.region.catch-up-limit:200}")
+    private int catchUpLimit;
     
     @Transactional(readOnly = true)
     public Page<RegionalChatDto> getRegionalMessages(String region, Pageable pageable) {
@@ -55,33 +70,66 @@ public class RegionalChatService {
         return messages.map(chat -> convertToDto(chat));
     }
     
-    public RegionalChatDto sendMessage(String username, RegionalChatDto chatDto) {
-        User user = userRepository.findByUsername(username)
-            .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다"));
-        
+    // 메시지 전송 - DB 조회 없이 ID를 발급하고 write-behind 큐에 넣은 뒤 바로 반환
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public RegionalChatDto sendMessage(Long userId, String nickname, RegionalChatDto chatDto) {
         // 메시지 길이 및 내용 검증
         if (chatDto.getMessage().length() > 500) {
             throw new RuntimeException("메시지는 500자를 초과할 수 없습니다");
         }
         
-        // 스팸 방지 (1분 내 동일한 메시지 체크)
-        if (isDuplicateMessage(user, chatDto.getMessage(), chatDto.getRegion())) {
-            throw new RuntimeException("동일한 메시지를 너무 자주 보낼 수 없습니다");
-        }
+        // 전송 속도 / 중복 메시지 제한 (메모리)
+        rateLimiter.check(userId, chatDto.getRegion(), chatDto.getMessage());
         
-        RegionalChat chat = RegionalChat.builder()
-            .user(user)
-            .region(chatDto.getRegion())
-            .message(chatDto.getMessage())
-            .build();
+        RegionalChatDto message = new RegionalChatDto();
+        message.setId(messageIdAllocator.nextId());
+        message.setSeq(sequenceAllocator.next(chatDto.getRegion()));
+        message.setRegion(chatDto.getRegion());
+        message.setMessage(chatDto.getMessage());
+        message.setUserNickname(nickname);
+        message.setCreatedAt(LocalDateTime.now());
         
-        RegionalChat saved = regionalChatRepository.save(chat);
-        log.info("새 메시지 저장: 사용자={}, 지역={}", username, chatDto.getRegion());
+        writeBehindService.enqueue(new RegionalChatWriteBehindService.PendingChat(
+            message.getId(), userId, message.getRegion(), message.getMessage(), message.getCreatedAt(), message.getSeq()));
+        recentCache.append(message);
+        log.debug("새 메시지 저장 대기: 사용자ID={}, 지역={}, 메시지ID={}", userId, message.getRegion(), message.getId());
         
-        return convertToDto(saved);
+        return message;
+    }
+    
+    /**
+     * 재접속 이어받기 - lastSeenSeq 이후 메시지 (오래된 순)
+     * 최근 메시지 캐시로 충분하면 캐시에서, 아니면 (region, seq) 범위 조회 + 아직 저장 대기 중인 캐시 메시지로 보충.
+     * 놓친 메시지가 catch-up-limit 를 넘거나 순번이 맞지 않으면 null (전체 목록 재전송)
+     */
+    @Transactional(readOnly = true)
+    public List<RegionalChatDto> getMessagesAfter(String region, long lastSeenSeq) {
+        if (lastSeenSeq > sequenceAllocator.current(region)) {
+            return null;
+        }
+        List<RegionalChatDto> cached = recentCache.getMessagesAfter(region, lastSeenSeq);
+        if (cached != null) {
+            return cached;
+        }
+        
+        List<RegionalChatDto> stored = regionalChatRepository.findByRegionAfterSeq(
+            region, lastSeenSeq, PageRequest.of(0, catchUpLimit + 1));
+        if (stored.size() > catchUpLimit) {
+            return null;
+        }
+        TreeMap<Long, RegionalChatDto> merged = new TreeMap<>();
+        stored.forEach(message -> merged.put(message.getSeq(), message));
+        for (RegionalChatDto message : recentCache.getRecentMessages(region)) {
+            if (message.getSeq() != null && message.getSeq() > lastSeenSeq) {
+                merged.putIfAbsent(message.getSeq(), message);
+            }
+        }
+        return merged.size() > catchUpLimit ? null : new ArrayList<>(merged.values());
     }
     
     public void deleteMessage(String username, Long messageId) {
+        writeBehindService.awaitPersisted(messageId);
+        
         User user = userRepository.findByUsername(username)
             .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다"));
         
@@ -94,11 +142,14 @@ public class RegionalChatService {
         }
         
         regionalChatRepository.delete(message);
+        removeFromRegion(message.getRegion(), messageId);
         log.info("메시지 삭제: 사용자={}, 메시지ID={}", username, messageId);
     }
     
     // 관리자용 메시지 삭제
     public void deleteMessageByAdmin(Long messageId, String adminUsername) {
+        writeBehindService.awaitPersisted(messageId);
+        
         User admin = userRepository.findByUsername(adminUsername)
             .orElseThrow(() -> new RuntimeException("관리자를 찾을 수 없습니다"));
         
@@ -106,11 +157,14 @@ public class RegionalChatService {
             .orElseThrow(() -> new RuntimeException("메시지를 찾을 수 없습니다"));
         
         regionalChatRepository.delete(message);
+        removeFromRegion(message.getRegion(), messageId);
         log.info("관리자 메시지 삭제: 관리자={}, 메시지ID={}", adminUsername, messageId);
     }
     
     // 신고 기능
     public void reportMessage(Long messageId, Long reporterId, String reporterNickname, String reason) {
+        writeBehindService.awaitPersisted(messageId);
+        
         RegionalChat message = regionalChatRepository.findById(messageId)
             .orElseThrow(() -> new RuntimeException("신고할 메시지를 찾을 수 없습니다"));
 
@@ -137,6 +191,7 @@ public class RegionalChatService {
         if (reportCount >= 5) {
             message.setIsHidden(true); // setHidden 대신 setIsHidden 사용
             regionalChatRepository.save(message);
+            removeFromRegion(message.getRegion(), messageId);
             log.info("메시지 자동 숨김 처리: 메시지ID={}, 신고수={}", messageId, reportCount);
         }
     }
@@ -173,6 +228,7 @@ public class RegionalChatService {
 
             // 2. 메시지 삭제
             regionalChatRepository.delete(chat);
+            removeFromRegion(chat.getRegion(), chat.getId());
         }
 
         log.info("신고 처리 완료: 관리자={}, 신고ID={}, 처리결과={}", adminUsername, reportId, status);
@@ -198,10 +254,10 @@ public class RegionalChatService {
             .collect(Collectors.toList());
     }
     
-    private boolean isDuplicateMessage(User user, String message, String region) {
-        LocalDateTime oneMinuteAgo = LocalDateTime.now().minusMinutes(1);
-        return regionalChatRepository.existsByUserAndMessageAndRegionAndCreatedAtAfter(
-            user, message, region, oneMinuteAgo);
+    // 최근 메시지 캐시에서 빼고, 커밋 후 접속자 화면(다른 노드 포함)에서도 지우도록 이벤트 발행
+    private void removeFromRegion(String region, Long messageId) {
+        recentCache.remove(region, messageId);
+        eventPublisher.publishEvent(new RegionalChatDeletedEvent(region, messageId));
     }
     
     private RegionalChatDto convertToDto(RegionalChat chat) {
@@ -211,6 +267,7 @@ public class RegionalChatService {
         dto.setMessage(chat.getMessage());
         dto.setUserNickname(chat.getUser().getNickname());
         dto.setCreatedAt(chat.getCreatedAt());
+        dto.setSeq(chat.getSeq());
         return dto;
     }
     
@@ -0,0 +1,348 @@
+package com.korea.festival.service;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.korea.festival.exception.ChatRejectedException;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 지역 채팅 메시지 write-behind 저장 파이프라인
+ * - 웹소켓 스레드는 큐에 넣기만 하고 바로 브로드캐스트한다
+ * - 전용 플러셔 스레드가 batch-size 단위로 JDBC batch insert
+ * - 큐가 가득 차면 offer-timeout 만큼 기다린 뒤 거절 (backpressure)
+ * - 저장 실패한 배치는 retry-dir 에 파일로 남기고 스케줄러가 재시도
+ *   재시도로 저장될 때까지 해당 ID 는 pendingIds 에 남아 있음 (재시작 시 파일에서 다시 읽음)
+ * - pendingIds 는 이 노드가 받은 메시지만 알고 있음 → 클러스터 모드의 awaitPersisted 는 다른 노드가 받은 메시지를
+ *   그 노드의 플러시 주기 동안 DB 에서 기다림
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RegionalChatWriteBehindService {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO regional_chats (id, user_id, region, message, created_at, seq, is_hidden, report_count, message_type) " +
+            "VALUES (?, ?, ?, ?, ?, ?, false, 0, 'NORMAL')";
+
+    // 재시도 시에는 이미 커밋된 행이 있을 수 있으므로 중복 키는 무시
+    private static final String RETRY_INSERT_SQL =
+            "INSERT IGNORE INTO regional_chats (id, user_id, region, message, created_at, seq, is_hidden, report_count, message_type) " +
+            "VALUES (?, ?, ?, ?, ?, ?, false, 0, 'NORMAL')";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${chat.persistence.queue-capacity:10000}")
+    private int queueCapacity;
+
+    @Value("${chat.persistence.batch-size:200}")
+    private int batchSize;
+
+    @Value("${chat.persistence.flush-interval:200}")
+    private long flushIntervalMs;
+
+    @Value("${chat.persistence.offer-timeout:50}")
+    private long offerTimeoutMs;
+
+    @Value("${chat.persistence.retry-dir:logs/chat-retry}")
+    private String retryDir;
+
+    @Value("${chat.cluster.enabled:false}")
+    private boolean clusterEnabled;
+
+    private BlockingQueue<PendingChat> queue;
+    private final Set<Long> pendingIds = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger retryBacklog = new AtomicInteger();
+    private final Object flushLock = new Object();
+
+    private TransactionTemplate transactionTemplate;
+    private Thread flusher;
+    private volatile boolean running;
+
+    private Timer flushTimer;
+    private Counter persistedCounter;
+    private Counter rejectedCounter;
+    private Counter journaledCounter;
+
+    @PostConstruct
+    public void start() throws IOException {
+        queue = new ArrayBlockingQueue<>(queueCapacity);
+        transactionTemplate = new TransactionTemplate(transactionManager);
+
+        Files.createDirectories(Paths.get(retryDir));
+        List<Path> retryFiles = listRetryFiles();
+        retryBacklog.set(retryFiles.size());
+        // 이전 실행에서 저장하지 못한 메시지도 재시도로 저장될 때까지는 "저장 대기" 상태
+        for (Path file : retryFiles) {
+            readJournal(file).forEach(chat -> pendingIds.add(chat.id()));
+        }
+
+        Gauge.builder("chat.persistence.queue.depth", queue, BlockingQueue::size)
+                .description("저장 대기 중인 채팅 메시지 수")
+                .register(meterRegistry);
+        Gauge.builder("chat.persistence.retry.backlog", retryBacklog, AtomicInteger::get)
+                .description("재시도 대기 중인 배치 파일 수")
+                .register(meterRegistry);
+        flushTimer = Timer.builder("chat.persistence.flush.latency")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        persistedCounter = meterRegistry.counter("chat.persistence.persisted");
+        rejectedCounter = meterRegistry.counter("chat.persistence.rejected");
+        journaledCounter = meterRegistry.counter("chat.persistence.journaled");
+
+        running = true;
+        flusher = new Thread(this::runFlusher, "chat-flusher");
+        flusher.setDaemon(true);
+        flusher.start();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        flusher.interrupt();
+        flusher.join(TimeUnit.SECONDS.toMillis(10));
+        // 종료 시 남은 메시지 모두 저장
+        flushPending(null);
+    }
+
+    /**
+     * 저장 큐에 메시지 추가. 큐가 가득 차 있으면 ChatRejectedException
+     */
+    public void enqueue(PendingChat chat) {
+        pendingIds.add(chat.id());
+        boolean accepted;
+        try {
+            accepted = queue.offer(chat, offerTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            accepted = false;
+        }
+        if (!accepted) {
+            pendingIds.remove(chat.id());
+            rejectedCounter.increment();
+            throw new ChatRejectedException("채팅 서버가 혼잡합니다. 잠시 후 다시 시도해주세요.");
+        }
+    }
+
+    /**
+     * 아직 저장되지 않은 메시지라면 즉시 플러시하고 저장될 때까지 잠시 대기
+     * (삭제/신고처럼 DB 행이 필요한 작업 전에 호출)
+     * 저장 실패로 재시도 대기 중이면 바로 한 번 재시도하고, 그래도 저장되지 않았으면 ChatRejectedException
+     * 클러스터 모드에서 이 노드가 모르는 ID 면 다른 노드 큐에 있을 수 있으므로 DB 에 나타날 때까지 잠시 대기
+     * (그 노드가 저장에 실패해 재시도 중이거나 없는 ID 면 ChatRejectedException)
+     */
+    public void awaitPersisted(Long messageId) {
+        if (messageId == null) {
+            return;
+        }
+        if (!pendingIds.contains(messageId)) {
+            if (clusterEnabled) {
+                awaitRemotePersisted(messageId);
+            }
+            return;
+        }
+        flushPending(null);
+        // 플러시가 끝났는데도 남아 있으면 저장 실패로 재시도 파일에 있는 메시지
+        if (pendingIds.contains(messageId) && retryBacklog.get() > 0) {
+            replayJournal();
+        }
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(2);
+        while (pendingIds.contains(messageId) && System.nanoTime() < deadline) {
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1));
+        }
+        if (pendingIds.contains(messageId)) {
+            throw new ChatRejectedException("메시지가 아직 저장되지 않았습니다. 잠시 후 다시 시도해주세요.");
+        }
+    }
+
+    private void awaitRemotePersisted(long messageId) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(2);
+        while (!exists(messageId)) {
+            if (System.nanoTime() >= deadline) {
+                throw new ChatRejectedException("메시지가 아직 저장되지 않았습니다. 잠시 후 다시 시도해주세요.");
+            }
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(Math.max(1, flushIntervalMs / 4)));
+        }
+    }
+
+    private boolean exists(long messageId) {
+        Integer count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM regional_chats WHERE id = ?", Integer.class, messageId);
+        return count != null && count > 0;
+    }
+
+    // 재시도 파일에 남아 있는 메시지 중 가장 큰 ID (ID 발급기가 이 값 이후부터 발급하도록)
+    public long maxJournaledId() {
+        long max = 0;
+        for (Path file : listRetryFiles()) {
+            for (PendingChat chat : readJournal(file)) {
+                max = Math.max(max, chat.id());
+            }
+        }
+        return max;
+    }
+
+    // 재시도 파일에 남아 있는 해당 지역 메시지 중 가장 큰 순번 (순번 발급기가 이 값 이후부터 발급하도록)
+    public long maxJournaledSeq(String region) {
+        long max = 0;
+        for (Path file : listRetryFiles()) {
+            for (PendingChat chat : readJournal(file)) {
+                if (region.equals(chat.region()) && chat.seq() != null) {
+                    max = Math.max(max, chat.seq());
+                }
+            }
+        }
+        return max;
+    }
+
+    public int getQueueDepth() {
+        return queue.size();
+    }
+
+    private void runFlusher() {
+        while (running) {
+            try {
+                PendingChat head = queue.poll(flushIntervalMs, TimeUnit.MILLISECONDS);
+                if (head != null) {
+                    flushPending(head);
+                }
+            } catch (InterruptedException e) {
+                // stop() 에서 깨운 경우 - running 플래그로 종료 판단
+            } catch (Exception e) {
+                log.error("채팅 플러셔 오류", e);
+            }
+        }
+    }
+
+    private void flushPending(PendingChat head) {
+        synchronized (flushLock) {
+            List<PendingChat> batch = new ArrayList<>(batchSize);
+            if (head != null) {
+                batch.add(head);
+            }
+            do {
+                queue.drainTo(batch, batchSize - batch.size());
+                if (batch.isEmpty()) {
+                    return;
+                }
+                writeBatch(batch);
+                batch.clear();
+            } while (!queue.isEmpty());
+        }
+    }
+
+    private void writeBatch(List<PendingChat> batch) {
+        long start = System.nanoTime();
+        try {
+            transactionTemplate.executeWithoutResult(status -> batchInsert(INSERT_SQL, batch));
+            persistedCounter.increment(batch.size());
+            batch.forEach(chat -> pendingIds.remove(chat.id()));
+        } catch (Exception e) {
+            log.error("채팅 배치 저장 실패 - 재시도 큐로 이동: {}건", batch.size(), e);
+            journal(batch);
+        } finally {
+            flushTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private void batchInsert(String sql, List<PendingChat> batch) {
+        jdbcTemplate.batchUpdate(sql, batch, batch.size(), (ps, chat) -> {
+            ps.setLong(1, chat.id());
+            ps.setLong(2, chat.userId());
+            ps.setString(3, chat.region());
+            ps.setString(4, chat.message());
+            ps.setTimestamp(5, Timestamp.valueOf(chat.createdAt()));
+            ps.setObject(6, chat.seq()); // seq 이전에 기록된 재시도 파일은 null
+        });
+    }
+
+    // 실패한 배치를 파일로 보관 (서버가 재시작되어도 유지)
+    private void journal(List<PendingChat> batch) {
+        Path file = Paths.get(retryDir, "chat-" + System.currentTimeMillis() + "-" + batch.get(0).id() + ".json");
+        try {
+            objectMapper.writeValue(file.toFile(), batch);
+            retryBacklog.incrementAndGet();
+            journaledCounter.increment(batch.size());
+        } catch (IOException e) {
+            log.error("재시도 파일 기록 실패 - 메시지 유실: {}건", batch.size(), e);
+            // 더 이상 저장될 일이 없으므로 기다리지 않도록
+            batch.forEach(chat -> pendingIds.remove(chat.id()));
+        }
+    }
+
+    private List<PendingChat> readJournal(Path file) {
+        try {
+            return objectMapper.readValue(file.toFile(), new TypeReference<List<PendingChat>>() {});
+        } catch (IOException e) {
+            log.error("재시도 파일 읽기 실패: {}", file.getFileName(), e);
+            return List.of();
+        }
+    }
+
+    // 재시도 큐 처리 (스케줄러와 awaitPersisted 가 동시에 돌지 않도록 synchronized)
+    @Scheduled(fixedDelayString = "${chat.persistence.retry-interval:30000}")
+    public synchronized void replayJournal() {
+        for (Path file : listRetryFiles()) {
+            try {
+                List<PendingChat> batch = objectMapper.readValue(file.toFile(), new TypeReference<List<PendingChat>>() {});
+                transactionTemplate.executeWithoutResult(status -> batchInsert(RETRY_INSERT_SQL, batch));
+                Files.delete(file);
+                retryBacklog.decrementAndGet();
+                persistedCounter.increment(batch.size());
+                batch.forEach(chat -> pendingIds.remove(chat.id()));
+                log.info("채팅 재시도 배치 저장 완료: {} ({}건)", file.getFileName(), batch.size());
+            } catch (Exception e) {
+                log.warn("채팅 재시도 배치 저장 실패 - 다음 주기에 재시도: {}", file.getFileName(), e);
+                return;
+            }
+        }
+    }
+
+    private List<Path> listRetryFiles() {
+        List<Path> files = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(Paths.get(retryDir), "chat-*.json")) {
+            stream.forEach(files::add);
+        } catch (IOException e) {
+            log.error("재시도 디렉터리 조회 실패: {}", retryDir, e);
+        }
+        files.sort(null);
+        return files;
+    }
+
+    // 저장 대기 중인 메시지
+    public record PendingChat(Long id, Long userId, String region, String message, LocalDateTime createdAt, Long seq) {
+    }
+}
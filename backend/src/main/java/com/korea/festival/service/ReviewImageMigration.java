@@ -0,0 +1,129 @@
+package com.korea.festival.service;
+
+import java.io.InputStream;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * review_images 의 예전 base64 값을 ImageStore 파일로 옮기는 일회성 작업
+ * - app.upload.migrate-review-images=true 로 기동하면 백그라운드에서 한 번 실행
+ * - 리뷰 id 순으로 batchSize 개씩, 각 값은 문자열로 만들지 않고 스트림으로 base64 디코딩 → 파일
+ *   (MySQL 드라이버는 기본적으로 결과 전체를 메모리에 올리므로 fetchSize Integer.MIN_VALUE 로 한 행씩 받음.
+ *    행 하나의 값은 드라이버가 메모리에 올리므로 한 번에 메모리에 있는 것은 이미지 한 장 분량)
+ * - 예전에 이미 받은 이미지이므로 업로드 크기 제한(max-image-size)은 적용하지 않음 (넘는다고 실패시키면 영원히 남음)
+ * - 리뷰 단위 트랜잭션으로 base64 행을 지우고 키 행을 넣음 (하나라도 실패한 리뷰는 그대로 두고 다음 실행 때 재시도)
+ * - 옮기는 동안에도 ImageStore.url 이 두 형식을 모두 응답하므로 서비스 중단 없음
+ */
+@Slf4j
+@Component
+public class ReviewImageMigration {
+
+    // 키 ("ab/<sha256>.webp") 는 이보다 짧음 → 이보다 긴 값만 base64 로 취급
+    private static final int KEY_MAX_LENGTH = 80;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ImageStore imageStore;
+
+    @Value("${app.upload.migrate-review-images:false}")
+    private boolean enabled;
+
+    @Value("${app.upload.migration-batch-size:50}")
+    private int batchSize = 50;
+
+    public ReviewImageMigration(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                                ImageStore imageStore) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.imageStore = imageStore;
+    }
+
+    @Async("taskExecutor")
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        if (enabled) {
+            migrate();
+        }
+    }
+
+    // 옮긴 이미지 수
+    public int migrate() {
+        long lastReviewId = 0;
+        int migrated = 0;
+        int failedReviews = 0;
+        while (true) {
+            List<Long> reviewIds = jdbcTemplate.queryForList(
+                    "SELECT DISTINCT review_id FROM review_images WHERE review_id > ? AND LENGTH(image) > ? " +
+                    "ORDER BY review_id LIMIT ?", Long.class, lastReviewId, KEY_MAX_LENGTH, batchSize);
+            if (reviewIds.isEmpty()) {
+                break;
+            }
+            for (Long reviewId : reviewIds) {
+                try {
+                    migrated += migrateReview(reviewId);
+                } catch (Exception e) {
+                    failedReviews++;
+                    log.warn("리뷰 이미지 이전 실패 - reviewId={}: {}", reviewId, e.getMessage());
+                }
+            }
+            lastReviewId = reviewIds.get(reviewIds.size() - 1);
+            log.info("리뷰 이미지 이전 중 - reviewId {} 까지, 이미지 {}건", lastReviewId, migrated);
+        }
+        log.info("리뷰 이미지 이전 완료 - 이미지 {}건, 실패한 리뷰 {}건", migrated, failedReviews);
+        return migrated;
+    }
+
+    private int migrateReview(long reviewId) {
+        // 이미 키인 값 + 새로 옮긴 키 (같은 이미지는 하나로)
+        Set<String> keys = new LinkedHashSet<>(jdbcTemplate.queryForList(
+                "SELECT image FROM review_images WHERE review_id = ? AND LENGTH(image) <= ?",
+                String.class, reviewId, KEY_MAX_LENGTH));
+        List<String> converted = new ArrayList<>();
+        jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(
+                    "SELECT image FROM review_images WHERE review_id = ? AND LENGTH(image) > ?",
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            // MySQL 은 이 값일 때만 결과를 한 행씩 받아 옴
+            ps.setFetchSize(isMySql(con) ? Integer.MIN_VALUE : 1);
+            ps.setLong(1, reviewId);
+            ps.setInt(2, KEY_MAX_LENGTH);
+            return ps;
+        }, rs -> {
+            try (InputStream in = Base64.getMimeDecoder().wrap(rs.getAsciiStream(1))) {
+                converted.add(imageStore.store(in, Long.MAX_VALUE));
+            } catch (Exception e) {
+                throw new IllegalStateException("이미지 변환 실패", e);
+            }
+        });
+        keys.addAll(converted);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.update("DELETE FROM review_images WHERE review_id = ?", reviewId);
+            jdbcTemplate.batchUpdate("INSERT INTO review_images (review_id, image) VALUES (?, ?)",
+                    keys.stream().map(key -> new Object[] {reviewId, key}).toList());
+        });
+        return converted.size();
+    }
+
+    private static boolean isMySql(Connection con) throws SQLException {
+        return con.getMetaData().getDatabaseProductName().toLowerCase().contains("mysql");
+    }
+}
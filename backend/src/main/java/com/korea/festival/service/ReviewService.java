@@ -1,11 +1,7 @@
 package com.korea.festival.service;
 
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
-import java.util.Base64;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -24,13 +20,10 @@ import com.korea.festival.dto.ReviewRequestDTO;
 import com.korea.festival.dto.ReviewResponseDTO;
 import com.korea.festival.entity.Review;
 import com.korea.festival.entity.ReviewComment;
-import com.korea.festival.entity.ReviewLikes;
 import com.korea.festival.entity.User;
 import com.korea.festival.repository.ReviewCommentRepository;
-import com.korea.festival.repository.ReviewLikesRepository;
 import com.korea.festival.repository.ReviewRepository;
 import com.korea.festival.repository.UserRepository;
-import java.io.IOException;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 
@@ -38,31 +31,29 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class ReviewService {
 
+    private static final int MAX_COMMENT_PAGE_SIZE = 100;
+
     private final ReviewCommentRepository commentRepository;
     private final ReviewRepository reviewRepository;
-    private final ReviewLikesRepository reviewLikesRepository;
     private final UserRepository userRepository;
+    private final LikeEngine likeEngine;
+    private final CommentTreeLoader commentTreeLoader;
+    private final ImageStore imageStore;
 
     // 리뷰 작성
     public ReviewResponseDTO reviewWrite(ReviewRequestDTO dto, Long userId, List<MultipartFile> images) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new RuntimeException("사용자 없음"));
         
+        // 이미지는 파일로 저장하고 키만 DB 에 (같은 이미지는 한 번만 저장)
         Set<String> getImages = new HashSet<String>();
         
         if(images != null) {
 	        for(MultipartFile f:images) {
 	        	if(f==null||f.isEmpty()) continue;
-	        	try {
-	        		String base64 = Base64.getEncoder().encodeToString(f.getBytes());
-	        		getImages.add(base64);
-				} catch (Exception e) {
-					e.printStackTrace();
-				}
+	        	getImages.add(imageStore.store(f));
 	        }
         }
-        
-        
 
         Review newReview = Review.builder()
                 .title(dto.getTitle())
@@ -80,15 +71,6 @@ public class ReviewService {
 
         reviewRepository.save(newReview);
 
-//        // 이미지 저장 처리
-//        if (images != null) {
-//            for (MultipartFile file : images) {
-//                String savedPath = saveFile(file); // 파일 저장 로직
-//                newReview.getImages().add(savedPath);
-//            }
-//        }
-//        reviewRepository.save(newReview);
-
         return toDTO(newReview, userId);
     }
 
@@ -111,8 +93,11 @@ public class ReviewService {
 //        return reviews.stream()
 //                .map(review -> toDTO(review, userId))
 //                .collect(Collectors.toList());\
+    	// 페이지 전체의 좋아요 여부를 한 번에 조회
+    	Set<Long> liked = likeEngine.likedKeys(LikeEngine.Target.REVIEW, userId,
+    			reviews.map(Review::getId).getContent(), Long.class);
     	return reviews
-    			.map(review->toDTO(review,userId));
+    			.map(review->toDTO(review,liked.contains(review.getId())));
     }
 
     // 리뷰 수정
@@ -153,38 +138,24 @@ public class ReviewService {
     // 좋아요 토글
     @Transactional
     public ReviewResponseDTO likeToggle(Long reviewId, Long userId) {
+        // 좋아요 행 추가/삭제 + 카운터 증감을 원자적으로 (동시 클릭에도 likes 가 정확함)
+        likeEngine.toggle(LikeEngine.Target.REVIEW, reviewId, userId);
         Review review = reviewRepository.findById(reviewId)
                 .orElseThrow(() -> new RuntimeException("리뷰 없음"));
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new RuntimeException("사용자 없음"));
-
-        reviewLikesRepository.findByReviewIdAndUserId(reviewId, userId).ifPresentOrElse(
-                exist -> {
-                    reviewLikesRepository.delete(exist);
-                    review.setLikes(review.getLikes() - 1);
-                },
-                () -> {
-                    ReviewLikes newLike = new ReviewLikes();
-                    newLike.setReview(review);
-                    newLike.setUser(user);
-                    reviewLikesRepository.save(newLike);
-                    review.setLikes(review.getLikes() + 1);
-                }
-        );
-        
         return toDTO(review, userId);
     }
 
     // 리뷰 → DTO 변환
     private ReviewResponseDTO toDTO(Review review, Long currentUserId) {
-    	
-        boolean liked = currentUserId != null &&
-                        reviewLikesRepository.existsByReviewIdAndUserId(review.getId(), currentUserId);
-        
-        List<ReviewCommentResponseDTO> commentDTOs = review.getComments().stream()
-                .filter(comment -> comment.getParent() == null) // 최상위 댓글만 필터링
-                .map(this::toDTO)
-                .collect(Collectors.toList());
+        return toDTO(review, likeEngine.isLiked(LikeEngine.Target.REVIEW, currentUserId, review.getId()));
+    }
+
+    private ReviewResponseDTO toDTO(Review review, boolean liked) {
+        // 댓글 트리 (쿼리 한 번으로 조립, 최상위 댓글 + replies)
+        List<ReviewCommentResponseDTO> commentDTOs = review.getId() == null ? new ArrayList<>()
+                : commentTreeLoader.load(CommentTreeLoader.Target.REVIEW, review.getId()).stream()
+                        .map(this::toDTO)
+                        .collect(Collectors.toList());
        
 
         return ReviewResponseDTO.builder()
@@ -200,7 +171,7 @@ public class ReviewService {
                 .userId(review.getUser().getId())
                 .tags(review.getTags())
                 .date(review.getDate())
-                .images(review.getImages())
+                .images(review.getImages().stream().map(ImageStore::url).collect(Collectors.toSet()))
                 .comments(commentDTOs)
                 .createdAt(review.getCreatedAt())
                 .updatedAt(review.getUpdatedAt())
@@ -269,8 +240,28 @@ public class ReviewService {
     // 리뷰 댓글 전체 조회 (최상위 + 대댓글)
     @Transactional
     public List<ReviewCommentResponseDTO> commentFindAll(Long reviewId) {
-        List<ReviewComment> comments = commentRepository.findByReviewIdAndParentIsNull(reviewId);
-        return comments.stream().map(this::toDTO).collect(Collectors.toList());
+        return commentTreeLoader.load(CommentTreeLoader.Target.REVIEW, reviewId).stream()
+                .map(this::toDTO)
+                .collect(Collectors.toList());
+    }
+
+    // 리뷰 댓글 페이지 조회 (최상위 댓글 기준, 대댓글 포함)
+    public Page<ReviewCommentResponseDTO> commentFindPage(Long reviewId, int page, int size) {
+        Pageable pageable = PageRequest.of(page, Math.max(1, Math.min(size, MAX_COMMENT_PAGE_SIZE)));
+        return commentTreeLoader.loadThreads(CommentTreeLoader.Target.REVIEW, reviewId, pageable)
+                .map(this::toDTO);
+    }
+
+    // 댓글 트리 노드 → DTO (재귀, 추가 쿼리 없음)
+    private ReviewCommentResponseDTO toDTO(CommentTreeLoader.Node node) {
+        return ReviewCommentResponseDTO.builder()
+                .id(node.row().id())
+                .userId(node.row().userId())
+                .userNickname(node.row().userNickname())
+                .content(node.row().content())
+                .createdAt(node.row().createdAt())
+                .replies(node.replies().stream().map(this::toDTO).collect(Collectors.toList()))
+                .build();
     }
 
     // 댓글 DTO 변환 (재귀)
@@ -294,23 +285,4 @@ public class ReviewService {
         return dto;
     }
     
-    private String saveFile(MultipartFile file) {
-        try {
-            // 업로드 경로 (application.yml의 upload.path 참고)
-            String uploadDir = "C:/festival/uploads/";
-            
-            // 고유 이름 생성 (중복 방지)
-            String filename = System.currentTimeMillis() + "_" + file.getOriginalFilename();
-            
-            // 실제 파일 저장
-            Path path = Paths.get(uploadDir + filename);
-            Files.createDirectories(path.getParent()); // 폴더 없으면 생성
-            file.transferTo(path.toFile());
-
-            // DB에 저장할 경로 반환
-            return filename;
-        } catch (IOException e) {
-            throw new RuntimeException("파일 저장 실패: " + file.getOriginalFilename(), e);
-        }
-    }
 }
\ No newline at end of file
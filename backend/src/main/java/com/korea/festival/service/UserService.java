@@ -81,6 +81,13 @@ public class UserService {
         return userRepository.save(user);
     }
     
+    // 사용자 엔티티 조회
+    @Transactional(readOnly = true)
+    public User getUserByUsername(String username) {
+        return userRepository.findByUsername(username)
+            .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다"));
+    }
+    
     // 사용자 상세 정보 조회
     @Transactional(readOnly = true)
     public UserDetailDto getUserDetailByUsername(String username) {
@@ -0,0 +1,243 @@
+package com.korea.festival.utils;
+
+import java.text.Normalizer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Queue;
+import java.util.TreeMap;
+
+/**
+ * 금칙어 다중 패턴 매칭 (Aho-Corasick)
+ * - 금칙어 목록을 한 번 오토마톤으로 컴파일하고, 메시지는 한 번만 훑어서 포함 여부를 판단
+ * - 생성 후에는 변경되지 않으므로 여러 스레드에서 동시에 사용 가능
+ * - 패턴과 메시지 모두 normalize() 로 정규화한 뒤 비교
+ *   (소문자화, 공백/기호 제거, 한글 음절을 자모로 분해 → "스 팸", "스.팸", "ㅅㅡㅍㅐㅁ" 도 "스팸"으로 인식)
+ * - 공백을 건너 걸친 일치는 띄어 쓴 단어들로만 이루어진 경우만 인정
+ *   ("도 박" 은 금칙어, "제주도 박물관" 은 앞뒤 단어의 일부끼리 붙은 것이라 아님)
+ */
+public final class AhoCorasickMatcher {
+
+    private static final char[] CHOSEONG = {
+        'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ', 'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+    private static final char[] JUNGSEONG = {
+        'ㅏ', 'ㅐ', 'ㅑ', 'ㅒ', 'ㅓ', 'ㅔ', 'ㅕ', 'ㅖ', 'ㅗ', 'ㅘ', 'ㅙ', 'ㅚ', 'ㅛ', 'ㅜ', 'ㅝ', 'ㅞ', 'ㅟ', 'ㅠ', 'ㅡ', 'ㅢ', 'ㅣ'
+    };
+    private static final char[] JONGSEONG = {
+        0, 'ㄱ', 'ㄲ', 'ㄳ', 'ㄴ', 'ㄵ', 'ㄶ', 'ㄷ', 'ㄹ', 'ㄺ', 'ㄻ', 'ㄼ', 'ㄽ', 'ㄾ', 'ㄿ', 'ㅀ', 'ㅁ', 'ㅂ', 'ㅄ', 'ㅅ', 'ㅆ',
+        'ㅇ', 'ㅈ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+    private static final char HANGUL_BASE = 0xAC00;
+    private static final char HANGUL_LAST = 0xD7A3;
+
+    // 상태별 전이 (문자 오름차순, 이진 탐색)
+    private final char[][] edgeChars;
+    private final int[][] edgeTargets;
+    private final int[] fail;
+    // 이 상태(또는 실패 링크로 이어지는 상태)에서 끝나는 금칙어
+    private final String[] output;
+    // 이 상태에서 끝나는 금칙어 (실패 링크 제외) 와 정규화된 길이
+    private final String[] terminal;
+    private final int[] depth;
+    private final int patternCount;
+
+    private AhoCorasickMatcher(char[][] edgeChars, int[][] edgeTargets, int[] fail, String[] output, String[] terminal,
+                               int[] depth, int patternCount) {
+        this.edgeChars = edgeChars;
+        this.edgeTargets = edgeTargets;
+        this.fail = fail;
+        this.output = output;
+        this.terminal = terminal;
+        this.depth = depth;
+        this.patternCount = patternCount;
+    }
+
+    public static AhoCorasickMatcher compile(Collection<String> words) {
+        // 빌드 중에는 TreeMap 트라이, 완료 후 배열로 변환
+        List<TreeMap<Character, Integer>> trie = new ArrayList<>();
+        List<String> terminal = new ArrayList<>();
+        List<Integer> depths = new ArrayList<>();
+        trie.add(new TreeMap<>());
+        terminal.add(null);
+        depths.add(0);
+        int patterns = 0;
+
+        for (String word : words) {
+            if (word == null) {
+                continue;
+            }
+            String normalized = normalize(word);
+            if (normalized.isEmpty()) {
+                continue;
+            }
+            int state = 0;
+            for (int i = 0; i < normalized.length(); i++) {
+                char c = normalized.charAt(i);
+                Integer next = trie.get(state).get(c);
+                if (next == null) {
+                    next = trie.size();
+                    trie.add(new TreeMap<>());
+                    terminal.add(null);
+                    depths.add(i + 1);
+                    trie.get(state).put(c, next);
+                }
+                state = next;
+            }
+            if (terminal.get(state) == null) {
+                terminal.set(state, word);
+                patterns++;
+            }
+        }
+
+        int size = trie.size();
+        char[][] edgeChars = new char[size][];
+        int[][] edgeTargets = new int[size][];
+        for (int s = 0; s < size; s++) {
+            TreeMap<Character, Integer> edges = trie.get(s);
+            edgeChars[s] = new char[edges.size()];
+            edgeTargets[s] = new int[edges.size()];
+            int i = 0;
+            for (var edge : edges.entrySet()) {
+                edgeChars[s][i] = edge.getKey();
+                edgeTargets[s][i] = edge.getValue();
+                i++;
+            }
+        }
+
+        // BFS 로 실패 링크 계산
+        int[] fail = new int[size];
+        String[] output = terminal.toArray(new String[0]);
+        String[] own = terminal.toArray(new String[0]);
+        int[] depth = depths.stream().mapToInt(Integer::intValue).toArray();
+        Queue<Integer> queue = new ArrayDeque<>();
+        for (int target : edgeTargets[0]) {
+            queue.add(target);
+        }
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            for (int i = 0; i < edgeChars[state].length; i++) {
+                char c = edgeChars[state][i];
+                int child = edgeTargets[state][i];
+                int f = fail[state];
+                int next;
+                while ((next = transition(edgeChars, edgeTargets, f, c)) < 0 && f != 0) {
+                    f = fail[f];
+                }
+                fail[child] = next >= 0 && next != child ? next : 0;
+                if (output[child] == null) {
+                    output[child] = output[fail[child]];
+                }
+                queue.add(child);
+            }
+        }
+        return new AhoCorasickMatcher(edgeChars, edgeTargets, fail, output, own, depth, patterns);
+    }
+
+    public int getPatternCount() {
+        return patternCount;
+    }
+
+    public boolean containsAny(String text) {
+        return findFirst(text) != null;
+    }
+
+    /**
+     * 메시지에 포함된 첫 번째 금칙어 (원래 표기), 없으면 null
+     */
+    public String findFirst(String text) {
+        if (patternCount == 0 || text == null) {
+            return null;
+        }
+        String compatible = Normalizer.normalize(text, Normalizer.Form.NFKC);
+        // 정규화된 글자마다 원문에서 몇 번째 단어(공백 기준)였는지
+        int[] words = new int[compatible.length() * 3];
+        String normalized = decompose(compatible, words);
+        int state = 0;
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            int next;
+            while ((next = transition(edgeChars, edgeTargets, state, c)) < 0 && state != 0) {
+                state = fail[state];
+            }
+            state = Math.max(next, 0);
+            if (output[state] == null) {
+                continue;
+            }
+            // 여기서 끝나는 금칙어를 긴 것부터 확인
+            for (int s = state; s != 0; s = fail[s]) {
+                if (terminal[s] != null && wholeWords(words, normalized.length(), i - depth[s] + 1, i)) {
+                    return terminal[s];
+                }
+            }
+        }
+        return null;
+    }
+
+    // 한 단어 안의 일치는 그대로 인정, 공백을 건넜으면 첫 단어의 시작부터 마지막 단어의 끝까지여야 함
+    private static boolean wholeWords(int[] words, int length, int start, int end) {
+        if (words[start] == words[end]) {
+            return true;
+        }
+        boolean startsWord = start == 0 || words[start - 1] != words[start];
+        boolean endsWord = end == length - 1 || words[end + 1] != words[end];
+        return startsWord && endsWord;
+    }
+
+    private static int transition(char[][] edgeChars, int[][] edgeTargets, int state, char c) {
+        int index = Arrays.binarySearch(edgeChars[state], c);
+        return index >= 0 ? edgeTargets[state][index] : -1;
+    }
+
+    /**
+     * 비교용 정규화 - 전각/호환 문자 통일(NFKC), 소문자화, 글자/숫자 외 문자 제거, 한글 음절 자모 분해
+     */
+    public static String normalize(String text) {
+        return decompose(Normalizer.normalize(text, Normalizer.Form.NFKC), null);
+    }
+
+    // words 가 있으면 정규화된 글자마다 원문의 단어 번호(공백으로 구분)를 기록
+    private static String decompose(String compatible, int[] words) {
+        StringBuilder sb = new StringBuilder(compatible.length() * 2);
+        int word = 0;
+        boolean space = false;
+        for (int i = 0; i < compatible.length(); i++) {
+            char c = compatible.charAt(i);
+            int before = sb.length();
+            if (Character.isWhitespace(c)) {
+                space = true;
+                continue;
+            }
+            if (c >= HANGUL_BASE && c <= HANGUL_LAST) {
+                int offset = c - HANGUL_BASE;
+                sb.append(CHOSEONG[offset / (21 * 28)]);
+                sb.append(JUNGSEONG[(offset % (21 * 28)) / 28]);
+                char jong = JONGSEONG[offset % 28];
+                if (jong != 0) {
+                    sb.append(jong);
+                }
+            } else if (c >= 0x1100 && c <= 0x1112) {
+                // NFKC 는 호환 자모(ㄱ)를 첫가끝 자모로 바꾸므로 다시 호환 자모로 통일
+                sb.append(CHOSEONG[c - 0x1100]);
+            } else if (c >= 0x1161 && c <= 0x1175) {
+                sb.append(JUNGSEONG[c - 0x1161]);
+            } else if (c >= 0x11A8 && c <= 0x11C2) {
+                sb.append(JONGSEONG[c - 0x11A8 + 1]);
+            } else if (Character.isLetterOrDigit(c)) {
+                sb.append(Character.toLowerCase(c));
+            }
+            if (words != null && sb.length() > before) {
+                if (space && before > 0) {
+                    word++;
+                }
+                space = false;
+                for (int k = before; k < sb.length(); k++) {
+                    words[k] = word;
+                }
+            }
+        }
+        return sb.toString();
+    }
+}
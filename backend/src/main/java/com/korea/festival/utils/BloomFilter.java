@@ -0,0 +1,64 @@
+package com.korea.festival.utils;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * long 키용 Bloom filter
+ * - mightContain 이 false 면 한 번도 add 되지 않은 키 (거짓 음성 없음), true 는 fpp 확률로 틀릴 수 있음
+ * - 삭제는 지원하지 않음 (지워야 할 키가 남아 있어도 "있을 수 있음" 으로 답할 뿐이라 안전)
+ * - 비트 배열을 AtomicLongArray 로 두어 잠금 없이 여러 스레드에서 add / mightContain 가능
+ */
+public final class BloomFilter {
+
+    private final AtomicLongArray bits;
+    private final int bitCount;
+    private final int hashCount;
+
+    public BloomFilter(int expectedInsertions, double fpp) {
+        if (expectedInsertions <= 0 || fpp <= 0 || fpp >= 1) {
+            throw new IllegalArgumentException("Bloom filter 크기 설정이 잘못되었습니다.");
+        }
+        long m = (long) Math.ceil(-expectedInsertions * Math.log(fpp) / (Math.log(2) * Math.log(2)));
+        this.bitCount = (int) Math.max(64, Math.min(m, Integer.MAX_VALUE - 63));
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / expectedInsertions * Math.log(2)));
+        this.bits = new AtomicLongArray((bitCount + 63) / 64);
+    }
+
+    public void add(long key) {
+        long hash = mix(key);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 0; i < hashCount; i++) {
+            int index = Math.floorMod(h1 + i * h2, bitCount);
+            long mask = 1L << index;
+            int word = index >>> 6;
+            long current;
+            while (((current = bits.get(word)) & mask) == 0) {
+                if (bits.compareAndSet(word, current, current | mask)) {
+                    break;
+                }
+            }
+        }
+    }
+
+    public boolean mightContain(long key) {
+        long hash = mix(key);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 0; i < hashCount; i++) {
+            int index = Math.floorMod(h1 + i * h2, bitCount);
+            if ((bits.get(index >>> 6) & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // 순차 id 도 고르게 퍼지도록 (splitmix64)
+    private static long mix(long key) {
+        long z = key + 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,144 @@
+package com.korea.festival.utils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * 위경도 격자 인덱스 (지도 화면 / 반경 검색용)
+ * - 좌표를 cellDegrees 크기의 격자로 나눠 칸별로 묶어 두고, 질의 영역과 겹치는 칸만 확인
+ * - 생성 후 변경되지 않으므로 여러 스레드에서 동시에 사용 가능 (바뀌면 새로 만들어 교체)
+ * - 질의 영역이 차지하는 칸 수가 실제 항목이 있는 칸 수보다 많으면 (아주 넓은 영역) 있는 칸만 훑음
+ *   → 영역 크기와 관계없이 질의 비용은 최대 "채워진 칸 수"
+ * - x = 경도(mapx), y = 위도(mapy)
+ */
+public final class GeoGridIndex<T> {
+
+    private static final double EARTH_RADIUS_KM = 6371.0088;
+
+    private final double cellDegrees;
+    private final Map<Long, Entry<T>[]> cells;
+    private final int size;
+
+    @SuppressWarnings("unchecked")
+    private GeoGridIndex(double cellDegrees, Map<Long, List<Entry<T>>> buckets, int size) {
+        this.cellDegrees = cellDegrees;
+        this.cells = new HashMap<>(buckets.size() * 2);
+        buckets.forEach((key, list) -> cells.put(key, list.toArray(new Entry[0])));
+        this.size = size;
+    }
+
+    public static <T> GeoGridIndex<T> build(Collection<Entry<T>> entries, double cellDegrees) {
+        if (cellDegrees <= 0) {
+            throw new IllegalArgumentException("격자 크기는 0보다 커야 합니다.");
+        }
+        Map<Long, List<Entry<T>>> buckets = new HashMap<>();
+        for (Entry<T> entry : entries) {
+            long key = key(cell(entry.x(), cellDegrees), cell(entry.y(), cellDegrees));
+            buckets.computeIfAbsent(key, k -> new ArrayList<>()).add(entry);
+        }
+        return new GeoGridIndex<>(cellDegrees, buckets, entries.size());
+    }
+
+    public int size() {
+        return size;
+    }
+
+    // 사각 영역 (지도 화면) 안의 항목
+    public List<T> within(double minX, double minY, double maxX, double maxY, Predicate<T> filter, int limit) {
+        double left = Math.min(minX, maxX);
+        double right = Math.max(minX, maxX);
+        double bottom = Math.min(minY, maxY);
+        double top = Math.max(minY, maxY);
+        List<T> result = new ArrayList<>();
+        for (Entry<T>[] bucket : buckets(left, bottom, right, top)) {
+            for (Entry<T> entry : bucket) {
+                if (entry.x() >= left && entry.x() <= right && entry.y() >= bottom && entry.y() <= top
+                        && filter.test(entry.value())) {
+                    result.add(entry.value());
+                    if (result.size() >= limit) {
+                        return result;
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    // 중심에서 radiusKm 이내, 가까운 순
+    public List<Hit<T>> near(double x, double y, double radiusKm, Predicate<T> filter, int limit) {
+        double dy = Math.toDegrees(radiusKm / EARTH_RADIUS_KM);
+        // 극지방에서는 경도 폭이 무한히 커지므로 전체 경도(180°)로 제한
+        double dx = Math.min(180, dy / Math.max(Math.cos(Math.toRadians(y)), 1e-6));
+        List<Hit<T>> hits = new ArrayList<>();
+        for (Entry<T>[] bucket : buckets(x - dx, y - dy, x + dx, y + dy)) {
+            for (Entry<T> entry : bucket) {
+                double km = distanceKm(y, x, entry.y(), entry.x());
+                if (km <= radiusKm && filter.test(entry.value())) {
+                    hits.add(new Hit<>(entry.value(), km));
+                }
+            }
+        }
+        hits.sort(Comparator.comparingDouble(Hit::distanceKm));
+        return hits.size() > limit ? new ArrayList<>(hits.subList(0, limit)) : hits;
+    }
+
+    // 영역과 겹치는 칸들 (칸 번호는 long 으로 비교 → 아주 큰 좌표에서도 넘치지 않음)
+    private List<Entry<T>[]> buckets(double left, double bottom, double right, double top) {
+        long minCx = cell(left, cellDegrees);
+        long maxCx = cell(right, cellDegrees);
+        long minCy = cell(bottom, cellDegrees);
+        long maxCy = cell(top, cellDegrees);
+        List<Entry<T>[]> result = new ArrayList<>();
+        if (minCx > maxCx || minCy > maxCy) {
+            return result;
+        }
+        double span = (double) (maxCx - minCx + 1) * (maxCy - minCy + 1);
+        if (span > cells.size()) {
+            cells.forEach((key, bucket) -> {
+                long cx = (int) (key >> 32);
+                long cy = (int) (long) key;
+                if (cx >= minCx && cx <= maxCx && cy >= minCy && cy <= maxCy) {
+                    result.add(bucket);
+                }
+            });
+            return result;
+        }
+        for (long cx = minCx; cx <= maxCx; cx++) {
+            for (long cy = minCy; cy <= maxCy; cy++) {
+                Entry<T>[] bucket = cells.get(key((int) cx, (int) cy));
+                if (bucket != null) {
+                    result.add(bucket);
+                }
+            }
+        }
+        return result;
+    }
+
+    // haversine
+    public static double distanceKm(double lat1, double lon1, double lat2, double lon2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLon = Math.toRadians(lon2 - lon1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) * Math.sin(dLon / 2) * Math.sin(dLon / 2);
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1, Math.sqrt(a)));
+    }
+
+    private static int cell(double degrees, double cellDegrees) {
+        return (int) Math.floor(degrees / cellDegrees);
+    }
+
+    private static long key(int cx, int cy) {
+        return ((long) cx << 32) | (cy & 0xffffffffL);
+    }
+
+    public record Entry<T>(double x, double y, T value) {
+    }
+
+    public record Hit<T>(T value, double distanceKm) {
+    }
+}
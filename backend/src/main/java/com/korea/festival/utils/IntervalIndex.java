@@ -0,0 +1,131 @@
+package com.korea.festival.utils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * 기간(시작~끝, 양끝 포함) 인덱스 - 정적 centered interval tree
+ * - 노드마다 기준점(center)을 걸치는 항목을 시작값 오름차순 / 끝값 내림차순 두 배열로 보관,
+ *   기준점보다 완전히 앞선 항목은 왼쪽, 뒤에 있는 항목은 오른쪽 자식으로
+ * - [from, to] 와 겹치는 항목 조회는 O(log n + k) (k = 겹치는 항목 수), 결과 순서는 보장하지 않음
+ * - 생성 후 변경되지 않으므로 여러 스레드에서 동시에 사용 가능 (바뀌면 새로 만들어 교체)
+ */
+public final class IntervalIndex<T> {
+
+    private final Node<T> root;
+    private final int size;
+
+    private IntervalIndex(Node<T> root, int size) {
+        this.root = root;
+        this.size = size;
+    }
+
+    public static <T> IntervalIndex<T> build(Collection<Entry<T>> entries) {
+        List<Entry<T>> list = new ArrayList<>(entries.size());
+        for (Entry<T> entry : entries) {
+            if (entry.end() < entry.start()) {
+                throw new IllegalArgumentException("끝이 시작보다 앞설 수 없습니다.");
+            }
+            list.add(entry);
+        }
+        return new IntervalIndex<>(node(list), list.size());
+    }
+
+    public int size() {
+        return size;
+    }
+
+    // [from, to] 와 하루라도 겹치는 항목
+    public List<T> overlapping(long from, long to, Predicate<T> filter) {
+        List<T> result = new ArrayList<>();
+        if (from <= to) {
+            collect(root, from, to, filter, result);
+        }
+        return result;
+    }
+
+    // at 시점에 진행 중인 항목
+    public List<T> containing(long at, Predicate<T> filter) {
+        return overlapping(at, at, filter);
+    }
+
+    private static <T> void collect(Node<T> node, long from, long to, Predicate<T> filter, List<T> result) {
+        while (node != null) {
+            if (to < node.center) {
+                // 기준점보다 앞선 기간 - 이 노드 항목은 시작이 to 이하인 것만 겹침
+                for (Entry<T> entry : node.byStart) {
+                    if (entry.start() > to) {
+                        break;
+                    }
+                    add(entry, filter, result);
+                }
+                node = node.left;
+            } else if (from > node.center) {
+                // 기준점보다 뒤의 기간 - 끝이 from 이상인 것만 겹침
+                for (Entry<T> entry : node.byEndDesc) {
+                    if (entry.end() < from) {
+                        break;
+                    }
+                    add(entry, filter, result);
+                }
+                node = node.right;
+            } else {
+                // 기간이 기준점을 포함 - 이 노드 항목은 모두 겹침
+                for (Entry<T> entry : node.byStart) {
+                    add(entry, filter, result);
+                }
+                collect(node.left, from, to, filter, result);
+                node = node.right;
+            }
+        }
+    }
+
+    private static <T> void add(Entry<T> entry, Predicate<T> filter, List<T> result) {
+        if (filter.test(entry.value())) {
+            result.add(entry.value());
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Node<T> node(List<Entry<T>> entries) {
+        if (entries.isEmpty()) {
+            return null;
+        }
+        // 끝점들의 중앙값을 기준점으로 → 양쪽 자식이 각각 절반 이하
+        long[] points = new long[entries.size() * 2];
+        for (int i = 0; i < entries.size(); i++) {
+            points[i * 2] = entries.get(i).start();
+            points[i * 2 + 1] = entries.get(i).end();
+        }
+        Arrays.sort(points);
+        long center = points[entries.size()];
+
+        List<Entry<T>> left = new ArrayList<>();
+        List<Entry<T>> right = new ArrayList<>();
+        List<Entry<T>> here = new ArrayList<>();
+        for (Entry<T> entry : entries) {
+            if (entry.end() < center) {
+                left.add(entry);
+            } else if (entry.start() > center) {
+                right.add(entry);
+            } else {
+                here.add(entry);
+            }
+        }
+        Entry<T>[] byStart = here.toArray(new Entry[0]);
+        Arrays.sort(byStart, Comparator.comparingLong(Entry::start));
+        Entry<T>[] byEndDesc = here.toArray(new Entry[0]);
+        Arrays.sort(byEndDesc, Comparator.comparingLong((Entry<T> e) -> e.end()).reversed());
+        return new Node<>(center, byStart, byEndDesc, node(left), node(right));
+    }
+
+    private record Node<T>(long center, Entry<T>[] byStart, Entry<T>[] byEndDesc, Node<T> left, Node<T> right) {
+    }
+
+    public record Entry<T>(long start, long end, T value) {
+    }
+}
@@ -0,0 +1,366 @@
+package com.korea.festival.utils;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 메모리 검색 인덱스 (문자 bigram 역색인)
+ * - 필드를 정규화(NFKC, 소문자, 공백 제거)한 뒤 글자 2개씩 잘라 토큰으로 사용 → 한국어처럼 띄어쓰기가 제각각인 검색어에 강함
+ * - 검색은 검색어 bigram 의 posting 을 교집합한 뒤 실제 포함 여부를 확인 (bigram 우연 일치 제거)
+ * - 점수: 검색어를 포함한 필드의 가중치 합 + 첫 필드(이름)가 검색어로 시작하면 가중치 한 번 더, 같으면 popularity 순
+ * - 자동완성: 첫 필드의 단어를 자모 단위로 분해해서 정렬 맵에 두고 접두어로 조회 ("부산불ㄲ" 입력 중에도 "부산불꽃축제")
+ * - put/remove 로 문서 단위 갱신, 읽기/쓰기는 ReadWriteLock 으로 보호
+ */
+public final class NgramSearchIndex<T> {
+
+    private static final int SUGGEST_SCAN_LIMIT = 1000;
+
+    private final int[] fieldWeights;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<String, IntList> postings = new HashMap<>();
+    private final Map<String, Integer> keyToDoc = new HashMap<>();
+    private final List<Doc<T>> docs = new ArrayList<>();
+    private final TreeMap<String, Set<Integer>> suggestions = new TreeMap<>();
+
+    public NgramSearchIndex(int... fieldWeights) {
+        if (fieldWeights.length == 0) {
+            throw new IllegalArgumentException("필드 가중치가 필요합니다.");
+        }
+        this.fieldWeights = fieldWeights.clone();
+    }
+
+    // 같은 key 가 있으면 교체
+    public void put(String key, List<String> fields, long popularity, T payload) {
+        String[] normalized = new String[fieldWeights.length];
+        for (int i = 0; i < normalized.length; i++) {
+            normalized[i] = i < fields.size() ? normalize(fields.get(i)) : "";
+        }
+        Set<String> tokens = new HashSet<>();
+        for (String field : normalized) {
+            addIndexTokens(field, tokens);
+        }
+        Set<String> suggestKeys = suggestKeys(fields.isEmpty() ? null : fields.get(0));
+
+        lock.writeLock().lock();
+        try {
+            removeLocked(key);
+            addLocked(new Doc<>(key, normalized, tokens.toArray(new String[0]), suggestKeys.toArray(new String[0]),
+                    popularity, payload));
+            // 교체/삭제로 빈 자리가 많아지면 docId 를 다시 매김
+            if (docs.size() > keyToDoc.size() * 2 + 1024) {
+                compactLocked();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean remove(String key) {
+        lock.writeLock().lock();
+        try {
+            return removeLocked(key);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return keyToDoc.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // page 는 0 부터, 검색어가 비어 있으면 전체를 popularity 순으로
+    // 상위 N 큐는 후보 수보다 크게 만들지 않음, 마지막 결과를 넘어선 페이지는 빈 목록 (total 은 그대로)
+    public Result<T> search(String query, int page, int size) {
+        String q = normalize(query);
+        long offset = (long) Math.max(0, page) * Math.max(0, size);
+
+        lock.readLock().lock();
+        try {
+            int[] candidates = q.isEmpty() ? null : candidates(q);
+            int candidateCount = candidates == null ? keyToDoc.size() : candidates.length;
+            int limit = offset >= candidateCount ? 0 : (int) Math.min(offset + size, candidateCount);
+            PriorityQueue<Hit> top = new PriorityQueue<>(Math.max(1, limit), Hit.ORDER.reversed());
+            int total = 0;
+            if (candidates == null) {
+                for (int docId = 0; docId < docs.size(); docId++) {
+                    Doc<T> doc = docs.get(docId);
+                    if (doc != null) {
+                        total++;
+                        offer(top, new Hit(docId, 0, doc.popularity, doc.key), limit);
+                    }
+                }
+            } else {
+                for (int docId : candidates) {
+                    Doc<T> doc = docs.get(docId);
+                    int score = score(doc, q);
+                    if (score > 0) {
+                        total++;
+                        offer(top, new Hit(docId, score, doc.popularity, doc.key), limit);
+                    }
+                }
+            }
+
+            List<Hit> ranked = new ArrayList<>(top);
+            ranked.sort(Hit.ORDER);
+            int from = (int) Math.min(offset, ranked.size());
+            List<T> items = new ArrayList<>(ranked.size() - from);
+            for (int i = from; i < ranked.size(); i++) {
+                items.add(docs.get(ranked.get(i).docId).payload);
+            }
+            return new Result<>(items, total);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 첫 필드 단어 접두어 자동완성 (popularity 순)
+    public List<T> suggest(String prefix, int limit) {
+        String p = AhoCorasickMatcher.normalize(prefix == null ? "" : prefix);
+        if (p.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            NavigableMap<String, Set<Integer>> range = suggestions.subMap(p, true, p + Character.MAX_VALUE, false);
+            Set<Integer> matched = new LinkedHashSet<>();
+            int scanned = 0;
+            for (Set<Integer> ids : range.values()) {
+                matched.addAll(ids);
+                if (++scanned >= SUGGEST_SCAN_LIMIT) {
+                    break;
+                }
+            }
+            return matched.stream()
+                    .map(docs::get)
+                    .sorted(Comparator.comparingLong((Doc<T> d) -> d.popularity).reversed()
+                            .thenComparing(d -> d.key))
+                    .limit(limit)
+                    .map(d -> d.payload)
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // NFKC + 소문자 + 공백 제거
+    public static String normalize(String text) {
+        if (text == null || text.isEmpty()) {
+            return "";
+        }
+        String nfkc = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase();
+        StringBuilder sb = new StringBuilder(nfkc.length());
+        for (int i = 0; i < nfkc.length(); i++) {
+            char c = nfkc.charAt(i);
+            if (!Character.isWhitespace(c)) {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+
+    private void addLocked(Doc<T> doc) {
+        int docId = docs.size();
+        docs.add(doc);
+        keyToDoc.put(doc.key, docId);
+        for (String token : doc.tokens) {
+            postings.computeIfAbsent(token, t -> new IntList()).add(docId);
+        }
+        for (String suggestKey : doc.suggestKeys) {
+            suggestions.computeIfAbsent(suggestKey, k -> new HashSet<>()).add(docId);
+        }
+    }
+
+    private void compactLocked() {
+        List<Doc<T>> live = new ArrayList<>(keyToDoc.size());
+        for (Doc<T> doc : docs) {
+            if (doc != null) {
+                live.add(doc);
+            }
+        }
+        docs.clear();
+        keyToDoc.clear();
+        postings.clear();
+        suggestions.clear();
+        live.forEach(this::addLocked);
+    }
+
+    private boolean removeLocked(String key) {
+        Integer docId = keyToDoc.remove(key);
+        if (docId == null) {
+            return false;
+        }
+        Doc<T> doc = docs.set(docId, null);
+        for (String token : doc.tokens) {
+            IntList list = postings.get(token);
+            if (list != null && list.remove(docId) && list.size == 0) {
+                postings.remove(token);
+            }
+        }
+        for (String suggestKey : doc.suggestKeys) {
+            Set<Integer> ids = suggestions.get(suggestKey);
+            if (ids != null && ids.remove(docId) && ids.isEmpty()) {
+                suggestions.remove(suggestKey);
+            }
+        }
+        return true;
+    }
+
+    // 검색어 토큰 posting 교집합 (짧은 목록부터)
+    private int[] candidates(String q) {
+        Set<String> tokens = queryTokens(q);
+        IntList[] lists = new IntList[tokens.size()];
+        int n = 0;
+        for (String token : tokens) {
+            IntList list = postings.get(token);
+            if (list == null) {
+                return new int[0];
+            }
+            lists[n++] = list;
+        }
+        Arrays.sort(lists, Comparator.comparingInt(list -> list.size));
+        int[] result = Arrays.copyOf(lists[0].values, lists[0].size);
+        int size = result.length;
+        for (int i = 1; i < lists.length && size > 0; i++) {
+            size = intersect(result, size, lists[i]);
+        }
+        return Arrays.copyOf(result, size);
+    }
+
+    private static int intersect(int[] acc, int accSize, IntList other) {
+        int out = 0;
+        int j = 0;
+        for (int i = 0; i < accSize && j < other.size; i++) {
+            int target = acc[i];
+            // 길이 차이가 크면 이진 탐색이 빠름
+            j = Arrays.binarySearch(other.values, j, other.size, target);
+            if (j >= 0) {
+                acc[out++] = target;
+                j++;
+            } else {
+                j = -j - 1;
+            }
+        }
+        return out;
+    }
+
+    private int score(Doc<T> doc, String q) {
+        int score = 0;
+        for (int i = 0; i < fieldWeights.length; i++) {
+            if (doc.fields[i].contains(q)) {
+                score += fieldWeights[i];
+            }
+        }
+        if (score > 0 && doc.fields[0].startsWith(q)) {
+            score += fieldWeights[0];
+        }
+        return score;
+    }
+
+    private static void offer(PriorityQueue<Hit> top, Hit hit, int limit) {
+        if (limit <= 0) {
+            return;
+        }
+        if (top.size() < limit) {
+            top.add(hit);
+        } else if (Hit.ORDER.compare(hit, top.peek()) < 0) {
+            top.poll();
+            top.add(hit);
+        }
+    }
+
+    // 색인: bigram + 한 글자 검색어용 글자 토큰
+    private static void addIndexTokens(String normalized, Set<String> tokens) {
+        for (int i = 0; i < normalized.length(); i++) {
+            tokens.add(normalized.substring(i, i + 1));
+            if (i + 1 < normalized.length()) {
+                tokens.add(normalized.substring(i, i + 2));
+            }
+        }
+    }
+
+    // 검색: 두 글자 이상이면 bigram 만, 한 글자면 글자 토큰
+    private static Set<String> queryTokens(String q) {
+        Set<String> tokens = new HashSet<>();
+        if (q.length() == 1) {
+            tokens.add(q);
+            return tokens;
+        }
+        for (int i = 0; i + 1 < q.length(); i++) {
+            tokens.add(q.substring(i, i + 2));
+        }
+        return tokens;
+    }
+
+    private static Set<String> suggestKeys(String name) {
+        Set<String> keys = new HashSet<>();
+        if (name == null || name.isBlank()) {
+            return keys;
+        }
+        String whole = AhoCorasickMatcher.normalize(name);
+        if (!whole.isEmpty()) {
+            keys.add(whole);
+        }
+        for (String word : name.trim().split("\\s+")) {
+            String key = AhoCorasickMatcher.normalize(word);
+            if (!key.isEmpty()) {
+                keys.add(key);
+            }
+        }
+        return keys;
+    }
+
+    public record Result<T>(List<T> items, int total) {
+    }
+
+    private record Doc<T>(String key, String[] fields, String[] tokens, String[] suggestKeys, long popularity, T payload) {
+    }
+
+    // 정렬: 점수 내림차순 → popularity 내림차순 → key
+    private record Hit(int docId, int score, long popularity, String key) {
+        static final Comparator<Hit> ORDER = Comparator.comparingInt(Hit::score).reversed()
+                .thenComparing(Comparator.comparingLong(Hit::popularity).reversed())
+                .thenComparing(Hit::key);
+    }
+
+    // 오름차순 docId 목록 (새 문서 id 는 항상 커지므로 add 는 뒤에 붙이기)
+    private static final class IntList {
+        private int[] values = new int[4];
+        private int size;
+
+        void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        boolean remove(int value) {
+            int index = Arrays.binarySearch(values, 0, size, value);
+            if (index < 0) {
+                return false;
+            }
+            System.arraycopy(values, index + 1, values, index, size - index - 1);
+            size--;
+            return true;
+        }
+    }
+}
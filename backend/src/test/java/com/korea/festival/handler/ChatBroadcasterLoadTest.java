@@ -0,0 +1,203 @@
+package com.korea.festival.handler;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+// chat.region.max-users-per-region(1000) 세션에 브로드캐스트할 때 느린 세션이 있어도 fan-out 지연이 일정한지 확인
+class ChatBroadcasterLoadTest {
+
+    private static final int SESSIONS = 1000;
+    private static final int MESSAGES = 200;
+
+    private ChatBroadcaster broadcaster;
+
+    @BeforeEach
+    void setUp() {
+        broadcaster = new ChatBroadcaster(new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(broadcaster, "sendQueueLimit", 64);
+        ReflectionTestUtils.setField(broadcaster, "slowConsumerDropLimit", 16);
+        ReflectionTestUtils.setField(broadcaster, "sendTimeLimitMs", 5000L);
+        broadcaster.init();
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        broadcaster.shutdown();
+    }
+
+    // 느린 세션은 큐 초과로 끊기고 정상 세션은 모든 메시지를 받아야 함
+    @Test
+    void slowConsumersAreClosedWhileFastSessionsReceiveEverything() throws Exception {
+        Result withSlow = runScenario(50);
+
+        assertTrue(withSlow.fastDelivered, "fast sessions did not receive every message");
+        assertEquals(50, withSlow.closedSessions);
+    }
+
+    // 느린 세션이 있어도 브로드캐스트 호출 자체는 막히지 않아야 함 (시간 비교라 perf 태그로 분리)
+    @Tag("perf")
+    @Test
+    void fanOutLatencyStaysFlatWithSlowConsumers() throws Exception {
+        long baselineP99 = runScenario(0).p99Nanos;
+        long slowP99 = runScenario(50).p99Nanos;
+
+        assertTrue(slowP99 < Math.max(baselineP99 * 5, TimeUnit.MILLISECONDS.toNanos(20)),
+                "p99 fan-out latency grew with slow consumers: " + baselineP99 + "ns -> " + slowP99 + "ns");
+    }
+
+    // sendMessage 가 돌아오지 않는 세션은 send-time-limit 이 지난 뒤 watchdog 이 끊음
+    @Test
+    void watchdogClosesSessionStuckInSend() throws Exception {
+        AtomicLong nanos = new AtomicLong(1);
+        ReflectionTestUtils.setField(broadcaster, "nanoClock", (LongSupplier) nanos::get);
+        CountDownLatch sending = new CountDownLatch(1);
+        CountDownLatch closed = new CountDownLatch(1);
+        WebSocketSession stuck = mock(WebSocketSession.class);
+        when(stuck.getId()).thenReturn("stuck");
+        when(stuck.isOpen()).thenReturn(true);
+        doAnswer(invocation -> {
+            sending.countDown();
+            closed.await(); // 연결이 끊겨야 전송이 풀림
+            return null;
+        }).when(stuck).sendMessage(any(WebSocketMessage.class));
+        doAnswer(invocation -> {
+            closed.countDown();
+            return null;
+        }).when(stuck).close(any(CloseStatus.class));
+        WebSocketSession idle = mock(WebSocketSession.class);
+        when(idle.getId()).thenReturn("idle");
+        broadcaster.register(stuck);
+        broadcaster.register(idle);
+
+        broadcaster.send(stuck, new TextMessage("{\"type\":\"PING\"}"));
+        assertTrue(sending.await(5, TimeUnit.SECONDS));
+
+        // 딱 send-time-limit 만큼은 아직 허용
+        nanos.addAndGet(TimeUnit.MILLISECONDS.toNanos(5000));
+        broadcaster.closeStalledSends();
+        broadcaster.send(stuck, new TextMessage("{\"type\":\"PING\"}"));
+        assertEquals(1, broadcaster.getPendingCount(stuck));
+
+        nanos.addAndGet(TimeUnit.MILLISECONDS.toNanos(1));
+        broadcaster.closeStalledSends();
+        assertTrue(closed.await(5, TimeUnit.SECONDS), "stuck session was not closed");
+        assertEquals(0, broadcaster.getPendingCount(stuck));
+        verify(idle, never()).close(any(CloseStatus.class));
+    }
+
+    // 가끔 넘쳤다가 큐를 다 비우는 세션은 버린 횟수가 다시 세어져 누적으로 끊기지 않음
+    @Test
+    void occasionalOverflowIsForgivenAfterCatchingUp() throws Exception {
+        AtomicInteger sent = new AtomicInteger();
+        Semaphore started = new Semaphore(0);
+        AtomicReference<CountDownLatch> gate = new AtomicReference<>();
+        WebSocketSession session = mock(WebSocketSession.class);
+        when(session.getId()).thenReturn("bursty");
+        when(session.isOpen()).thenReturn(true);
+        doAnswer(invocation -> {
+            started.release();
+            gate.get().await();
+            sent.incrementAndGet();
+            return null;
+        }).when(session).sendMessage(any(WebSocketMessage.class));
+        broadcaster.register(session);
+
+        // 전송 1개가 막힌 채로 큐(64)를 채우고 drop-limit(16) 보다 하나 적게 버림 → 풀어 주면 모두 전송
+        for (int round = 1; round <= 3; round++) {
+            CountDownLatch release = new CountDownLatch(1);
+            gate.set(release);
+            broadcaster.send(session, new TextMessage("{\"type\":\"PING\"}"));
+            assertTrue(started.tryAcquire(5, TimeUnit.SECONDS));
+            for (int i = 0; i < 64 + 15; i++) {
+                broadcaster.send(session, new TextMessage("{\"type\":\"PING\"}"));
+            }
+            release.countDown();
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (sent.get() < round * 65 && System.nanoTime() < deadline) {
+                Thread.sleep(5);
+            }
+            assertEquals(round * 65, sent.get(), "session was closed in round " + round);
+            Thread.sleep(50); // drain 이 끝날 때까지
+            started.drainPermits();
+        }
+
+        verify(session, never()).close(any(CloseStatus.class));
+    }
+
+    private Result runScenario(int slowSessions) throws Exception {
+        int fastSessions = SESSIONS - slowSessions;
+        CountDownLatch fastDone = new CountDownLatch(fastSessions * MESSAGES);
+        AtomicInteger closed = new AtomicInteger();
+        List<WebSocketSession> sessions = new ArrayList<>();
+
+        for (int i = 0; i < SESSIONS; i++) {
+            boolean slow = i < slowSessions;
+            WebSocketSession session = mock(WebSocketSession.class, withSettings().stubOnly());
+            when(session.getId()).thenReturn((slow ? "slow-" : "fast-") + i);
+            when(session.isOpen()).thenReturn(true);
+            doAnswer(invocation -> {
+                if (slow) {
+                    Thread.sleep(200);
+                } else {
+                    fastDone.countDown();
+                }
+                return null;
+            }).when(session).sendMessage(any(WebSocketMessage.class));
+            doAnswer(invocation -> {
+                closed.incrementAndGet();
+                return null;
+            }).when(session).close(any(CloseStatus.class));
+            broadcaster.register(session);
+            sessions.add(session);
+        }
+
+        long[] latencies = new long[MESSAGES];
+        for (int i = 0; i < MESSAGES; i++) {
+            TextMessage message = new TextMessage("{\"type\":\"NEW_MESSAGE\",\"id\":" + i + "}");
+            long start = System.nanoTime();
+            broadcaster.broadcast(sessions, message);
+            latencies[i] = System.nanoTime() - start;
+        }
+
+        boolean delivered = fastDone.await(30, TimeUnit.SECONDS);
+        Thread.sleep(100);
+        sessions.forEach(broadcaster::unregister);
+
+        Arrays.sort(latencies);
+        long p99 = latencies[(int) Math.ceil(MESSAGES * 0.99) - 1];
+        return new Result(p99, delivered, closed.get());
+    }
+
+    private record Result(long p99Nanos, boolean fastDelivered, int closedSessions) {
+    }
+}
@@ -0,0 +1,169 @@
+package com.korea.festival.handler;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+// 실제 Redis (컨테이너) 로 노드 여러 개를 띄워 pub/sub 중계 확인
+@Testcontainers(disabledWithoutDocker = true)
+class ChatClusterBackplaneTest {
+
+    @Container
+    static final GenericContainer<?> REDIS = new GenericContainer<>(DockerImageName.parse("redis:7-alpine"))
+            .withExposedPorts(6379);
+
+    private final ChatFrameCodec codec = new ChatFrameCodec(new ObjectMapper());
+    private final List<ChatClusterBackplane> nodes = new ArrayList<>();
+    private LettuceConnectionFactory connectionFactory;
+    private StringRedisTemplate redisTemplate;
+
+    @BeforeEach
+    void setUp() {
+        connectionFactory = new LettuceConnectionFactory(REDIS.getHost(), REDIS.getMappedPort(6379));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+        redisTemplate.execute((RedisCallback<Object>) connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        });
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        for (ChatClusterBackplane node : nodes) {
+            node.stop();
+        }
+        connectionFactory.destroy();
+    }
+
+    // 발행한 노드는 로컬로 한 번만 (자기 메시지가 Redis 로 되돌아와도 무시), 다른 노드는 remote 로 한 번씩
+    @Test
+    void fansOutToOtherNodesAndSuppressesSelfEcho() throws Exception {
+        // node-1 이 node-10 의 접두어 - 노드 id 비교가 접두어 일치로 오판하지 않는지
+        ChatClusterBackplane a = node("node-1");
+        ChatClusterBackplane b = node("node-10");
+        ChatClusterBackplane c = node("node-2");
+        BlockingQueue<String> aEvents = events(a);
+        BlockingQueue<String> bEvents = events(b);
+        BlockingQueue<String> cEvents = events(c);
+        awaitSubscribed(a, aEvents, bEvents, cEvents);
+
+        a.publish("서울", message(7));
+        assertEquals("서울|NEW_MESSAGE|false|7", aEvents.poll(5, TimeUnit.SECONDS));
+        assertEquals("서울|NEW_MESSAGE|true|7", bEvents.poll(5, TimeUnit.SECONDS));
+        assertEquals("서울|NEW_MESSAGE|true|7", cEvents.poll(5, TimeUnit.SECONDS));
+
+        b.publish("부산", message(8));
+        assertEquals("부산|NEW_MESSAGE|false|8", bEvents.poll(5, TimeUnit.SECONDS));
+        assertEquals("부산|NEW_MESSAGE|true|8", aEvents.poll(5, TimeUnit.SECONDS));
+        assertEquals("부산|NEW_MESSAGE|true|8", cEvents.poll(5, TimeUnit.SECONDS));
+
+        assertNull(aEvents.poll(300, TimeUnit.MILLISECONDS));
+        assertNull(bEvents.poll(0, TimeUnit.MILLISECONDS));
+        assertNull(cEvents.poll(0, TimeUnit.MILLISECONDS));
+    }
+
+    // 접속자 수는 살아 있는 노드 값의 합, 종료한 노드는 빠짐
+    @Test
+    void sumsUserCountsAcrossLiveNodes() throws Exception {
+        ChatClusterBackplane a = node("node-a");
+        ChatClusterBackplane b = node("node-b");
+        a.updateLocalCount("서울", 3);
+        b.updateLocalCount("서울", 2);
+        b.updateLocalCount("부산", 4);
+
+        assertEquals(5, a.getClusterCount("서울"));
+        assertEquals(4, a.getClusterCounts().get("부산"));
+
+        b.stop();
+        nodes.remove(b);
+        assertEquals(3, a.getClusterCount("서울"));
+        assertNull(a.getClusterCounts().get("부산"));
+    }
+
+    // heartbeat 로 해시를 다시 쓰는 동안에도 다른 노드가 보는 접속자 수는 0 이 되지 않음
+    @Test
+    void heartbeatNeverExposesEmptyCounts() throws Exception {
+        ChatClusterBackplane a = node("node-a");
+        ChatClusterBackplane b = node("node-b");
+        a.updateLocalCount("서울", 3);
+
+        Thread writer = new Thread(() -> {
+            for (int i = 0; i < 200; i++) {
+                a.heartbeat();
+            }
+        });
+        writer.start();
+        while (writer.isAlive()) {
+            assertEquals(3, b.getClusterCount("서울"));
+        }
+        writer.join();
+        assertEquals(3, b.getClusterCount("서울"));
+    }
+
+    private ChatClusterBackplane node(String nodeId) {
+        ChatClusterBackplane node = new ChatClusterBackplane(redisTemplate, connectionFactory, codec);
+        ReflectionTestUtils.setField(node, "enabled", true);
+        ReflectionTestUtils.setField(node, "nodeId", nodeId);
+        ReflectionTestUtils.setField(node, "nodeTtlMs", 30_000L);
+        node.start();
+        nodes.add(node);
+        return node;
+    }
+
+    private static BlockingQueue<String> events(ChatClusterBackplane node) {
+        BlockingQueue<String> events = new LinkedBlockingQueue<>();
+        node.setListener((region, frame, remote) ->
+                events.add(region + "|" + frame.getType() + "|" + remote + "|" + frame.tree().path("id").asText()));
+        return events;
+    }
+
+    // 구독이 실제로 걸릴 때까지 USER_COUNT 를 보내 보고 받은 이벤트는 비움
+    private void awaitSubscribed(ChatClusterBackplane publisher, BlockingQueue<String> own,
+                                 BlockingQueue<String> first, BlockingQueue<String> second) throws Exception {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (first.isEmpty() || second.isEmpty()) {
+            if (System.nanoTime() > deadline) {
+                throw new AssertionError("Redis 구독이 시작되지 않음");
+            }
+            ObjectNode ping = codec.createObjectNode().put("type", "USER_COUNT").put("region", "ping").put("count", 0);
+            publisher.publish("ping", codec.frame(ping));
+            Thread.sleep(50);
+        }
+        Thread.sleep(200);
+        own.clear();
+        first.clear();
+        second.clear();
+    }
+
+    private ChatFrame message(long id) {
+        ObjectNode node = codec.createObjectNode()
+                .put("type", "NEW_MESSAGE")
+                .put("seq", id)
+                .put("id", id)
+                .put("nickname", "닉네임")
+                .put("content", "안녕하세요");
+        return codec.frame(node);
+    }
+}
@@ -0,0 +1,120 @@
+package com.korea.festival.handler;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.socket.BinaryMessage;
+import org.springframework.web.socket.TextMessage;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+// COMPACT 프레임 형식 확인 + JSON 대비 메시지당 바이트 수 (브로드캐스트당 인코딩 비용은 perf 태그)
+class ChatFrameCodecTest {
+
+    private static final int SESSIONS = 1000;
+    private static final int BROADCASTS = 200;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ChatFrameCodec codec = new ChatFrameCodec(objectMapper);
+
+    @Test
+    void newMessageIsEncodedAsFixedOrderArray() throws Exception {
+        ChatFrame frame = codec.frame(newMessage(7, 42));
+
+        JsonNode decoded = codec.readCompact(frame.compactBytes());
+        assertTrue(decoded.isArray());
+        assertEquals(1, decoded.get(0).asInt());
+        assertEquals(7, decoded.get(1).asLong());
+        assertEquals(42, decoded.get(2).asLong());
+        assertEquals("서울", decoded.get(3).asText());
+        assertEquals("축제러버", decoded.get(4).asText());
+
+        assertEquals(42, objectMapper.readTree(frame.json()).get("id").asLong());
+    }
+
+    @Test
+    void frameIsEncodedOncePerBroadcast() {
+        ChatFrame frame = codec.frame(newMessage(1, 1));
+
+        assertSame(frame.textMessage(), frame.messageFor(ChatProtocol.JSON));
+        BinaryMessage first = assertInstanceOf(BinaryMessage.class, frame.messageFor(ChatProtocol.COMPACT));
+        BinaryMessage second = assertInstanceOf(BinaryMessage.class, frame.messageFor(ChatProtocol.COMPACT));
+        assertSame(first.getPayload().array(), second.getPayload().array());
+    }
+
+    @Test
+    void compactFramesAreSmallerThanJson() {
+        long jsonBytes = 0;
+        long compactBytes = 0;
+        for (int i = 0; i < BROADCASTS; i++) {
+            ChatFrame frame = codec.frame(newMessage(i, 1000 + i));
+            jsonBytes += frame.json().getBytes(StandardCharsets.UTF_8).length;
+            compactBytes += frame.compactBytes().length;
+        }
+
+        assertTrue(compactBytes < jsonBytes, "compact frames should be smaller than JSON");
+    }
+
+    // 세션 1000개 브로드캐스트당 인코딩 비용 (시간 비교라 perf 태그로 분리)
+    @Tag("perf")
+    @Test
+    void compactFramesAreCheaperPerBroadcast() {
+        // 워밍업 후 측정
+        legacyBroadcasts();
+        compactBroadcasts();
+        long legacyNanos = legacyBroadcasts();
+        long compactNanos = compactBroadcasts();
+
+        assertTrue(compactNanos < legacyNanos,
+                "compact encoding per broadcast: " + compactNanos / BROADCASTS + "ns, legacy: " + legacyNanos / BROADCASTS + "ns");
+    }
+
+    // 기존 방식: 프레임 문자열은 한 번 만들지만 세션마다 TextMessage 를 만들고 UTF-8 로 인코딩
+    private long legacyBroadcasts() {
+        long start = System.nanoTime();
+        long sink = 0;
+        for (int i = 0; i < BROADCASTS; i++) {
+            String payload = newMessage(i, i).toString();
+            for (int s = 0; s < SESSIONS; s++) {
+                sink += new TextMessage(payload).asBytes().length;
+            }
+        }
+        assertTrue(sink > 0);
+        return System.nanoTime() - start;
+    }
+
+    // COMPACT: 브로드캐스트당 한 번 인코딩하고 세션마다 바이트 배열만 감싼다
+    private long compactBroadcasts() {
+        long start = System.nanoTime();
+        long sink = 0;
+        for (int i = 0; i < BROADCASTS; i++) {
+            ChatFrame frame = codec.frame(newMessage(i, i));
+            for (int s = 0; s < SESSIONS; s++) {
+                sink += frame.messageFor(ChatProtocol.COMPACT).getPayloadLength();
+            }
+        }
+        assertTrue(sink > 0);
+        return System.nanoTime() - start;
+    }
+
+    private ObjectNode newMessage(long seq, long id) {
+        ObjectNode node = codec.createObjectNode();
+        node.put("type", "NEW_MESSAGE");
+        node.put("seq", seq);
+        node.put("id", id);
+        node.put("content", "오늘 불꽃축제 몇 시에 시작하나요? 자리 잡으려면 일찍 가야 할까요");
+        node.put("nickname", "축제러버");
+        node.put("region", "서울");
+        node.put("timestamp", LocalDateTime.of(2025, 10, 3, 19, 30).toString());
+        return node;
+    }
+}
@@ -0,0 +1,122 @@
+package com.korea.festival.handler;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.socket.PingMessage;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+// 시계를 직접 움직이며 1초 tick 으로 확인 (heartbeat 30초, 응답 없음 60초 초과 시 만료)
+class ChatSessionReaperTest {
+
+    private final AtomicLong now = new AtomicLong(1_000_000);
+    private final long start = now.get();
+    private final List<List<String>> expiredBatches = new ArrayList<>();
+    private ChatBroadcaster broadcaster;
+    private SimpleMeterRegistry meterRegistry;
+    private ChatSessionReaper reaper;
+
+    @BeforeEach
+    void setUp() {
+        broadcaster = mock(ChatBroadcaster.class);
+        meterRegistry = new SimpleMeterRegistry();
+        reaper = new ChatSessionReaper(broadcaster, meterRegistry);
+        ReflectionTestUtils.setField(reaper, "heartbeatIntervalMs", 30_000L);
+        ReflectionTestUtils.setField(reaper, "connectionTimeoutMs", 60_000L);
+        ReflectionTestUtils.setField(reaper, "tickMs", 1_000L);
+        ReflectionTestUtils.setField(reaper, "clock", (LongSupplier) now::get);
+        reaper.init();
+        reaper.setListener(sessions -> expiredBatches.add(sessions.stream().map(WebSocketSession::getId).toList()));
+    }
+
+    @Test
+    void pingsEveryHeartbeatAndExpiresSilentSessions() {
+        WebSocketSession a = session("a", true);
+        WebSocketSession b = session("b", true);
+        WebSocketSession closed = session("closed", false);
+        reaper.register(a);
+        reaper.register(b);
+        reaper.register(closed);
+
+        advanceTo(29_000);
+        verify(broadcaster, never()).send(any(WebSocketSession.class), any(WebSocketMessage.class));
+
+        // 첫 확인: 열린 세션은 ping, 닫힌 세션은 만료
+        advanceTo(30_000);
+        verify(broadcaster).send(eq(a), any(PingMessage.class));
+        verify(broadcaster).send(eq(b), any(PingMessage.class));
+        assertEquals(List.of(List.of("closed")), expiredBatches);
+
+        // a 만 pong
+        advanceTo(45_000);
+        reaper.touch(a);
+
+        // 60초: b 는 마지막 응답 후 딱 60초 - 아직 만료 아님
+        advanceTo(60_000);
+        verify(broadcaster, times(2)).send(eq(a), any(PingMessage.class));
+        verify(broadcaster, times(2)).send(eq(b), any(PingMessage.class));
+
+        // 90초: b 는 90초 동안 응답 없음 → 만료, a 는 ping
+        advanceTo(90_000);
+        verify(broadcaster, times(3)).send(eq(a), any(PingMessage.class));
+        verify(broadcaster, times(2)).send(eq(b), any(PingMessage.class));
+        assertEquals(List.of(List.of("closed"), List.of("b")), expiredBatches);
+
+        // 정상 종료한 세션은 더 이상 확인하지 않음
+        advanceTo(100_000);
+        reaper.unregister(a);
+        advanceTo(200_000);
+        verify(broadcaster, times(3)).send(eq(a), any(PingMessage.class));
+        assertEquals(2, expiredBatches.size());
+        assertEquals(2.0, meterRegistry.get("chat.session.reaped").counter().count());
+        assertEquals(0.0, meterRegistry.get("chat.session.tracked").gauge().value());
+    }
+
+    // 스케줄러가 늦어 tick 이 여러 칸 밀려도 지나간 슬롯을 모두 처리하고, 만료 세션은 한 번에 전달
+    @Test
+    void lateTickCatchesUpAndBatchesExpiredSessions() {
+        for (int i = 0; i < 5; i++) {
+            reaper.register(session("s" + i, true));
+        }
+
+        now.set(start + 95_000);
+        reaper.tick();
+
+        assertEquals(1, expiredBatches.size());
+        assertEquals(5, expiredBatches.get(0).size());
+        assertTrue(expiredBatches.get(0).containsAll(List.of("s0", "s1", "s2", "s3", "s4")));
+        verify(broadcaster, never()).send(any(WebSocketSession.class), any(WebSocketMessage.class));
+    }
+
+    private void advanceTo(long elapsedMs) {
+        while (now.get() - start < elapsedMs) {
+            now.addAndGet(1_000);
+            reaper.tick();
+        }
+    }
+
+    private static WebSocketSession session(String id, boolean open) {
+        WebSocketSession session = mock(WebSocketSession.class);
+        when(session.getId()).thenReturn(id);
+        when(session.isOpen()).thenReturn(open);
+        return session;
+    }
+}
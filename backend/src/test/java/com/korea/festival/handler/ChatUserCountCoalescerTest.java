@@ -0,0 +1,211 @@
+package com.korea.festival.handler;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.korea.festival.entity.User;
+import com.korea.festival.service.RegionalChatRecentCache;
+import com.korea.festival.service.UserService;
+
+// 여러 스레드에서 실제 JOIN_REGION / LEAVE_REGION / 연결 종료를 보내면서 flush 창마다 USER_COUNT 프레임 수 확인
+class ChatUserCountCoalescerTest {
+
+    private static final List<String> REGIONS = List.of("서울", "부산", "제주");
+    private static final int THREADS = 8;
+    private static final int SESSIONS_PER_THREAD = 300;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    // flush 창 번호 (flush 가 끝날 때마다 1 증가)
+    private final AtomicInteger window = new AtomicInteger();
+    private final List<UserCountFrame> frames = new CopyOnWriteArrayList<>();
+    private ChatUserCountCoalescer coalescer;
+    private ChatWebSocketHandler handler;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        ChatBroadcaster broadcaster = mock(ChatBroadcaster.class);
+        doAnswer(invocation -> {
+            ChatFrame frame = invocation.getArgument(1);
+            if ("USER_COUNT".equals(frame.getType())) {
+                JsonNode tree = frame.tree();
+                frames.add(new UserCountFrame(window.get(), tree.get("region").asText(), tree.get("count").asInt()));
+            }
+            return null;
+        }).when(broadcaster).broadcast(any(), any(ChatFrame.class));
+
+        RegionalChatRecentCache recentCache = mock(RegionalChatRecentCache.class);
+        when(recentCache.getSnapshotFrame(anyString())).thenReturn("[]");
+
+        ChatFrameCodec codec = new ChatFrameCodec(objectMapper);
+        ChatClusterBackplane backplane = new ChatClusterBackplane(null, null, codec);
+        backplane.start();
+        // 핸드셰이크에서 인증된 username 으로 사용자 조회
+        UserService userService = mock(UserService.class);
+        when(userService.getUserByUsername(anyString())).thenAnswer(inv -> {
+            String username = inv.getArgument(0);
+            User user = new User();
+            user.setId(Long.parseLong(username.substring("user".length())));
+            user.setUsername(username);
+            user.setNickname(username);
+            return user;
+        });
+
+        coalescer = new ChatUserCountCoalescer();
+        handler = new ChatWebSocketHandler(null, userService, broadcaster, recentCache, backplane, codec, null,
+                mock(ChatSessionReaper.class), coalescer);
+        handler.init();
+        executor = Executors.newFixedThreadPool(THREADS + 1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void concurrentJoinLeaveSendsAtMostOneFramePerRegionPerFlush() throws Exception {
+        // 세션마다: 입장 → 짝수는 퇴장, 5의 배수는 다른 지역으로 이동, 7의 배수는 연결 종료
+        Map<String, Integer> expected = new HashMap<>();
+        for (int t = 0; t < THREADS; t++) {
+            for (int i = 0; i < SESSIONS_PER_THREAD; i++) {
+                String region = finalRegion(i);
+                if (region != null) {
+                    expected.merge(region, 1, Integer::sum);
+                }
+            }
+        }
+
+        AtomicBoolean running = new AtomicBoolean(true);
+        Future<?> flusher = executor.submit(() -> {
+            while (running.get()) {
+                coalescer.flush();
+                window.incrementAndGet();
+                Thread.sleep(1);
+            }
+            return null;
+        });
+
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> workers = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            int thread = t;
+            workers.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < SESSIONS_PER_THREAD; i++) {
+                    WebSocketSession session = session(thread + "-" + i, thread * SESSIONS_PER_THREAD + i);
+                    handler.afterConnectionEstablished(session);
+                    join(session, REGIONS.get(i % REGIONS.size()));
+                    if (i % 7 == 0) {
+                        handler.afterConnectionClosed(session, CloseStatus.GOING_AWAY);
+                    } else if (i % 5 == 0) {
+                        join(session, REGIONS.get((i + 1) % REGIONS.size()));
+                    } else if (i % 2 == 0) {
+                        handler.handleTextMessage(session, new TextMessage("{\"type\":\"LEAVE_REGION\"}"));
+                    }
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> worker : workers) {
+            worker.get();
+        }
+        running.set(false);
+        flusher.get();
+        int lastWindow = window.get();
+        coalescer.flush();
+
+        // 같은 flush 창에서 한 지역에 USER_COUNT 는 최대 한 번
+        Map<String, Integer> perWindow = new HashMap<>();
+        for (UserCountFrame frame : frames) {
+            int sent = perWindow.merge(frame.window() + "/" + frame.region(), 1, Integer::sum);
+            assertEquals(1, sent, "region " + frame.region() + " got several USER_COUNT frames in flush " + frame.window());
+        }
+        // 입장/퇴장마다 보내면 지역 인원 수만큼 늘어나지만 묶음 전송은 flush 횟수로 제한됨
+        assertTrue(frames.size() <= (lastWindow + 1) * REGIONS.size());
+
+        // 마지막으로 보낸 값은 실제 최종 접속자 수
+        Map<String, Integer> lastSent = new HashMap<>();
+        frames.forEach(frame -> lastSent.put(frame.region(), frame.count()));
+        assertEquals(expected, lastSent);
+        assertEquals(expected, handler.getRegionUserCounts());
+    }
+
+    @Test
+    void pendingCountIsPiggyBackedOnNextMessage() {
+        AtomicLong flushed = new AtomicLong();
+        coalescer.setListener(region -> flushed.incrementAndGet());
+
+        coalescer.markDirty("busan");
+        assertTrue(coalescer.takeDirty("busan"));
+        assertFalse(coalescer.takeDirty("busan"));
+
+        coalescer.flush();
+        assertEquals(0, flushed.get());
+    }
+
+    // 세션 i 의 최종 지역 (나갔으면 null)
+    private static String finalRegion(int i) {
+        if (i % 7 == 0) {
+            return null;
+        }
+        if (i % 5 == 0) {
+            return REGIONS.get((i + 1) % REGIONS.size());
+        }
+        if (i % 2 == 0) {
+            return null;
+        }
+        return REGIONS.get(i % REGIONS.size());
+    }
+
+    private void join(WebSocketSession session, String region) throws Exception {
+        Map<String, Object> frame = Map.of("type", "JOIN_REGION", "region", region);
+        handler.handleTextMessage(session, new TextMessage(objectMapper.writeValueAsString(frame)));
+    }
+
+    // JwtHandshakeInterceptor 처럼 인증된 사용자를 "user" 속성에 넣어 둔 세션
+    private static WebSocketSession session(String id, long userId) {
+        Map<String, Object> attributes = new ConcurrentHashMap<>();
+        attributes.put("user", org.springframework.security.core.userdetails.User
+                .withUsername("user" + userId).password("").roles("USER").build());
+        WebSocketSession session = mock(WebSocketSession.class, withSettings().stubOnly());
+        when(session.getId()).thenReturn(id);
+        when(session.isOpen()).thenReturn(true);
+        when(session.getAttributes()).thenReturn(attributes);
+        return session;
+    }
+
+    private record UserCountFrame(int window, String region, int count) {
+    }
+}
@@ -0,0 +1,156 @@
+package com.korea.festival.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import javax.sql.DataSource;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Page;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.korea.festival.dto.BoardSummaryDTO;
+import com.korea.festival.entity.Board;
+import com.korea.festival.entity.BoardComment;
+import com.korea.festival.entity.BoardLikes;
+import com.korea.festival.entity.User;
+import com.korea.festival.repository.BoardCommentRepository;
+import com.korea.festival.repository.BoardRepository;
+import com.korea.festival.repository.UserRepository;
+
+import jakarta.persistence.EntityManagerFactory;
+
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:board_summary;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.auto_quote_keyword=true",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class BoardServiceTest {
+
+    private static final int BOARDS = 60;
+
+    @Autowired
+    private TestEntityManager em;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private DataSource dataSource;
+    @Autowired
+    private BoardRepository boardRepository;
+    @Autowired
+    private BoardCommentRepository commentRepository;
+    @Autowired
+    private UserRepository userRepository;
+
+    private BoardService boardService;
+    private Statistics statistics;
+    private User reader;
+    private final List<Long> boardIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        boardService = new BoardService(commentRepository, boardRepository, userRepository,
+                new LikeEngine(jdbcTemplate), new CommentTreeLoader(jdbcTemplate));
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        User writer = em.persist(user("writer"));
+        reader = em.persist(user("reader"));
+        for (int i = 0; i < BOARDS; i++) {
+            Board board = em.persist(Board.builder()
+                    .category("자유")
+                    .title("게시글 " + i)
+                    .content("본문 ".repeat(200))
+                    .user(writer)
+                    .tags(new ArrayList<>(List.of("태그" + i, "공통")))
+                    .build());
+            BoardComment parent = em.persist(comment(board, writer, null));
+            for (int r = 0; r < i % 3; r++) {
+                em.persist(comment(board, reader, parent));
+            }
+            if (i % 2 == 0) {
+                BoardLikes like = new BoardLikes();
+                like.setBoard(board);
+                like.setUser(reader);
+                em.persist(like);
+            }
+            boardIds.add(board.getId());
+        }
+        em.flush();
+        em.clear();
+    }
+
+    // 페이지 크기와 관계없이 목록 1번 + count 1번 + 태그 1번 (좋아요 여부는 JDBC 1번)
+    @Test
+    void listPageUsesConstantQueryCount() {
+        long small = preparedStatements(5);
+        long large = preparedStatements(50);
+
+        assertEquals(3, small);
+        assertEquals(small, large);
+    }
+
+    @Test
+    void summaryCarriesAuthorCommentCountTagsAndLikedFlag() {
+        Page<BoardSummaryDTO> page = boardService.boardFindAll(0, BOARDS, reader.getId());
+
+        assertEquals(BOARDS, page.getTotalElements());
+        for (BoardSummaryDTO summary : page) {
+            int i = boardIds.indexOf(summary.getId());
+            assertEquals("writer", summary.getAuthorNickname());
+            assertEquals(1 + i % 3, summary.getCommentCount());
+            assertEquals(Set.of("태그" + i, "공통"), Set.copyOf(summary.getTags()));
+            assertEquals(i % 2 == 0, summary.isLikedByCurrentUser());
+        }
+
+        Page<BoardSummaryDTO> anonymous = boardService.boardFindAll(0, 10, null);
+        assertFalse(anonymous.getContent().stream().anyMatch(BoardSummaryDTO::isLikedByCurrentUser));
+        assertTrue(boardService.boardFindAll(10, 10, null).isEmpty());
+    }
+
+    private long preparedStatements(int size) {
+        statistics.clear();
+        Page<BoardSummaryDTO> page = boardService.boardFindAll(0, size, reader.getId());
+        long count = statistics.getPrepareStatementCount();
+        assertEquals(size, page.getNumberOfElements());
+        em.clear();
+        return count;
+    }
+
+    private static User user(String name) {
+        User user = new User();
+        user.setUsername(name);
+        user.setNickname(name);
+        user.setEmail(name + "@festival.test");
+        user.setIsActive(true);
+        return user;
+    }
+
+    private static BoardComment comment(Board board, User user, BoardComment parent) {
+        BoardComment comment = new BoardComment();
+        comment.setBoard(board);
+        comment.setUser(user);
+        comment.setParent(parent);
+        comment.setContent("댓글");
+        return comment;
+    }
+}
@@ -0,0 +1,117 @@
+package com.korea.festival.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.korea.festival.service.RegionalChatWriteBehindService.PendingChat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+// 클러스터 모드 ID 발급 (Redis INCRBY 구간 예약) - 실제 Redis 컨테이너 사용
+@Testcontainers(disabledWithoutDocker = true)
+class ChatMessageIdAllocatorTest {
+
+    @Container
+    static final GenericContainer<?> REDIS = new GenericContainer<>(DockerImageName.parse("redis:7-alpine"))
+            .withExposedPorts(6379);
+
+    private final ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+    private LettuceConnectionFactory connectionFactory;
+    private StringRedisTemplate redisTemplate;
+    private JdbcTemplate jdbcTemplate;
+    private DriverManagerDataSource dataSource;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        connectionFactory = new LettuceConnectionFactory(REDIS.getHost(), REDIS.getMappedPort(6379));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+        redisTemplate.delete("chat:message:id");
+
+        dataSource = new DriverManagerDataSource("jdbc:h2:mem:chat_id_allocator;MODE=MySQL;DB_CLOSE_DELAY=-1", "sa", "");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("DROP ALL OBJECTS");
+        jdbcTemplate.execute("CREATE TABLE regional_chats (id BIGINT PRIMARY KEY)");
+        jdbcTemplate.update("INSERT INTO regional_chats (id) VALUES (500)");
+        executor = Executors.newFixedThreadPool(8);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+        connectionFactory.destroy();
+    }
+
+    // 두 노드가 동시에 발급해도 겹치지 않고, DB 최대값과 재시도 파일의 ID 뒤부터 발급
+    @Test
+    void nodesNeverHandOutTheSameId() throws Exception {
+        Path emptyJournal = Files.createTempDirectory("chat-retry-a");
+        Path pendingJournal = Files.createTempDirectory("chat-retry-b");
+        objectMapper.writeValue(pendingJournal.resolve("chat-1-800.json").toFile(),
+                List.of(new PendingChat(800L, 1L, "서울", "재시도 대기", LocalDateTime.of(2026, 10, 18, 12, 0), 1L)));
+
+        ChatMessageIdAllocator a = allocator(emptyJournal);
+        ChatMessageIdAllocator b = allocator(pendingJournal);
+        // a 가 먼저 카운터를 DB 최대값(500)으로 만든 뒤 b 가 재시도 파일(800) 때문에 카운터를 밀어야 함
+        assertEquals(501, a.nextId());
+
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            ChatMessageIdAllocator allocator = t % 2 == 0 ? a : b;
+            futures.add(executor.submit(() -> {
+                for (int i = 0; i < 500; i++) {
+                    assertTrue(ids.add(allocator.nextId()), "duplicate id");
+                }
+                return null;
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+
+        assertEquals(4000, ids.size());
+        long bMin = ids.stream().filter(id -> id > 510).mapToLong(Long::longValue).min().orElseThrow();
+        assertTrue(bMin > 800, "b issued " + bMin);
+        assertTrue(ids.stream().noneMatch(id -> id == 800L));
+    }
+
+    private ChatMessageIdAllocator allocator(Path retryDir) {
+        RegionalChatWriteBehindService writeBehind = new RegionalChatWriteBehindService(
+                jdbcTemplate, new DataSourceTransactionManager(dataSource), objectMapper, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(writeBehind, "retryDir", retryDir.toString());
+        ChatMessageIdAllocator allocator = new ChatMessageIdAllocator(jdbcTemplate, redisTemplate, writeBehind);
+        ReflectionTestUtils.setField(allocator, "clusterEnabled", true);
+        ReflectionTestUtils.setField(allocator, "blockSize", 10L);
+        return allocator;
+    }
+}
@@ -0,0 +1,113 @@
+package com.korea.festival.service;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.korea.festival.exception.ChatRejectedException;
+
+// 시계를 직접 움직여서 토큰 버킷 / 쿨다운 / 중복 창 확인 (분당 6개, 중복 1분, 쿨다운은 해당 테스트에서만 2초)
+class ChatRateLimiterTest {
+
+    private final AtomicLong nanos = new AtomicLong(TimeUnit.HOURS.toNanos(1));
+    private ChatRateLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        limiter = new ChatRateLimiter();
+        ReflectionTestUtils.setField(limiter, "messagesPerMinute", 6);
+        ReflectionTestUtils.setField(limiter, "cooldownSeconds", 0);
+        ReflectionTestUtils.setField(limiter, "duplicateCheckMinutes", 1);
+        ReflectionTestUtils.setField(limiter, "nanoClock", (LongSupplier) nanos::get);
+        limiter.init();
+    }
+
+    // 처음에는 버킷이 가득 차 있어서 한꺼번에 6개까지 보내고, 7번째는 거절
+    @Test
+    void burstUpToBucketSizeThenRejects() {
+        for (int i = 0; i < 6; i++) {
+            send(1L, "메시지 " + i);
+        }
+        ChatRejectedException e = assertThrows(ChatRejectedException.class, () -> send(1L, "일곱 번째"));
+        assertEquals("1분에 최대 6개의 메시지만 보낼 수 있습니다", e.getMessage());
+
+        // 다른 사용자는 영향 없음
+        send(2L, "다른 사용자");
+    }
+
+    // 토큰은 10초에 1개씩 (분당 6개) 다시 차고, 버킷 크기 이상으로는 쌓이지 않음
+    @Test
+    void tokensRefillAtConfiguredRateUpToCapacity() {
+        for (int i = 0; i < 6; i++) {
+            send(1L, "메시지 " + i);
+        }
+        advanceSeconds(9);
+        assertThrows(ChatRejectedException.class, () -> send(1L, "0.9개"));
+        advanceSeconds(1);
+        send(1L, "충전 1");
+        advanceSeconds(2);
+        assertThrows(ChatRejectedException.class, () -> send(1L, "아직 부족"));
+
+        // 한참 쉬어도 6개까지만
+        advanceSeconds(600);
+        for (int i = 0; i < 6; i++) {
+            send(1L, "다시 " + i);
+        }
+        assertThrows(ChatRejectedException.class, () -> send(1L, "7번째"));
+    }
+
+    @Test
+    void cooldownBetweenMessages() {
+        ReflectionTestUtils.setField(limiter, "cooldownSeconds", 2);
+        limiter.init();
+
+        send(1L, "첫 번째");
+        advanceSeconds(1);
+        ChatRejectedException e = assertThrows(ChatRejectedException.class, () -> send(1L, "너무 빠름"));
+        assertEquals("2초 후에 다시 보낼 수 있습니다", e.getMessage());
+
+        // 거절된 전송은 토큰/쿨다운을 쓰지 않음
+        advanceSeconds(1);
+        send(1L, "두 번째");
+    }
+
+    // 같은 지역 같은 내용은 1분 동안 금지, 다른 지역이면 허용
+    @Test
+    void duplicateMessagesWithinWindowAreRejected() {
+        send(1L, "안녕하세요");
+        advanceSeconds(2);
+        assertThrows(ChatRejectedException.class, () -> send(1L, "안녕하세요"));
+        assertDoesNotThrow(() -> limiter.check(1L, "부산", "안녕하세요"));
+
+        advanceSeconds(60);
+        send(1L, "안녕하세요");
+    }
+
+    // 유휴 버킷 제거 후 다시 오면 가득 찬 버킷으로 시작
+    @Test
+    void idleBucketsAreEvicted() {
+        send(1L, "메시지");
+        advanceSeconds(30);
+        send(2L, "메시지");
+        advanceSeconds(40);
+
+        limiter.evictIdleBuckets();
+        assertEquals(1, limiter.getTrackedUserCount());
+    }
+
+    private void send(Long userId, String message) {
+        limiter.check(userId, "서울", message);
+    }
+
+    private void advanceSeconds(long seconds) {
+        nanos.addAndGet(TimeUnit.SECONDS.toNanos(seconds));
+    }
+}
@@ -0,0 +1,114 @@
+package com.korea.festival.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+class CommentTreeLoaderTest {
+
+    private static final int THREADS = 1000;
+    private static final LocalDateTime BASE = LocalDateTime.of(2026, 10, 1, 12, 0);
+
+    private JdbcTemplate jdbcTemplate;
+    private CommentTreeLoader loader;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:comment_tree;MODE=MySQL;DB_CLOSE_DELAY=-1", "sa", "");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("DROP ALL OBJECTS");
+        jdbcTemplate.execute("CREATE TABLE users (id BIGINT PRIMARY KEY, nickname VARCHAR(255))");
+        jdbcTemplate.execute("CREATE TABLE board_comment (id BIGINT PRIMARY KEY, board_id BIGINT, user_id BIGINT, " +
+                "parent_id BIGINT, content VARCHAR(255), created_at TIMESTAMP)");
+        jdbcTemplate.update("INSERT INTO users (id, nickname) VALUES (1, '작성자'), (2, '답글러')");
+
+        // 게시글 1: 최상위 댓글 THREADS 개, i % 3 개의 대댓글, 첫 대댓글에는 대대댓글 하나
+        // id 는 작성 순서와 반대로 줘서 정렬이 created_at 기준인지 확인
+        List<Object[]> rows = new ArrayList<>();
+        long id = 1_000_000;
+        for (int i = 0; i < THREADS; i++) {
+            long root = id--;
+            rows.add(comment(root, 1L, null, 1L, "댓글 " + i, BASE.plusMinutes(i)));
+            for (int r = 0; r < i % 3; r++) {
+                long reply = id--;
+                rows.add(comment(reply, 1L, root, 2L, "답글 " + i + "-" + r, BASE.plusMinutes(i).plusSeconds(r + 1)));
+                if (r == 0) {
+                    rows.add(comment(id--, 1L, reply, 1L, "답답글 " + i, BASE.plusMinutes(i).plusSeconds(30)));
+                }
+            }
+        }
+        rows.add(comment(id--, 2L, null, null, "다른 게시글", BASE));
+        jdbcTemplate.batchUpdate("INSERT INTO board_comment (id, board_id, parent_id, user_id, content, created_at) " +
+                "VALUES (?, ?, ?, ?, ?, ?)", rows);
+
+        loader = new CommentTreeLoader(jdbcTemplate);
+    }
+
+    @Test
+    void loadsWholeTreeInWriteOrder() {
+        List<CommentTreeLoader.Node> threads = loader.load(CommentTreeLoader.Target.BOARD, 1L);
+
+        assertEquals(THREADS, threads.size());
+        for (int i = 0; i < THREADS; i++) {
+            assertThread(i, threads.get(i));
+        }
+        assertEquals(1, loader.load(CommentTreeLoader.Target.BOARD, 2L).size());
+        assertTrue(loader.load(CommentTreeLoader.Target.BOARD, 3L).isEmpty());
+    }
+
+    @Test
+    void pagesTopLevelThreadsWithAllReplies() {
+        Page<CommentTreeLoader.Node> page = loader.loadThreads(CommentTreeLoader.Target.BOARD, 1L, PageRequest.of(3, 20));
+
+        assertEquals(THREADS, page.getTotalElements());
+        assertEquals(20, page.getNumberOfElements());
+        for (int i = 0; i < 20; i++) {
+            assertThread(60 + i, page.getContent().get(i));
+        }
+
+        Page<CommentTreeLoader.Node> beyond = loader.loadThreads(CommentTreeLoader.Target.BOARD, 1L, PageRequest.of(100, 20));
+        assertTrue(beyond.getContent().isEmpty());
+        assertEquals(THREADS, beyond.getTotalElements());
+    }
+
+    // 부모가 목록에 없는 댓글 (다른 대상의 댓글을 부모로 가리키는 경우 등) 은 최상위로
+    @Test
+    void orphanRepliesBecomeTopLevel() {
+        List<CommentTreeLoader.Node> roots = CommentTreeLoader.assemble(List.of(
+                new CommentTreeLoader.Row(1L, null, 1L, "a", "root", BASE),
+                new CommentTreeLoader.Row(2L, 1L, 1L, "a", "reply", BASE),
+                new CommentTreeLoader.Row(3L, 99L, 1L, "a", "orphan", BASE)));
+
+        assertEquals(2, roots.size());
+        assertEquals(1, roots.get(0).replies().size());
+        assertEquals("orphan", roots.get(1).row().content());
+    }
+
+    private static void assertThread(int i, CommentTreeLoader.Node thread) {
+        assertEquals("댓글 " + i, thread.row().content());
+        assertEquals("작성자", thread.row().userNickname());
+        assertEquals(i % 3, thread.replies().size());
+        for (int r = 0; r < i % 3; r++) {
+            CommentTreeLoader.Node reply = thread.replies().get(r);
+            assertEquals("답글 " + i + "-" + r, reply.row().content());
+            assertEquals("답글러", reply.row().userNickname());
+            assertEquals(r == 0 ? 1 : 0, reply.replies().size());
+        }
+    }
+
+    private static Object[] comment(long id, Long boardId, Long parentId, Long userId, String content, LocalDateTime at) {
+        return new Object[] {id, boardId, parentId, userId, content, Timestamp.valueOf(at)};
+    }
+}
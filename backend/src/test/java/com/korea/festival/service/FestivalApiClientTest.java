@@ -0,0 +1,219 @@
+package com.korea.festival.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPOutputStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Flux;
+
+// 로컬 HTTP 서버로 시간 초과 / 5xx / 4xx / gzip / 연결 재사용 / 동시 요청 수 제한 확인
+class FestivalApiClientTest {
+
+    private static final String BODY = "{\"response\":{\"body\":{\"totalCount\":0}}}";
+    private static final FestivalApiClient.BodyReader<String> AS_STRING =
+            in -> new String(in.readAllBytes(), StandardCharsets.UTF_8);
+
+    private HttpServer server;
+    private ExecutorService serverExecutor;
+    private FestivalApiClient client;
+    private SimpleMeterRegistry meterRegistry;
+
+    private final AtomicInteger requests = new AtomicInteger();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+    private final Set<Integer> clientPorts = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger gzipResponses = new AtomicInteger();
+    private final CountDownLatch firstByteRead = new CountDownLatch(1);
+    private final AtomicBoolean streamed = new AtomicBoolean();
+    // 요청 순서별 동작: "slow", "503", "400", 없으면 200
+    private volatile List<String> script = List.of();
+
+    static FestivalApiClient client(String url, SimpleMeterRegistry meterRegistry, long responseTimeoutMillis) {
+        FestivalApiClient client = new FestivalApiClient(meterRegistry);
+        ReflectionTestUtils.setField(client, "apiUrl", url);
+        ReflectionTestUtils.setField(client, "serviceKey", "test-key");
+        ReflectionTestUtils.setField(client, "maxConnections", 2);
+        ReflectionTestUtils.setField(client, "connectTimeoutMillis", 1000);
+        ReflectionTestUtils.setField(client, "responseTimeoutMillis", responseTimeoutMillis);
+        ReflectionTestUtils.setField(client, "maxRetries", 3);
+        ReflectionTestUtils.setField(client, "retryBackoffMillis", 20L);
+        client.init();
+        return client;
+    }
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        serverExecutor = Executors.newCachedThreadPool();
+        server.setExecutor(serverExecutor);
+        server.createContext("/api", this::handle);
+        server.start();
+        meterRegistry = new SimpleMeterRegistry();
+        client = client("http://127.0.0.1:" + server.getAddress().getPort() + "/api", meterRegistry, 300);
+    }
+
+    @AfterEach
+    void tearDown() {
+        client.shutdown();
+        server.stop(0);
+        serverExecutor.shutdownNow();
+    }
+
+    @Test
+    void retriesTimeoutsAndServerErrorsThenSucceeds() {
+        script = List.of("slow", "503", "503");
+
+        assertEquals(BODY, client.fetchPage(1, 10, "20261001", "20271001", AS_STRING).block());
+        assertEquals(4, requests.get());
+        assertEquals(3.0, meterRegistry.get("festival.api.retries").counter().count());
+        assertEquals(1, meterRegistry.get("festival.api.request").tag("outcome", "io_error").timer().count());
+        assertEquals(2, meterRegistry.get("festival.api.request").tag("outcome", "server_error").timer().count());
+        assertEquals(1, meterRegistry.get("festival.api.request").tag("outcome", "success").timer().count());
+    }
+
+    @Test
+    void clientErrorsAreNotRetriedAndRetriesAreBounded() {
+        script = List.of("400");
+        assertThrows(WebClientResponseException.BadRequest.class,
+                () -> client.fetchPage(1, 10, "20261001", "20271001", AS_STRING).block());
+        assertEquals(1, requests.get());
+
+        requests.set(0);
+        script = List.of("503", "503", "503", "503", "503");
+        assertThrows(WebClientResponseException.ServiceUnavailable.class,
+                () -> client.fetchPage(1, 10, "20261001", "20271001", AS_STRING).block());
+        assertEquals(4, requests.get()); // 최초 1회 + 재시도 3회
+    }
+
+    @Test
+    void reusesPooledConnectionsAndBoundsConcurrency() {
+        List<String> bodies = Flux.range(1, 20)
+                .flatMap(page -> client.fetchPage(page, 10, "20261001", "20271001", AS_STRING), 10)
+                .collectList()
+                .block();
+
+        assertEquals(20, bodies.size());
+        assertTrue(bodies.stream().allMatch(BODY::equals)); // gzip 응답 해제
+        assertEquals(20, gzipResponses.get());
+        assertTrue(maxInFlight.get() <= 2, "in flight " + maxInFlight.get());
+        assertTrue(clientPorts.size() <= 2, "connections " + clientPorts.size());
+        assertEquals(20, meterRegistry.get("festival.api.request").tag("outcome", "success").timer().count());
+    }
+
+    // 본문 앞부분만 보낸 상태에서 파서가 읽기 시작해야 나머지를 보냄 (본문을 다 모은 뒤 파싱하면 5초 대기 후 실패)
+    @Test
+    void parserReadsBodyWhileItIsStillArriving() {
+        script = List.of("stream");
+        String body = client.fetchPage(1, 10, "20261001", "20271001", in -> {
+            int first = in.read();
+            firstByteRead.countDown();
+            return (char) first + new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }).block();
+
+        assertEquals(BODY, body);
+        assertTrue(streamed.get(), "body was buffered before parsing");
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        int index = requests.getAndIncrement();
+        clientPorts.add(exchange.getRemoteAddress().getPort());
+        maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+        try {
+            String action = index < script.size() ? script.get(index) : "ok";
+            switch (action) {
+                case "slow" -> {
+                    sleep(1500);
+                    respond(exchange, 200, BODY.getBytes(StandardCharsets.UTF_8), false);
+                }
+                case "503" -> respond(exchange, 503, new byte[0], false);
+                case "400" -> respond(exchange, 400, new byte[0], false);
+                case "stream" -> {
+                    byte[] bytes = BODY.getBytes(StandardCharsets.UTF_8);
+                    exchange.getResponseHeaders().add("Content-Type", "application/json;charset=UTF-8");
+                    exchange.sendResponseHeaders(200, 0);
+                    try (OutputStream out = exchange.getResponseBody()) {
+                        out.write(bytes, 0, 10);
+                        out.flush();
+                        streamed.set(await(firstByteRead, 5000));
+                        out.write(bytes, 10, bytes.length - 10);
+                    }
+                }
+                default -> {
+                    sleep(20);
+                    String acceptEncoding = exchange.getRequestHeaders().getFirst("Accept-Encoding");
+                    boolean gzip = acceptEncoding != null && acceptEncoding.contains("gzip");
+                    if (gzip) {
+                        gzipResponses.incrementAndGet();
+                    }
+                    respond(exchange, 200, BODY.getBytes(StandardCharsets.UTF_8), gzip);
+                }
+            }
+        } catch (IOException e) {
+            // 클라이언트가 시간 초과로 연결을 끊은 경우
+        } finally {
+            inFlight.decrementAndGet();
+            exchange.close();
+        }
+    }
+
+    private static void respond(HttpExchange exchange, int status, byte[] body, boolean gzip) throws IOException {
+        if (gzip) {
+            ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+            try (GZIPOutputStream out = new GZIPOutputStream(compressed)) {
+                out.write(body);
+            }
+            body = compressed.toByteArray();
+            exchange.getResponseHeaders().add("Content-Encoding", "gzip");
+        }
+        exchange.getResponseHeaders().add("Content-Type", "application/json;charset=UTF-8");
+        exchange.sendResponseHeaders(status, body.length == 0 ? -1 : body.length);
+        if (body.length > 0) {
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        }
+    }
+
+    private static boolean await(CountDownLatch latch, long millis) {
+        try {
+            return latch.await(millis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
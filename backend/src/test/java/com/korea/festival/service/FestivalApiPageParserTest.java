@@ -0,0 +1,140 @@
+package com.korea.festival.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.korea.festival.dto.FestivalApiItem;
+import com.korea.festival.dto.FestivalApiPage;
+
+class FestivalApiPageParserTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final FestivalApiPageParser parser = new FestivalApiPageParser(objectMapper);
+
+    @Test
+    void parsesRecordedPagesAndSingleItemObject() throws Exception {
+        FestivalApiPage page1 = parse(fixture("/festival-api/page1.json"));
+        assertEquals(5, page1.totalCount());
+        assertEquals(2, page1.items().size());
+        FestivalApiItem busan = page1.items().get(1);
+        assertEquals("2000002", busan.contentId());
+        assertEquals("http://tong.visitkorea.or.kr/cms/resource/02/2.jpg", busan.firstimage()); // firstimage2 대체
+        assertEquals(LocalDate.of(2026, 11, 7), busan.eventStartDate());
+        assertEquals("6", busan.areaCode());
+        assertEquals(129.1186316, busan.mapX());
+
+        // 한 건이면 item 이 배열이 아닌 객체
+        FestivalApiPage page3 = parse(fixture("/festival-api/page3.json"));
+        assertEquals(1, page3.items().size());
+        assertEquals("화천산천어축제", page3.items().get(0).title());
+    }
+
+    @Test
+    void toleratesEmptyItemsNumbersNullsAndUnknownFields() throws Exception {
+        assertEquals(0, parse("{\"response\":{\"body\":{\"items\":\"\",\"totalCount\":0}}}").items().size());
+
+        FestivalApiPage page = parse("{\"response\":{\"header\":{\"resultCode\":\"0000\"},\"body\":{\"items\":{\"item\":[" +
+                "{\"contentid\":1,\"title\":\"a\",\"addr1\":null,\"eventstartdate\":\"20261101\",\"eventenddate\":20261102," +
+                "\"mapx\":127.5,\"mapy\":\"0\",\"extra\":{\"nested\":[1,2]},\"firstimage\":\"\"}," +
+                "{\"contentid\":\"2\",\"title\":\"날짜 없음\"}]},\"totalCount\":\"2\"}}}");
+        assertEquals(2, page.totalCount());
+        assertEquals(1, page.items().size()); // 기간이 없는 항목은 건너뜀
+        FestivalApiItem item = page.items().get(0);
+        assertEquals("1", item.contentId());
+        assertEquals("", item.addr1());
+        assertEquals(127.5, item.mapX());
+        assertNull(item.mapY());
+        assertEquals("/default.jpg", item.firstimage());
+        assertEquals(LocalDate.of(2026, 11, 2), item.eventEndDate());
+    }
+
+    @Test
+    void streamingMatchesTreeParsingOnLargePage() throws Exception {
+        byte[] page = recordedPage(500);
+        assertEquals(treeParse(page), parser.parse(new ByteArrayInputStream(page)).items().size());
+    }
+
+    // JMH -prof gc 대신 스레드별 할당 바이트로 비교: 문자열 + readTree 트리 vs 스트리밍 파서 (측정이라 perf 태그로 분리)
+    @Tag("perf")
+    @Test
+    void streamingAllocatesLessThanTreeParsing() throws Exception {
+        byte[] page = recordedPage(500);
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().threadId();
+        int rounds = 50;
+        for (int i = 0; i < rounds; i++) {
+            treeParse(page);
+            parser.parse(new ByteArrayInputStream(page));
+        }
+
+        long before = threads.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < rounds; i++) {
+            treeParse(page);
+        }
+        long treeBytes = (threads.getThreadAllocatedBytes(threadId) - before) / rounds;
+
+        before = threads.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < rounds; i++) {
+            parser.parse(new ByteArrayInputStream(page));
+        }
+        long streamBytes = (threads.getThreadAllocatedBytes(threadId) - before) / rounds;
+
+        assertTrue(streamBytes < treeBytes, "allocated per page: tree=" + treeBytes + "B, streaming=" + streamBytes + "B");
+    }
+
+    // 이전 방식: 본문 문자열 → JsonNode 트리 → 항목 복사
+    private int treeParse(byte[] page) throws Exception {
+        String body = new String(page, StandardCharsets.UTF_8);
+        JsonNode items = objectMapper.readTree(body).path("response").path("body").path("items").path("item");
+        List<JsonNode> copied = new ArrayList<>();
+        items.forEach(copied::add);
+        return copied.size();
+    }
+
+    private static byte[] recordedPage(int size) {
+        StringBuilder json = new StringBuilder("{\"response\":{\"header\":{\"resultCode\":\"0000\",\"resultMsg\":\"OK\"}," +
+                "\"body\":{\"items\":{\"item\":[");
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("{\"addr1\":\"서울특별시 종로구 사직로 ").append(i).append("\",\"addr2\":\"\",\"areacode\":\"1\"," +
+                    "\"booktour\":\"\",\"cat1\":\"A02\",\"cat2\":\"A0207\",\"cat3\":\"A02070200\",\"contentid\":\"")
+                    .append(2_000_000 + i).append("\",\"contenttypeid\":\"15\",\"createdtime\":\"20250101120000\"," +
+                    "\"eventstartdate\":\"20261101\",\"eventenddate\":\"20261110\"," +
+                    "\"firstimage\":\"http://tong.visitkorea.or.kr/cms/resource/").append(i % 100)
+                    .append("/").append(3_000_000 + i).append("_image2_1.jpg\",\"firstimage2\":" +
+                    "\"http://tong.visitkorea.or.kr/cms/resource/").append(i % 100).append("/").append(3_000_000 + i)
+                    .append("_image3_1.jpg\",\"cpyrhtDivCd\":\"Type3\",\"mapx\":\"126.97").append(i % 10)
+                    .append("\",\"mapy\":\"37.57").append(i % 10).append("\",\"mlevel\":\"6\"," +
+                    "\"modifiedtime\":\"20260901101500\",\"sigungucode\":\"23\",\"tel\":\"02-000-0000\"," +
+                    "\"title\":\"축제 ").append(i).append("\",\"lDongRegnCd\":\"11\",\"lDongSignguCd\":\"110\"}");
+        }
+        json.append("]},\"numOfRows\":").append(size).append(",\"pageNo\":1,\"totalCount\":").append(size).append("}}}");
+        return json.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private FestivalApiPage parse(String json) throws Exception {
+        return parser.parse(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private String fixture(String path) throws Exception {
+        try (InputStream in = getClass().getResourceAsStream(path)) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.korea.festival.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.korea.festival.dto.FestivalResponseDTO;
+
+class FestivalCalendarServiceTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private FestivalCalendarService calendarService;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:festival_calendar;MODE=MySQL;DB_CLOSE_DELAY=-1", "sa", "");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("DROP TABLE IF EXISTS festivals");
+        jdbcTemplate.execute("CREATE TABLE festivals (id BIGINT AUTO_INCREMENT PRIMARY KEY, content_id VARCHAR(255), " +
+                "name VARCHAR(255), location VARCHAR(255), firstimage VARCHAR(255), start_date DATE, end_date DATE, " +
+                "area_code VARCHAR(10), sigungu_code VARCHAR(10), likes_count INT, active BOOLEAN)");
+        insert("running", "2026-10-01", "2026-10-31", "1", "23", 5, true);   // 진행 중
+        insert("weekend", "2026-10-24", "2026-10-25", "6", "12", 9, true);   // 이번 주말
+        insert("busan", "2026-10-18", "2026-10-18", "6", "16", 2, true);     // 오늘 하루
+        insert("ended", "2026-09-01", "2026-10-17", "1", "23", 50, true);    // 어제 끝남
+        insert("hidden", "2026-10-01", "2026-12-31", "1", "23", 100, false); // 비활성
+
+        calendarService = new FestivalCalendarService(jdbcTemplate);
+        ReflectionTestUtils.setField(calendarService, "maxResults", 500);
+        ReflectionTestUtils.setField(calendarService, "maxRangeDays", 366);
+        calendarService.rebuild();
+    }
+
+    @Test
+    void findsFestivalsAlreadyInProgress() {
+        assertEquals(List.of("running", "busan"), ids(null, LocalDate.of(2026, 10, 18), null, null, 0, "startDate"));
+        assertEquals(List.of("ended", "running", "busan"),
+                ids(null, LocalDate.of(2026, 10, 17), LocalDate.of(2026, 10, 18), null, 0, "startDate"));
+    }
+
+    @Test
+    void combinesRegionAndLikesFilters() {
+        LocalDate from = LocalDate.of(2026, 10, 1);
+        LocalDate to = LocalDate.of(2026, 10, 31);
+        assertEquals(List.of("weekend", "busan"), ids(null, from, to, "6", 0, "likes"));
+        assertEquals(List.of("weekend"), ids(null, from, to, "6", 3, "likes"));
+        assertEquals(List.of("ended", "weekend", "running", "busan"), ids(null, from, to, null, 0, "likes"));
+        assertThrows(IllegalArgumentException.class, () -> ids(null, from, to, null, 0, "views"));
+    }
+
+    @Test
+    void resolvesWeekendAndRejectsBadRanges() {
+        LocalDate sunday = LocalDate.of(2026, 10, 18);
+        assertEquals(new FestivalCalendarService.DateRange(sunday, sunday),
+                calendarService.resolve("weekend", null, null, sunday));
+        LocalDate wednesday = LocalDate.of(2026, 10, 21);
+        assertEquals(new FestivalCalendarService.DateRange(LocalDate.of(2026, 10, 24), LocalDate.of(2026, 10, 25)),
+                calendarService.resolve("weekend", null, null, wednesday));
+        assertThrows(IllegalArgumentException.class, () -> calendarService.resolve(null, null, null, sunday));
+        assertThrows(IllegalArgumentException.class,
+                () -> calendarService.resolve(null, sunday, sunday.minusDays(1), sunday));
+        assertThrows(IllegalArgumentException.class,
+                () -> calendarService.resolve(null, sunday, sunday.plusYears(2), sunday));
+    }
+
+    private List<String> ids(String when, LocalDate from, LocalDate to, String areaCode, int minLikes, String sort) {
+        return calendarService.find(new FestivalCalendarService.Query(when, from, to, areaCode, null, minLikes, sort, 100))
+                .stream().map(FestivalResponseDTO::getContentid).toList();
+    }
+
+    private void insert(String contentId, String start, String end, String areaCode, String sigunguCode,
+                        int likes, boolean active) {
+        jdbcTemplate.update(
+                "INSERT INTO festivals (content_id, name, location, firstimage, start_date, end_date, area_code, " +
+                "sigungu_code, likes_count, active) VALUES (?, ?, '', '/default.jpg', ?, ?, ?, ?, ?, ?)",
+                contentId, contentId, LocalDate.parse(start), LocalDate.parse(end), areaCode, sigunguCode, likes, active);
+    }
+}
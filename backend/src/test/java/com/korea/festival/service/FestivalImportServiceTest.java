@@ -0,0 +1,169 @@
+package com.korea.festival.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.korea.festival.dto.FestivalImportResult;
+import com.sun.net.httpserver.HttpServer;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+// 녹화해 둔 API 응답(src/test/resources/festival-api/pageN.json, changed/pageN.json)을 로컬 HTTP 서버로 재생
+class FestivalImportServiceTest {
+
+    private HttpServer server;
+    private JdbcTemplate jdbcTemplate;
+    private FestivalApiClient apiClient;
+    private FestivalImportService importService;
+    private final AtomicInteger requests = new AtomicInteger();
+    private volatile String fixtureDir = "/festival-api/";
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/B551011/KorService2/searchFestival2", exchange -> {
+            requests.incrementAndGet();
+            String pageNo = exchange.getRequestURI().getQuery().replaceAll(".*pageNo=(\\d+).*", "$1");
+            byte[] body;
+            try (InputStream in = getClass().getResourceAsStream(fixtureDir + "page" + pageNo + ".json")) {
+                body = in.readAllBytes();
+            }
+            exchange.getResponseHeaders().add("Content-Type", "application/json;charset=UTF-8");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:festival_import;MODE=MySQL;DB_CLOSE_DELAY=-1", "sa", "");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("DROP TABLE IF EXISTS festivals");
+        jdbcTemplate.execute("CREATE TABLE festivals (" +
+                "id BIGINT AUTO_INCREMENT PRIMARY KEY, content_id VARCHAR(255), name VARCHAR(255), " +
+                "start_date DATE, end_date DATE, location VARCHAR(255), firstimage VARCHAR(255), " +
+                "description VARCHAR(255), booking_url VARCHAR(255), views INT, clicks INT, " +
+                "active BOOLEAN, created_at TIMESTAMP, likes_count INT, content_hash VARCHAR(64), modified_time TIMESTAMP, " +
+                "area_code VARCHAR(10), sigungu_code VARCHAR(10), map_x DOUBLE, map_y DOUBLE)");
+
+        apiClient = FestivalApiClientTest.client(
+                "http://127.0.0.1:" + server.getAddress().getPort() + "/B551011/KorService2/searchFestival2",
+                new SimpleMeterRegistry(), 2000);
+        importService = new FestivalImportService(jdbcTemplate, new DataSourceTransactionManager(dataSource),
+                apiClient, new FestivalApiPageParser(new ObjectMapper()), event -> { });
+        ReflectionTestUtils.setField(importService, "numOfRows", 2);
+        ReflectionTestUtils.setField(importService, "fetchConcurrency", 2);
+        ReflectionTestUtils.setField(importService, "chunkSize", 3);
+        ReflectionTestUtils.setField(importService, "monthsAhead", 12);
+    }
+
+    @AfterEach
+    void tearDown() {
+        apiClient.shutdown();
+        server.stop(0);
+    }
+
+    @Test
+    void importsAllPagesAndInsertsOnlyNewFestivals() {
+        FestivalImportResult result = importService.importFestivals();
+
+        assertEquals(3, requests.get());
+        assertEquals(3, result.getPages());
+        assertEquals(4, result.getFetched()); // 2페이지의 중복 contentId 제외
+        assertEquals(4, result.getInserted());
+        assertEquals(4, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM festivals", Integer.class));
+        assertEquals("http://tong.visitkorea.or.kr/cms/resource/02/2.jpg", jdbcTemplate.queryForObject(
+                "SELECT firstimage FROM festivals WHERE content_id = '2000002'", String.class));
+        assertEquals("/default.jpg", jdbcTemplate.queryForObject(
+                "SELECT firstimage FROM festivals WHERE content_id = '2000003'", String.class));
+        assertTrue(jdbcTemplate.queryForObject(
+                "SELECT active FROM festivals WHERE content_id = '2000004'", Boolean.class));
+        assertEquals("6", jdbcTemplate.queryForObject(
+                "SELECT area_code FROM festivals WHERE content_id = '2000002'", String.class));
+        assertEquals(129.1186316, jdbcTemplate.queryForObject(
+                "SELECT map_x FROM festivals WHERE content_id = '2000002'", Double.class));
+        // 좌표가 비어 있으면 null
+        assertNull(jdbcTemplate.queryForObject(
+                "SELECT map_y FROM festivals WHERE content_id = '2000003'", Double.class));
+    }
+
+    @Test
+    void reimportWithoutChangesWritesNothing() {
+        importService.importFestivals();
+
+        FestivalImportResult result = importService.importFestivals();
+
+        assertEquals(0, result.getInserted());
+        assertEquals(0, result.getUpdated());
+        assertEquals(4, result.getUnchanged());
+        assertEquals(0, result.getDeactivated());
+    }
+
+    @Test
+    void deltaSyncUpdatesChangedDeactivatesVanishedAndKeepsCounters() {
+        importService.importFestivals();
+        jdbcTemplate.update("UPDATE festivals SET views = 7, likes_count = 3 WHERE content_id = '2000001'");
+
+        fixtureDir = "/festival-api/changed/";
+        FestivalImportResult result = importService.importFestivals();
+
+        assertEquals(1, result.getInserted());    // 2000005
+        assertEquals(1, result.getUpdated());     // 2000001 기간/이름 변경
+        assertEquals(2, result.getUnchanged());   // 2000002, 2000004
+        assertEquals(1, result.getDeactivated()); // 2000003 사라짐
+        assertEquals(5, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM festivals", Integer.class));
+        assertEquals("궁중문화축전 (기간 연장)", jdbcTemplate.queryForObject(
+                "SELECT name FROM festivals WHERE content_id = '2000001'", String.class));
+        assertEquals(7, jdbcTemplate.queryForObject(
+                "SELECT views FROM festivals WHERE content_id = '2000001'", Integer.class));
+        assertEquals(3, jdbcTemplate.queryForObject(
+                "SELECT likes_count FROM festivals WHERE content_id = '2000001'", Integer.class));
+        assertFalse(jdbcTemplate.queryForObject(
+                "SELECT active FROM festivals WHERE content_id = '2000003'", Boolean.class));
+
+        // 다시 나타나면 재활성화
+        fixtureDir = "/festival-api/";
+        FestivalImportResult back = importService.importFestivals();
+        assertEquals(2, back.getUpdated()); // 2000001 원래대로, 2000003 재활성화
+        assertEquals(1, back.getDeactivated()); // 2000005
+        assertTrue(jdbcTemplate.queryForObject(
+                "SELECT active FROM festivals WHERE content_id = '2000003'", Boolean.class));
+    }
+
+    // 동기화 이전 행 (해시 없음) 만 켜고, 켠 행이 있으면 읽기 모델이 전체를 다시 만들도록 알림
+    @Test
+    void activatingLegacyFestivalsPublishesFullRefresh() {
+        List<Object> events = new ArrayList<>();
+        FestivalImportService service = new FestivalImportService(jdbcTemplate, null, apiClient,
+                new FestivalApiPageParser(new ObjectMapper()), events::add);
+        jdbcTemplate.update("INSERT INTO festivals (content_id, name, active) VALUES ('1', '예전 축제', false)");
+        jdbcTemplate.update("INSERT INTO festivals (content_id, name, active, content_hash) VALUES ('2', '끝난 축제', false, 'h')");
+
+        service.activateLegacyFestivals();
+        assertTrue(jdbcTemplate.queryForObject("SELECT active FROM festivals WHERE content_id = '1'", Boolean.class));
+        assertFalse(jdbcTemplate.queryForObject("SELECT active FROM festivals WHERE content_id = '2'", Boolean.class));
+        assertEquals(List.of(new FestivalChangedEvent(null)), events);
+
+        service.activateLegacyFestivals();
+        assertEquals(1, events.size());
+    }
+}
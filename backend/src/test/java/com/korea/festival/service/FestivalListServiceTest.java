@@ -0,0 +1,107 @@
+package com.korea.festival.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+class FestivalListServiceTest {
+
+    private static final int FESTIVALS = 250;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private FestivalListService listService;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:festival_list;MODE=MySQL;DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("DROP TABLE IF EXISTS festivals");
+        jdbcTemplate.execute("CREATE TABLE festivals (id BIGINT AUTO_INCREMENT PRIMARY KEY, content_id VARCHAR(255), " +
+                "name VARCHAR(255), location VARCHAR(255), firstimage VARCHAR(255), start_date DATE, end_date DATE, " +
+                "likes_count INT, active BOOLEAN)");
+        LocalDate base = LocalDate.of(2026, 11, 1);
+        for (int i = 0; i < FESTIVALS; i++) {
+            // 시작일/좋아요 값이 겹치는 행이 많도록 (id 로 순서가 정해져야 함)
+            jdbcTemplate.update("INSERT INTO festivals (content_id, name, location, firstimage, start_date, end_date, " +
+                    "likes_count, active) VALUES (?, ?, '서울', '/default.jpg', ?, ?, ?, ?)",
+                    "c" + i, "축제 " + i, base.plusDays(i % 7), base.plusDays(i % 7 + 3), i % 5, i % 50 != 49);
+        }
+        listService = new FestivalListService(jdbcTemplate, objectMapper);
+        ReflectionTestUtils.setField(listService, "maxPageSize", 100);
+    }
+
+    @Test
+    void walksEveryActiveFestivalOnceInStartDateOrder() throws Exception {
+        List<JsonNode> items = walk("startDate", 20);
+
+        assertEquals(FESTIVALS - FESTIVALS / 50, items.size());
+        Set<String> seen = new HashSet<>();
+        String previous = "";
+        for (JsonNode item : items) {
+            assertTrue(seen.add(item.get("contentid").asText()), "duplicate " + item);
+            String start = item.get("eventstartdate").asText();
+            assertTrue(start.compareTo(previous) >= 0);
+            previous = start;
+        }
+    }
+
+    @Test
+    void walksEveryActiveFestivalOnceInLikesOrder() throws Exception {
+        List<JsonNode> items = walk("likes", 33);
+
+        assertEquals(FESTIVALS - FESTIVALS / 50, items.size());
+        Set<String> seen = new HashSet<>();
+        int previous = Integer.MAX_VALUE;
+        for (JsonNode item : items) {
+            assertTrue(seen.add(item.get("contentid").asText()), "duplicate " + item);
+            assertTrue(item.get("likes").asInt() <= previous);
+            previous = item.get("likes").asInt();
+        }
+    }
+
+    @Test
+    void rejectsForeignOrBrokenCursorBeforeStreaming() throws Exception {
+        JsonNode page = page("likes", null, 10);
+        String likesCursor = page.get("nextCursor").asText();
+
+        assertThrows(IllegalArgumentException.class, () -> listService.prepare("startDate", likesCursor, 10));
+        assertThrows(IllegalArgumentException.class, () -> listService.prepare("startDate", "!!not-a-cursor", 10));
+        assertThrows(IllegalArgumentException.class, () -> listService.prepare("views", null, 10));
+    }
+
+    private List<JsonNode> walk(String sort, int size) throws Exception {
+        List<JsonNode> items = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            JsonNode page = page(sort, cursor, size);
+            page.get("items").forEach(items::add);
+            cursor = page.get("nextCursor").isNull() ? null : page.get("nextCursor").asText();
+            assertTrue(++pages <= FESTIVALS, "cursor loop");
+        } while (cursor != null);
+        return items;
+    }
+
+    private JsonNode page(String sort, String cursor, int size) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        listService.write(listService.prepare(sort, cursor, size), out);
+        return objectMapper.readTree(out.toByteArray());
+    }
+}
@@ -0,0 +1,173 @@
+package com.korea.festival.service;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.korea.festival.controller.MainPageController;
+import com.korea.festival.entity.Festival_MainPage;
+import com.korea.festival.repository.MainPageRepository;
+
+// 미리 만든 순위 스냅샷 / ETag / 304 응답 (top-k 2)
+class FestivalRankingReadModelTest {
+
+    private final ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+    private final List<Festival_MainPage> festivals = new ArrayList<>();
+    private MainPageRepository repository;
+    private FestivalViewCounter viewCounter;
+    private FestivalRankingReadModel readModel;
+    private MainPageController controller;
+
+    @BeforeEach
+    void setUp() {
+        festivals.add(festival("a", 30, 1));
+        festivals.add(festival("b", 20, 5));
+        festivals.add(festival("c", 10, 3));
+
+        repository = mock(MainPageRepository.class);
+        when(repository.findUpcomingFestivals(any(), any())).thenAnswer(inv -> top(Comparator.comparing(Festival_MainPage::getStartDate), inv.getArgument(1)));
+        when(repository.findByActiveTrueOrderByViewsDesc(any())).thenAnswer(inv -> top(Comparator.comparingInt(Festival_MainPage::getViews).reversed(), inv.getArgument(0)));
+        when(repository.findByActiveTrueOrderByLikesCountDesc(any())).thenAnswer(inv -> top(Comparator.comparingInt(Festival_MainPage::getLikesCount).reversed(), inv.getArgument(0)));
+        viewCounter = mock(FestivalViewCounter.class);
+
+        readModel = new FestivalRankingReadModel(repository, objectMapper, viewCounter);
+        ReflectionTestUtils.setField(readModel, "topK", 2);
+        readModel.init();
+
+        MainPageService mainPageService = mock(MainPageService.class);
+        when(mainPageService.getFestivalsByPopularity()).thenAnswer(inv -> readModel.popular());
+        when(mainPageService.getFestivalsByLikes()).thenAnswer(inv -> readModel.likes());
+        controller = new MainPageController(mainPageService, null, null, null);
+    }
+
+    // 요청마다 같은 바이트를 그대로 응답, 바뀐 것이 없으면 다시 만들지 않고 ETag 도 같음
+    @Test
+    void snapshotsAreReusedUntilSomethingChanges() throws Exception {
+        FestivalRankingReadModel.Snapshot likes = readModel.likes();
+        assertSame(likes, readModel.likes());
+        assertEquals(List.of("b", "c"), contentIds(likes));
+
+        readModel.refreshIfDirty();
+        assertSame(likes, readModel.likes());
+        verify(repository, times(1)).findByActiveTrueOrderByLikesCountDesc(any());
+
+        // 강제로 다시 만들어도 내용이 같으면 ETag 와 본문이 같음
+        readModel.periodicRebuild();
+        assertEquals(likes.etag(), readModel.likes().etag());
+        assertArrayEquals(likes.body(), readModel.likes().body());
+    }
+
+    // 변경 이벤트 → 다음 refresh 때 새 스냅샷, ETag 도 바뀜
+    @Test
+    void changeEventRebuildsWithNewEtag() throws Exception {
+        FestivalRankingReadModel.Snapshot before = readModel.likes();
+
+        festivals.get(0).setLikesCount(10);
+        readModel.onChanged(new FestivalChangedEvent("a"));
+        assertSame(before, readModel.likes());
+
+        readModel.refreshIfDirty();
+        FestivalRankingReadModel.Snapshot after = readModel.likes();
+        assertNotEquals(before.etag(), after.etag());
+        assertEquals(List.of("a", "b"), contentIds(after));
+    }
+
+    // 아직 DB 에 반영 전인 조회수도 순위에 반영 (이벤트 없이 조회수 합계만 바뀌어도 다시 만듦)
+    @Test
+    void pendingViewsReorderPopularRanking() throws Exception {
+        assertEquals(List.of("a", "b"), contentIds(readModel.popular()));
+
+        when(viewCounter.pending("b")).thenReturn(15L);
+        when(viewCounter.totalIncrements()).thenReturn(15L);
+        readModel.refreshIfDirty();
+
+        assertEquals(List.of("b", "a"), contentIds(readModel.popular()));
+    }
+
+    // 다시 만들기에 실패하면 이전 스냅샷을 계속 응답하고 다음 주기에 재시도
+    @Test
+    void failedRebuildKeepsPreviousSnapshot() {
+        FestivalRankingReadModel.Snapshot before = readModel.likes();
+        doThrow(new RuntimeException("DB 끊김")).when(repository).findByActiveTrueOrderByLikesCountDesc(any());
+
+        readModel.onChanged(new FestivalChangedEvent(null));
+        readModel.refreshIfDirty();
+        assertSame(before, readModel.likes());
+
+        readModel.refreshIfDirty();
+        verify(repository, times(3)).findByActiveTrueOrderByLikesCountDesc(any());
+    }
+
+    // If-None-Match 가 현재 ETag 와 같으면 본문 없이 304, 순위가 바뀌면 다시 200
+    @Test
+    void controllerAnswersNotModifiedForCurrentEtag() throws Exception {
+        ResponseEntity<byte[]> first = controller.getFestivalsByLikes(null);
+        assertEquals(HttpStatus.OK, first.getStatusCode());
+        String etag = first.getHeaders().getETag();
+        assertEquals(readModel.likes().etag(), etag);
+        assertEquals("no-cache", first.getHeaders().getCacheControl());
+        assertArrayEquals(readModel.likes().body(), first.getBody());
+
+        ResponseEntity<byte[]> cached = controller.getFestivalsByLikes(etag);
+        assertEquals(HttpStatus.NOT_MODIFIED, cached.getStatusCode());
+        assertEquals(etag, cached.getHeaders().getETag());
+        assertNull(cached.getBody());
+
+        // 다른 순위의 ETag 로는 304 가 아님
+        assertEquals(HttpStatus.OK, controller.getPopularFestivals(etag).getStatusCode());
+
+        festivals.get(2).setLikesCount(50);
+        readModel.onChanged(new FestivalChangedEvent("c"));
+        readModel.refreshIfDirty();
+        ResponseEntity<byte[]> changed = controller.getFestivalsByLikes(etag);
+        assertEquals(HttpStatus.OK, changed.getStatusCode());
+        assertNotEquals(etag, changed.getHeaders().getETag());
+        assertEquals(List.of("c", "b"), objectMapper.readValue(changed.getBody(), new TypeReference<List<Map<String, Object>>>() { })
+                .stream().map(m -> m.get("contentId")).toList());
+    }
+
+    private List<Festival_MainPage> top(Comparator<Festival_MainPage> order, Pageable pageable) {
+        return festivals.stream().sorted(order).limit(pageable.getPageSize()).toList();
+    }
+
+    private List<Object> contentIds(FestivalRankingReadModel.Snapshot snapshot) throws Exception {
+        return objectMapper.readValue(snapshot.body(), new TypeReference<List<Map<String, Object>>>() { })
+                .stream().map(m -> m.get("contentId")).toList();
+    }
+
+    private static Festival_MainPage festival(String contentId, int views, int likes) {
+        return Festival_MainPage.builder()
+                .contentId(contentId)
+                .name("축제 " + contentId)
+                .startDate(LocalDate.of(2026, 11, 1).plusDays(contentId.charAt(0)))
+                .endDate(LocalDate.of(2026, 12, 31))
+                .views(views)
+                .likesCount(likes)
+                .active(true)
+                .build();
+    }
+}
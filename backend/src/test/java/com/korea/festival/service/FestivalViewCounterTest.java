@@ -0,0 +1,90 @@
+package com.korea.festival.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class FestivalViewCounterTest {
+
+    private static final int THREADS = 8;
+    private static final int VIEWS_PER_THREAD = 20_000;
+
+    private JdbcTemplate jdbcTemplate;
+    private FestivalViewCounter counter;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:festival_views;MODE=MySQL;DB_CLOSE_DELAY=-1", "sa", "");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("DROP TABLE IF EXISTS festivals");
+        jdbcTemplate.execute("CREATE TABLE festivals (id BIGINT AUTO_INCREMENT PRIMARY KEY, " +
+                "content_id VARCHAR(255), views INT)");
+        jdbcTemplate.update("INSERT INTO festivals (content_id, views) VALUES ('hot', 5), ('cold', 0)");
+
+        meterRegistry = new SimpleMeterRegistry();
+        counter = new FestivalViewCounter(jdbcTemplate, new DataSourceTransactionManager(dataSource), meterRegistry);
+        counter.init();
+    }
+
+    @Test
+    void concurrentViewsAreNotLostAndFlushInBatches() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            futures.add(executor.submit(() -> {
+                for (int i = 0; i < VIEWS_PER_THREAD; i++) {
+                    counter.increment("hot");
+                    if (i % 100 == 0) {
+                        counter.increment("cold");
+                    }
+                }
+            }));
+        }
+        // 조회 도중에도 주기적으로 반영
+        while (!futures.stream().allMatch(Future::isDone)) {
+            counter.flush();
+            Thread.sleep(5);
+        }
+        executor.shutdown();
+        counter.shutdown();
+
+        assertEquals(5 + THREADS * VIEWS_PER_THREAD, views("hot"));
+        assertEquals(THREADS * (VIEWS_PER_THREAD / 100), views("cold"));
+        assertEquals(0, counter.pending("hot"));
+        assertEquals(THREADS * VIEWS_PER_THREAD + THREADS * (VIEWS_PER_THREAD / 100),
+                (long) meterRegistry.get("festival.views.flushed").counter().count());
+    }
+
+    @Test
+    void pendingViewsAreVisibleBeforeFlushAndUnknownIdsAreDropped() {
+        counter.increment("hot");
+        counter.increment("hot");
+        counter.increment("missing");
+
+        assertEquals(2, counter.pending("hot"));
+        assertEquals(5, views("hot"));
+
+        counter.flush();
+        assertEquals(7, views("hot"));
+        assertEquals(0, counter.pending("missing"));
+        assertEquals(1.0, meterRegistry.get("festival.views.tracked").gauge().value());
+    }
+
+    private int views(String contentId) {
+        return jdbcTemplate.queryForObject("SELECT views FROM festivals WHERE content_id = ?", Integer.class, contentId);
+    }
+}
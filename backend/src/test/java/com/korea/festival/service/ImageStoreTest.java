@@ -0,0 +1,78 @@
+package com.korea.festival.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class ImageStoreTest {
+
+    private Path uploadDir;
+    private ImageStore imageStore;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        uploadDir = Files.createTempDirectory("image-store");
+        imageStore = new ImageStore();
+        ReflectionTestUtils.setField(imageStore, "uploadPath", uploadDir.toString());
+        ReflectionTestUtils.setField(imageStore, "maxImageSize", 64 * 1024L);
+        imageStore.init();
+    }
+
+    @Test
+    void sameContentIsStoredOnceUnderItsHash() throws Exception {
+        byte[] png = png(1000, (byte) 7);
+
+        String first = imageStore.store(new ByteArrayInputStream(png));
+        String second = imageStore.store(new ByteArrayInputStream(png));
+        String other = imageStore.store(new ByteArrayInputStream(png(1000, (byte) 8)));
+
+        assertEquals(first, second);
+        assertNotEquals(first, other);
+        assertTrue(ImageStore.isKey(first));
+        assertTrue(first.endsWith(".png"));
+        assertEquals(2, files());
+        assertTrue(Arrays.equals(png, Files.readAllBytes(imageStore.resolve(first).orElseThrow())));
+        assertEquals(ImageStore.URL_PREFIX + first, ImageStore.url(first));
+        assertEquals("image/png", ImageStore.contentType(first));
+    }
+
+    @Test
+    void rejectsNonImagesOversizedFilesAndForeignKeys() throws Exception {
+        assertThrows(IllegalArgumentException.class,
+                () -> imageStore.store(new ByteArrayInputStream("<script>".getBytes())));
+        assertThrows(IllegalArgumentException.class,
+                () -> imageStore.store(new ByteArrayInputStream(png(128 * 1024, (byte) 1))));
+        assertEquals(0, files());
+
+        assertFalse(imageStore.resolve("../../etc/passwd").isPresent());
+        assertFalse(imageStore.resolve("ab/" + "0".repeat(64) + ".png").isPresent());
+        assertTrue(ImageStore.url("iVBORw0KGgo=").startsWith("data:image/png;base64,"));
+    }
+
+    // 임시 파일 제외, 저장된 이미지 수
+    private long files() throws Exception {
+        try (Stream<Path> walk = Files.walk(uploadDir)) {
+            return walk.filter(Files::isRegularFile).count();
+        }
+    }
+
+    static byte[] png(int size, byte fill) {
+        byte[] bytes = new byte[size];
+        Arrays.fill(bytes, fill);
+        byte[] signature = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'};
+        System.arraycopy(signature, 0, bytes, 0, signature.length);
+        return bytes;
+    }
+}
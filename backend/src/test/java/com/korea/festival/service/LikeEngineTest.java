@@ -0,0 +1,182 @@
+package com.korea.festival.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+class LikeEngineTest {
+
+    private static final int THREADS = 200;
+
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate transactionTemplate;
+    private LikeEngine likeEngine;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:like_engine;MODE=MySQL;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=30000", "sa", "");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("DROP ALL OBJECTS");
+        jdbcTemplate.execute("CREATE TABLE users (id BIGINT PRIMARY KEY)");
+        jdbcTemplate.execute("CREATE TABLE board (id BIGINT PRIMARY KEY, likes INT NOT NULL)");
+        jdbcTemplate.execute("CREATE TABLE board_likes (id BIGINT AUTO_INCREMENT PRIMARY KEY, " +
+                "board_id BIGINT NOT NULL REFERENCES board(id), user_id BIGINT NOT NULL REFERENCES users(id), " +
+                "created_at TIMESTAMP, CONSTRAINT uk_board_likes UNIQUE (board_id, user_id))");
+        jdbcTemplate.execute("CREATE TABLE festivals (id BIGINT PRIMARY KEY, content_id VARCHAR(255), likes_count INT NOT NULL)");
+        jdbcTemplate.execute("CREATE TABLE festival_likes (id BIGINT AUTO_INCREMENT PRIMARY KEY, " +
+                "festival_id BIGINT NOT NULL REFERENCES festivals(id), user_id BIGINT NOT NULL REFERENCES users(id), " +
+                "CONSTRAINT uk_festival_likes UNIQUE (user_id, festival_id))");
+        jdbcTemplate.execute("CREATE TABLE review (id BIGINT PRIMARY KEY, likes INT NOT NULL)");
+        jdbcTemplate.execute("CREATE TABLE review_likes (id BIGINT AUTO_INCREMENT PRIMARY KEY, " +
+                "review_id BIGINT NOT NULL REFERENCES review(id), user_id BIGINT NOT NULL REFERENCES users(id), " +
+                "created_at TIMESTAMP, CONSTRAINT uk_review_likes UNIQUE (review_id, user_id))");
+        for (int i = 1; i <= THREADS; i++) {
+            jdbcTemplate.update("INSERT INTO users (id) VALUES (?)", i);
+        }
+        jdbcTemplate.update("INSERT INTO board (id, likes) VALUES (1, 0)");
+        for (int i = 1; i <= 3; i++) {
+            jdbcTemplate.update("INSERT INTO festivals (id, content_id, likes_count) VALUES (?, ?, 0)", i, "c" + i);
+        }
+
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        likeEngine = new LikeEngine(jdbcTemplate);
+        executor = Executors.newFixedThreadPool(THREADS);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        // 작업 스레드가 끝나기 전에 다음 테스트가 시작하면 H2 잠금이 남아 있음
+        executor.shutdownNow();
+        assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void togglesLikeAndUnlike() {
+        LikeEngine.Result liked = toggle(LikeEngine.Target.FESTIVAL, 1, 7);
+        assertTrue(liked.liked());
+        assertEquals(1, liked.likes());
+
+        LikeEngine.Result unliked = toggle(LikeEngine.Target.FESTIVAL, 1, 7);
+        assertFalse(unliked.liked());
+        assertEquals(0, unliked.likes());
+        assertEquals(0, rows("festival_likes", "festival_id"));
+
+        assertThrows(RuntimeException.class, () -> toggle(LikeEngine.Target.BOARD, 99, 7));
+        assertEquals(0, rows("board_likes", "board_id"));
+    }
+
+    // 서로 다른 사용자 200명이 동시에 같은 게시글 좋아요 → 200, 다시 절반이 동시에 취소 → 100
+    @Test
+    void concurrentTogglesByDifferentUsersKeepCounterExact() throws Exception {
+        assertEquals(THREADS, runConcurrently(i -> toggle(LikeEngine.Target.BOARD, 1, i + 1)));
+        assertEquals(THREADS, counter("board", "likes"));
+        assertEquals(THREADS, rows("board_likes", "board_id"));
+
+        runConcurrently(i -> {
+            if (i % 2 == 0) {
+                toggle(LikeEngine.Target.BOARD, 1, i + 1);
+            }
+        });
+        assertEquals(THREADS / 2, counter("board", "likes"));
+        assertEquals(THREADS / 2, rows("board_likes", "board_id"));
+    }
+
+    // 한 사용자가 200번 동시에 클릭 → 행은 0 또는 1개, 카운터는 항상 행 수와 같음
+    @Test
+    void concurrentTogglesBySameUserNeverDriftFromRows() throws Exception {
+        runConcurrently(i -> toggle(LikeEngine.Target.FESTIVAL, 1, 1));
+
+        int rows = rows("festival_likes", "festival_id");
+        assertTrue(rows == 0 || rows == 1);
+        assertEquals(rows, counter("festivals", "likes_count"));
+    }
+
+    // 한 페이지의 좋아요 여부를 한 번에, filter 초기화 전후 / 초기화 후 새 좋아요 모두 반영
+    @Test
+    void likedKeysResolvesPageAtOnce() {
+        toggle(LikeEngine.Target.FESTIVAL, 1, 7);
+        toggle(LikeEngine.Target.FESTIVAL, 3, 7);
+        List<String> page = List.of("c1", "c2", "c3", "missing");
+
+        assertEquals(Set.of("c1", "c3"), likeEngine.likedKeys(LikeEngine.Target.FESTIVAL, 7L, page, String.class));
+
+        likeEngine.init();
+        assertEquals(Set.of("c1", "c3"), likeEngine.likedKeys(LikeEngine.Target.FESTIVAL, 7L, page, String.class));
+        assertEquals(Set.of(), likeEngine.likedKeys(LikeEngine.Target.FESTIVAL, 8L, page, String.class));
+        assertEquals(Set.of(), likeEngine.likedKeys(LikeEngine.Target.FESTIVAL, null, page, String.class));
+
+        toggle(LikeEngine.Target.BOARD, 1, 8);
+        assertTrue(likeEngine.isLiked(LikeEngine.Target.BOARD, 8L, 1L));
+        assertFalse(likeEngine.isLiked(LikeEngine.Target.FESTIVAL, 8L, "c1"));
+    }
+
+    // 다중 서버: 다른 노드에서 누른 좋아요 (이 노드 filter 에 없음) 도 목록에 반영
+    @Test
+    void clusterModeAlwaysQueriesDatabase() {
+        ReflectionTestUtils.setField(likeEngine, "clusterEnabled", true);
+        likeEngine.init();
+
+        jdbcTemplate.update("INSERT INTO festival_likes (festival_id, user_id) VALUES (2, 9)");
+        assertEquals(Set.of("c2"), likeEngine.likedKeys(LikeEngine.Target.FESTIVAL, 9L, List.of("c1", "c2"), String.class));
+    }
+
+    private LikeEngine.Result toggle(LikeEngine.Target target, long targetId, long userId) {
+        return transactionTemplate.execute(status -> likeEngine.toggle(target, targetId, userId));
+    }
+
+    // 모든 스레드를 동시에 출발시키고 성공한 수 반환
+    private int runConcurrently(IntConsumer task) throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger succeeded = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            int index = i;
+            futures.add(executor.submit(() -> {
+                start.await();
+                task.accept(index);
+                succeeded.incrementAndGet();
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        return succeeded.get();
+    }
+
+    private int counter(String table, String column) {
+        return jdbcTemplate.queryForObject("SELECT " + column + " FROM " + table + " WHERE id = 1", Integer.class);
+    }
+
+    private int rows(String table, String column) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table + " WHERE " + column + " = 1", Integer.class);
+    }
+
+    @FunctionalInterface
+    private interface IntConsumer {
+        void accept(int index) throws Exception;
+    }
+}
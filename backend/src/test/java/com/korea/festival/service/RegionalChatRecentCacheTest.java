@@ -0,0 +1,106 @@
+package com.korea.festival.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.korea.festival.dto.RegionalChatDto;
+import com.korea.festival.repository.RegionalChatRepository;
+
+class RegionalChatRecentCacheTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 10, 18, 12, 0);
+
+    private RegionalChatRepository repository;
+    private RegionalChatRecentCache cache;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(RegionalChatRepository.class);
+        when(repository.findRecentByRegion(any(), any())).thenReturn(List.of());
+        cache = new RegionalChatRecentCache(repository, JsonMapper.builder().findAndAddModules().build());
+        ReflectionTestUtils.setField(cache, "capacity", 3);
+    }
+
+    // 가득 차면 가장 오래된 메시지부터 밀려남
+    @Test
+    void ringEvictsOldestWhenFull() {
+        for (long seq = 1; seq <= 5; seq++) {
+            cache.append(message(seq));
+        }
+
+        assertEquals(List.of(5L, 4L, 3L), seqs(cache.getRecentMessages("서울")));
+        // 지역마다 따로, DB 는 지역당 처음 한 번만 조회
+        assertTrue(cache.getRecentMessages("부산").isEmpty());
+        verify(repository, times(1)).findRecentByRegion(eq("서울"), any());
+    }
+
+    // 늦게 도착한 메시지는 seq 자리에 끼우고, 버퍼 범위보다 오래된 메시지는 버림
+    @Test
+    void lateMessagesAreInsertedInSeqOrder() {
+        cache.append(message(1));
+        cache.append(message(3));
+        cache.append(message(2));
+        assertEquals(List.of(3L, 2L, 1L), seqs(cache.getRecentMessages("서울")));
+
+        cache.append(message(5));
+        cache.append(message(4));
+        assertEquals(List.of(5L, 4L, 3L), seqs(cache.getRecentMessages("서울")));
+
+        cache.append(message(2));
+        assertEquals(List.of(5L, 4L, 3L), seqs(cache.getRecentMessages("서울")));
+    }
+
+    // 시작 시 DB 최신순 결과로 채우고, 삭제하면 스냅샷 프레임도 다시 만듦
+    @Test
+    void loadsFromDatabaseAndRebuildsSnapshotAfterRemove() {
+        when(repository.findRecentByRegion(eq("서울"), any())).thenReturn(List.of(message(9), message(8), message(7)));
+
+        String snapshot = cache.getSnapshotFrame("서울");
+        assertSame(snapshot, cache.getSnapshotFrame("서울"));
+        assertTrue(snapshot.contains("\"id\":108"));
+        assertEquals(List.of(9L, 8L, 7L), seqs(cache.getRecentMessages("서울")));
+
+        cache.remove("서울", 108L);
+        assertEquals(List.of(9L, 7L), seqs(cache.getRecentMessages("서울")));
+        assertFalse(cache.getSnapshotFrame("서울").contains("\"id\":108"));
+    }
+
+    @Test
+    void messagesAfterOnlyWhenBufferCoversTheGap() {
+        for (long seq = 3; seq <= 5; seq++) {
+            cache.append(message(seq));
+        }
+
+        assertEquals(List.of(4L, 5L), seqs(cache.getMessagesAfter("서울", 3)));
+        assertEquals(List.of(3L, 4L, 5L), seqs(cache.getMessagesAfter("서울", 2)));
+        assertTrue(cache.getMessagesAfter("서울", 5).isEmpty());
+        // 1 과 2 사이가 버퍼에 없음
+        assertNull(cache.getMessagesAfter("서울", 1));
+        assertNull(cache.getMessagesAfter("부산", 0));
+    }
+
+    private static RegionalChatDto message(long seq) {
+        return new RegionalChatDto(100 + seq, "서울", "메시지 " + seq, "닉네임", NOW.plusSeconds(seq), seq);
+    }
+
+    private static List<Long> seqs(List<RegionalChatDto> messages) {
+        return messages.stream().map(RegionalChatDto::getSeq).toList();
+    }
+}
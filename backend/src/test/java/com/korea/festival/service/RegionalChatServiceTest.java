@@ -0,0 +1,136 @@
+package com.korea.festival.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.korea.festival.dto.RegionalChatDto;
+import com.korea.festival.entity.RegionalChat;
+import com.korea.festival.entity.User;
+import com.korea.festival.repository.RegionalChatRepository;
+
+// 재접속 이어받기 (getMessagesAfter): 최근 메시지 캐시 (3개) + (region, seq) 범위 조회, 한 번에 최대 5개
+class RegionalChatServiceTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 10, 18, 12, 0);
+
+    private RegionalChatRepository repository;
+    private ChatSequenceAllocator sequenceAllocator;
+    private RegionalChatRecentCache recentCache;
+    private RegionalChatService service;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(RegionalChatRepository.class);
+        when(repository.findRecentByRegion(any(), any())).thenReturn(List.of());
+        sequenceAllocator = mock(ChatSequenceAllocator.class);
+        recentCache = new RegionalChatRecentCache(repository, JsonMapper.builder().findAndAddModules().build());
+        ReflectionTestUtils.setField(recentCache, "capacity", 3);
+        service = new RegionalChatService(repository, null, null, null, null, recentCache, null, sequenceAllocator, null);
+        ReflectionTestUtils.setField(service, "catchUpLimit", 5);
+    }
+
+    // 캐시가 놓친 구간을 모두 담고 있으면 DB 조회 없음
+    @Test
+    void servedFromCacheWhenItCoversTheGap() {
+        current(10);
+        appendToCache(8, 9, 10);
+
+        assertEquals(List.of(8L, 9L, 10L), seqs(service.getMessagesAfter("서울", 7)));
+        assertEquals(List.of(), seqs(service.getMessagesAfter("서울", 10)));
+        verify(repository, never()).findByRegionAfterSeq(any(), anyLong(), any());
+    }
+
+    // 캐시보다 오래된 구간 → DB 범위 조회 + 아직 저장 대기 중이라 DB 에 없는 캐시 메시지로 보충
+    @Test
+    void gapBeyondCacheIsFilledFromDatabaseAndPendingMessages() {
+        current(10);
+        appendToCache(8, 9, 10);
+        // 9, 10 은 아직 write-behind 큐에 있음, 7 은 관리자가 숨겨서 조회되지 않음
+        when(repository.findByRegionAfterSeq(eq("서울"), eq(5L), any())).thenReturn(messages(6, 8));
+
+        assertEquals(List.of(6L, 8L, 9L, 10L), seqs(service.getMessagesAfter("서울", 5)));
+    }
+
+    // 놓친 메시지가 너무 많으면 null (전체 목록 재전송)
+    @Test
+    void tooManyMissedMessagesFallsBackToFullReload() {
+        current(10);
+        appendToCache(8, 9, 10);
+        when(repository.findByRegionAfterSeq(eq("서울"), eq(1L), any())).thenReturn(messages(2, 3, 4, 5, 6, 7));
+        assertNull(service.getMessagesAfter("서울", 1));
+
+        // DB 는 5개지만 캐시의 저장 대기 메시지까지 합치면 넘침
+        when(repository.findByRegionAfterSeq(eq("서울"), eq(2L), any())).thenReturn(messages(3, 4, 5, 6, 7));
+        assertNull(service.getMessagesAfter("서울", 2));
+    }
+
+    // 클라이언트가 서버보다 앞선 순번을 보내면 (서버 재시작 등) 전체 목록 재전송
+    @Test
+    void unknownFutureSeqFallsBackToFullReload() {
+        current(10);
+        assertNull(service.getMessagesAfter("서울", 11));
+        verify(repository, never()).findByRegionAfterSeq(any(), anyLong(), any());
+    }
+
+    // seq 도입 이전 메시지 (seq 없음) 가 캐시에 있으면 캐시로 판단하지 않고 DB 에서 seq 있는 것만
+    @Test
+    void legacyMessagesWithoutSeqAreNotTrustedFromCache() {
+        current(2);
+        List<RegionalChatDto> newestFirst = new ArrayList<>(messages(2, 1));
+        newestFirst.add(new RegionalChatDto(1L, "서울", "예전 메시지", "닉네임", NOW, null));
+        when(repository.findRecentByRegion(eq("서울"), any())).thenReturn(newestFirst);
+        when(repository.findByRegionAfterSeq(eq("서울"), eq(0L), any())).thenReturn(messages(1, 2));
+
+        assertEquals(List.of(1L, 2L), seqs(service.getMessagesAfter("서울", 0)));
+        verify(repository).findByRegionAfterSeq(eq("서울"), eq(0L), any());
+    }
+
+    // 페이지 조회 DTO 에도 seq 가 있어야 클라이언트가 이어받기 기준을 잡을 수 있음
+    @Test
+    void pagedMessagesCarrySeq() {
+        User user = new User();
+        user.setNickname("닉네임");
+        RegionalChat chat = RegionalChat.builder().id(5L).user(user).region("서울").message("안녕").createdAt(NOW).seq(42L).build();
+        when(repository.findByRegionOrderByCreatedAtDesc(eq("서울"), any())).thenReturn(new PageImpl<>(List.of(chat)));
+
+        assertEquals(42L, service.getRegionalMessages("서울", PageRequest.of(0, 20)).getContent().get(0).getSeq());
+    }
+
+    private void current(long seq) {
+        when(sequenceAllocator.current("서울")).thenReturn(seq);
+    }
+
+    private void appendToCache(long... seqs) {
+        messages(seqs).forEach(recentCache::append);
+    }
+
+    private static List<RegionalChatDto> messages(long... seqs) {
+        List<RegionalChatDto> messages = new ArrayList<>();
+        for (long seq : seqs) {
+            messages.add(new RegionalChatDto(100 + seq, "서울", "메시지 " + seq, "닉네임", NOW.plusSeconds(seq), seq));
+        }
+        return messages;
+    }
+
+    private static List<Long> seqs(List<RegionalChatDto> messages) {
+        return messages.stream().map(RegionalChatDto::getSeq).toList();
+    }
+}
@@ -0,0 +1,193 @@
+package com.korea.festival.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.korea.festival.exception.ChatRejectedException;
+import com.korea.festival.repository.RegionalChatRepository;
+import com.korea.festival.service.RegionalChatWriteBehindService.PendingChat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class RegionalChatWriteBehindServiceTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 10, 18, 12, 0);
+
+    private final ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+    private JdbcTemplate jdbcTemplate;
+    private DriverManagerDataSource dataSource;
+    private SimpleMeterRegistry meterRegistry;
+    private Path retryDir;
+    private RegionalChatWriteBehindService service;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        dataSource = new DriverManagerDataSource("jdbc:h2:mem:chat_write_behind;MODE=MySQL;DB_CLOSE_DELAY=-1", "sa", "");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("DROP ALL OBJECTS");
+        jdbcTemplate.execute("CREATE TABLE regional_chats (id BIGINT PRIMARY KEY, user_id BIGINT, region VARCHAR(50), " +
+                "message VARCHAR(500), created_at TIMESTAMP, seq BIGINT, is_hidden BOOLEAN, report_count INT, " +
+                "message_type VARCHAR(20))");
+        retryDir = Files.createTempDirectory("chat-retry");
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        if (service != null) {
+            service.stop();
+        }
+    }
+
+    // 재시도 파일이 남은 채로 재시작 → 발급기는 파일의 ID / 순번 뒤부터 발급하고, 재시도 후 원래 메시지가 모두 남아 있음
+    @Test
+    void restartWithPendingJournalLosesNoMessage() throws Exception {
+        jdbcTemplate.update("INSERT INTO regional_chats (id, user_id, region, message, created_at, seq, is_hidden, " +
+                "report_count, message_type) VALUES (100, 1, '서울', '저장됨', ?, 1, false, 0, 'NORMAL')", NOW);
+        List<PendingChat> journaled = new ArrayList<>();
+        for (long id = 101; id <= 105; id++) {
+            journaled.add(chat(id, "재시도 " + id));
+        }
+        objectMapper.writeValue(retryDir.resolve("chat-1-101.json").toFile(), journaled);
+
+        service = start(10);
+        ChatMessageIdAllocator allocator = new ChatMessageIdAllocator(jdbcTemplate, null, service);
+        long newId = allocator.nextId();
+        assertEquals(106, newId);
+        RegionalChatRepository repository = mock(RegionalChatRepository.class);
+        when(repository.findMaxSeqByRegion(anyString())).thenAnswer(inv -> jdbcTemplate.queryForObject(
+                "SELECT MAX(seq) FROM regional_chats WHERE region = ?", Long.class, (String) inv.getArgument(0)));
+        ChatSequenceAllocator sequenceAllocator = new ChatSequenceAllocator(repository, null, service);
+        assertEquals(106, sequenceAllocator.next("서울"));
+        assertEquals(1, sequenceAllocator.next("부산"));
+
+        service.enqueue(chat(newId, "새 메시지"));
+        service.awaitPersisted(103L);
+        service.awaitPersisted(newId);
+
+        assertEquals(7, count());
+        for (long id = 101; id <= 105; id++) {
+            assertEquals("재시도 " + id, message(id));
+        }
+        assertEquals("새 메시지", message(106));
+        assertEquals(0, retryFiles());
+    }
+
+    // 저장 실패로 재시도 파일에 간 메시지는 재시도가 성공할 때까지 "저장 대기" → 삭제/신고 전에 없는 행을 찾지 않음
+    @Test
+    void journaledMessageStaysPendingUntilReplaySucceeds() throws Exception {
+        service = start(10);
+        jdbcTemplate.execute("ALTER TABLE regional_chats RENAME TO regional_chats_down");
+
+        service.enqueue(chat(1L, "DB 장애 중"));
+        assertThrows(ChatRejectedException.class, () -> service.awaitPersisted(1L));
+        assertEquals(1, retryFiles());
+
+        jdbcTemplate.execute("ALTER TABLE regional_chats_down RENAME TO regional_chats");
+        service.awaitPersisted(1L);
+        assertEquals("DB 장애 중", message(1));
+        assertEquals(0, retryFiles());
+    }
+
+    // 플러셔가 막혀 큐가 가득 차면 offer-timeout 후 거절, 받아들인 메시지는 모두 저장
+    @Test
+    void fullQueueRejectsAndAcceptedMessagesArePersisted() throws Exception {
+        service = start(2);
+        Object flushLock = ReflectionTestUtils.getField(service, "flushLock");
+        List<Long> accepted = new ArrayList<>();
+        ChatRejectedException rejected = null;
+        synchronized (flushLock) {
+            for (long id = 1; id <= 10 && rejected == null; id++) {
+                try {
+                    service.enqueue(chat(id, "메시지 " + id));
+                    accepted.add(id);
+                } catch (ChatRejectedException e) {
+                    rejected = e;
+                }
+            }
+        }
+
+        assertTrue(rejected != null, "queue never filled");
+        // 큐 2개 + 플러셔가 꺼내 들고 있는 1개
+        assertTrue(accepted.size() >= 2 && accepted.size() <= 3, "accepted " + accepted);
+        assertEquals(1.0, meterRegistry.get("chat.persistence.rejected").counter().count());
+
+        service.awaitPersisted(accepted.get(accepted.size() - 1));
+        service.stop();
+        service = null;
+        assertEquals(accepted.size(), count());
+    }
+
+    // 클러스터 모드: 다른 노드가 받아 아직 그 노드 큐에 있는 메시지는 DB 에 저장될 때까지 기다림
+    @Test
+    void clusterModeWaitsForMessageBufferedOnAnotherNode() throws Exception {
+        service = start(10);
+        ReflectionTestUtils.setField(service, "clusterEnabled", true);
+
+        Thread otherNode = new Thread(() -> {
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(300));
+            jdbcTemplate.update("INSERT INTO regional_chats (id, user_id, region, message, created_at, seq, is_hidden, " +
+                    "report_count, message_type) VALUES (500, 2, '서울', '다른 노드', ?, 500, false, 0, 'NORMAL')", NOW);
+        });
+        otherNode.start();
+        service.awaitPersisted(500L);
+        assertEquals("다른 노드", message(500));
+        otherNode.join();
+
+        // 어느 노드에서도 저장되지 않는 ID 는 기다린 뒤 거절
+        assertThrows(ChatRejectedException.class, () -> service.awaitPersisted(501L));
+    }
+
+    private RegionalChatWriteBehindService start(int queueCapacity) throws Exception {
+        RegionalChatWriteBehindService writeBehind = new RegionalChatWriteBehindService(
+                jdbcTemplate, new DataSourceTransactionManager(dataSource), objectMapper, meterRegistry);
+        ReflectionTestUtils.setField(writeBehind, "queueCapacity", queueCapacity);
+        ReflectionTestUtils.setField(writeBehind, "batchSize", 50);
+        ReflectionTestUtils.setField(writeBehind, "flushIntervalMs", 20L);
+        ReflectionTestUtils.setField(writeBehind, "offerTimeoutMs", 20L);
+        ReflectionTestUtils.setField(writeBehind, "retryDir", retryDir.toString());
+        writeBehind.start();
+        return writeBehind;
+    }
+
+    private static PendingChat chat(long id, String message) {
+        return new PendingChat(id, 1L, "서울", message, NOW, id);
+    }
+
+    private int count() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM regional_chats", Integer.class);
+    }
+
+    private String message(long id) {
+        return jdbcTemplate.queryForObject("SELECT message FROM regional_chats WHERE id = ?", String.class, id);
+    }
+
+    private long retryFiles() throws Exception {
+        try (Stream<Path> files = Files.list(retryDir)) {
+            return files.count();
+        }
+    }
+}
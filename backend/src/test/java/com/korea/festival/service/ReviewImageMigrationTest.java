@@ -0,0 +1,103 @@
+package com.korea.festival.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class ReviewImageMigrationTest {
+
+    private static final int REVIEWS = 25;
+
+    private JdbcTemplate jdbcTemplate;
+    private ImageStore imageStore;
+    private ReviewImageMigration migration;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:review_images;MODE=MySQL;DB_CLOSE_DELAY=-1", "sa", "");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("DROP ALL OBJECTS");
+        jdbcTemplate.execute("CREATE TABLE review_images (review_id BIGINT NOT NULL, image LONGTEXT)");
+
+        imageStore = new ImageStore();
+        ReflectionTestUtils.setField(imageStore, "uploadPath", Files.createTempDirectory("review-images").toString());
+        imageStore.init();
+
+        migration = new ReviewImageMigration(jdbcTemplate, new DataSourceTransactionManager(dataSource), imageStore);
+        ReflectionTestUtils.setField(migration, "batchSize", 7);
+    }
+
+    @Test
+    void movesBase64RowsToFilesAndKeepsOnlyKeys() throws Exception {
+        // 리뷰마다 base64 이미지 2장 (한 장은 모든 리뷰가 같은 이미지), 마지막 리뷰는 이미 옮긴 키 + 깨진 값
+        String shared = Base64.getEncoder().encodeToString(ImageStoreTest.png(4096, (byte) 0));
+        for (int r = 1; r <= REVIEWS; r++) {
+            insert(r, shared);
+            insert(r, Base64.getEncoder().encodeToString(ImageStoreTest.png(4096, (byte) r)));
+        }
+        String existingKey = imageStore.store(new ByteArrayInputStream(ImageStoreTest.png(100, (byte) 99)));
+        insert(REVIEWS + 1, existingKey);
+        insert(REVIEWS + 2, "이미지 아님 ".repeat(20));
+
+        int migrated = migration.migrate();
+
+        assertEquals(REVIEWS * 2, migrated);
+        for (int r = 1; r <= REVIEWS; r++) {
+            List<String> keys = images(r);
+            assertEquals(2, keys.size());
+            assertTrue(keys.stream().allMatch(ImageStore::isKey));
+            byte[] own = ImageStoreTest.png(4096, (byte) r);
+            assertTrue(keys.stream().anyMatch(key -> Arrays.equals(own, read(key))));
+        }
+        assertEquals(1, images(1).stream().filter(key -> images(2).contains(key)).count());
+        assertEquals(List.of(existingKey), images(REVIEWS + 1));
+        // 변환 실패한 리뷰는 그대로 → 다시 실행해도 나머지는 건드리지 않음
+        assertEquals(1, images(REVIEWS + 2).size());
+        assertEquals(0, migration.migrate());
+    }
+
+    // 업로드 크기 제한보다 큰 예전 이미지도 옮겨야 함 (실패로 두면 매번 다시 시도하고 영원히 남음)
+    @Test
+    void legacyImagesLargerThanUploadLimitAreStillMigrated() throws Exception {
+        ReflectionTestUtils.setField(imageStore, "maxImageSize", 1024L);
+        byte[] large = ImageStoreTest.png(4096, (byte) 7);
+        insert(1, Base64.getMimeEncoder().encodeToString(large));
+
+        assertEquals(1, migration.migrate());
+        List<String> keys = images(1);
+        assertEquals(1, keys.size());
+        assertTrue(Arrays.equals(large, read(keys.get(0))));
+        // 새 업로드에는 제한이 그대로 적용
+        assertThrows(IllegalArgumentException.class, () -> imageStore.store(new ByteArrayInputStream(large)));
+    }
+
+    private void insert(long reviewId, String image) {
+        jdbcTemplate.update("INSERT INTO review_images (review_id, image) VALUES (?, ?)", reviewId, image);
+    }
+
+    private List<String> images(long reviewId) {
+        return jdbcTemplate.queryForList("SELECT image FROM review_images WHERE review_id = ?", String.class, reviewId);
+    }
+
+    private byte[] read(String key) {
+        try {
+            return Files.readAllBytes(imageStore.resolve(key).orElseThrow());
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
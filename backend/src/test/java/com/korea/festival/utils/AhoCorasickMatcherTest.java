@@ -0,0 +1,157 @@
+package com.korea.festival.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+class AhoCorasickMatcherTest {
+
+    private static final int TERMS = 10_000;
+    private static final int MESSAGES = 2_000;
+
+    @Test
+    void detectsWhitespaceSymbolAndJamoEvasion() {
+        AhoCorasickMatcher matcher = AhoCorasickMatcher.compile(List.of("스팸", "광고", "Casino"));
+
+        assertEquals("스팸", matcher.findFirst("이거 스팸 아니에요"));
+        assertTrue(matcher.containsAny("스 팸"));
+        assertTrue(matcher.containsAny("스.팸!"));
+        assertTrue(matcher.containsAny("ㅅㅡㅍㅐㅁ"));
+        assertTrue(matcher.containsAny("광  고 문의"));
+        assertTrue(matcher.containsAny("ＣＡＳＩＮＯ 가입"));
+        assertFalse(matcher.containsAny("불꽃축제 몇 시에 시작하나요?"));
+        assertNull(AhoCorasickMatcher.compile(List.of()).findFirst("스팸"));
+    }
+
+    // 띄어 쓴 금칙어는 잡지만, 앞 단어 끝과 뒷 단어 앞부분이 우연히 이어진 것은 금칙어가 아님
+    @Test
+    void matchesAcrossSpacesOnlyOnWholeWords() {
+        AhoCorasickMatcher matcher = AhoCorasickMatcher.compile(List.of("도박", "광고"));
+
+        assertFalse(matcher.containsAny("제주도 박물관 추천해요"));
+        assertFalse(matcher.containsAny("인도 박물관"));
+        assertFalse(matcher.containsAny("불꽃놀이 광 고속도로"));
+        assertTrue(matcher.containsAny("도 박 사이트"));
+        assertTrue(matcher.containsAny("ㄷ ㅗ ㅂ ㅏ ㄱ"));
+        assertTrue(matcher.containsAny("(도 박)"));
+        assertTrue(matcher.containsAny("불법도박장"));
+        assertEquals("광고", matcher.findFirst("제주도 박물관 광고"));
+    }
+
+    @Test
+    void findsOverlappingPatternsThroughFailureLinks() {
+        AhoCorasickMatcher matcher = AhoCorasickMatcher.compile(List.of("abcd", "bce", "c"));
+
+        assertEquals("c", matcher.findFirst("xxbc"));
+        assertEquals("bce", AhoCorasickMatcher.compile(List.of("abcd", "bce")).findFirst("abce"));
+        assertFalse(AhoCorasickMatcher.compile(List.of("abcd", "bce")).containsAny("abcx"));
+    }
+
+    // 금칙어 10,000개: 기존 방식(금칙어마다 toLowerCase + contains)이 찾는 메시지는 모두 찾아야 함
+    @Test
+    void largeDictionaryCatchesEverythingThePerWordLoopCatches() {
+        Random random = new Random(42);
+        List<String> terms = terms(random);
+        List<String> messages = messages(random);
+        // 일부 메시지에는 금칙어를 확실히 넣어 둠
+        for (int i = 0; i < MESSAGES; i += 10) {
+            messages.set(i, messages.get(i) + " " + terms.get(i * 3));
+        }
+        AhoCorasickMatcher matcher = AhoCorasickMatcher.compile(terms);
+
+        int hits = 0;
+        for (int i = 0; i < MESSAGES; i++) {
+            String message = messages.get(i);
+            if (loopMatches(terms, message)) {
+                hits++;
+                assertTrue(matcher.containsAny(message), "missed: " + message);
+            }
+        }
+        assertTrue(hits >= MESSAGES / 10);
+    }
+
+    // 한 번 훑기 vs 금칙어마다 검사 (시간 비교라 perf 태그로 분리)
+    @Tag("perf")
+    @Test
+    void singlePassIsFasterThanPerWordLoopWithManyTerms() {
+        Random random = new Random(42);
+        List<String> terms = terms(random);
+        List<String> messages = messages(random);
+        AhoCorasickMatcher matcher = AhoCorasickMatcher.compile(terms);
+
+        // 워밍업 후 측정
+        loop(terms, messages);
+        automaton(matcher, messages);
+        long loopNanos = loop(terms, messages);
+        long automatonNanos = automaton(matcher, messages);
+
+        assertTrue(automatonNanos < loopNanos,
+                "per message: loop=" + loopNanos / MESSAGES + "ns, automaton=" + automatonNanos / MESSAGES + "ns");
+    }
+
+    private List<String> terms(Random random) {
+        List<String> terms = new ArrayList<>(TERMS);
+        for (int i = 0; i < TERMS; i++) {
+            terms.add(randomHangul(random, 2 + random.nextInt(3)));
+        }
+        return terms;
+    }
+
+    private List<String> messages(Random random) {
+        List<String> messages = new ArrayList<>(MESSAGES);
+        for (int i = 0; i < MESSAGES; i++) {
+            messages.add("오늘 축제 " + randomHangul(random, 40) + " 재밌어요");
+        }
+        return messages;
+    }
+
+    private static boolean loopMatches(List<String> terms, String message) {
+        String lower = message.toLowerCase();
+        for (String term : terms) {
+            if (lower.contains(term.toLowerCase())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private long loop(List<String> terms, List<String> messages) {
+        long start = System.nanoTime();
+        int hits = 0;
+        for (String message : messages) {
+            if (loopMatches(terms, message)) {
+                hits++;
+            }
+        }
+        assertTrue(hits >= 0);
+        return System.nanoTime() - start;
+    }
+
+    private long automaton(AhoCorasickMatcher matcher, List<String> messages) {
+        long start = System.nanoTime();
+        int hits = 0;
+        for (String message : messages) {
+            if (matcher.containsAny(message)) {
+                hits++;
+            }
+        }
+        assertTrue(hits >= 0);
+        return System.nanoTime() - start;
+    }
+
+    private String randomHangul(Random random, int length) {
+        StringBuilder sb = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            sb.append((char) (0xAC00 + random.nextInt(11172)));
+        }
+        return sb.toString();
+    }
+}
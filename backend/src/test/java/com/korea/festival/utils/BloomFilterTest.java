@@ -0,0 +1,37 @@
+package com.korea.festival.utils;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class BloomFilterTest {
+
+    private static final int INSERTIONS = 100_000;
+
+    @Test
+    void neverMissesAddedKeysAndKeepsFalsePositiveRateNearTarget() {
+        BloomFilter filter = new BloomFilter(INSERTIONS, 0.01);
+        for (long id = 1; id <= INSERTIONS; id++) {
+            filter.add(id);
+        }
+
+        for (long id = 1; id <= INSERTIONS; id++) {
+            assertTrue(filter.mightContain(id), "false negative " + id);
+        }
+        int falsePositives = 0;
+        for (long id = INSERTIONS + 1; id <= 2L * INSERTIONS; id++) {
+            if (filter.mightContain(id)) {
+                falsePositives++;
+            }
+        }
+        double fpp = (double) falsePositives / INSERTIONS;
+        assertTrue(fpp < 0.02, "fpp " + fpp);
+    }
+
+    @Test
+    void rejectsInvalidSizing() {
+        assertThrows(IllegalArgumentException.class, () -> new BloomFilter(0, 0.01));
+        assertThrows(IllegalArgumentException.class, () -> new BloomFilter(10, 1.0));
+    }
+}
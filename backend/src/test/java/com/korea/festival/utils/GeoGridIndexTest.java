@@ -0,0 +1,155 @@
+package com.korea.festival.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+class GeoGridIndexTest {
+
+    // 대략 남한 범위
+    private static final double MIN_X = 126.0;
+    private static final double MAX_X = 129.6;
+    private static final double MIN_Y = 33.1;
+    private static final double MAX_Y = 38.6;
+
+    @Test
+    void boxAndRadiusQueriesMatchLinearScan() {
+        List<GeoGridIndex.Entry<Integer>> entries = randomEntries(20_000, 7);
+        GeoGridIndex<Integer> index = GeoGridIndex.build(entries, 0.05);
+
+        // 격자 경계에 걸친 영역
+        List<Integer> inBox = index.within(127.02, 37.48, 126.93, 37.56, id -> true, Integer.MAX_VALUE);
+        List<Integer> expected = entries.stream()
+                .filter(e -> e.x() >= 126.93 && e.x() <= 127.02 && e.y() >= 37.48 && e.y() <= 37.56)
+                .map(GeoGridIndex.Entry::value).sorted().toList();
+        assertEquals(expected, inBox.stream().sorted().toList());
+
+        // 반경 검색은 가까운 순 + 필터
+        List<GeoGridIndex.Hit<Integer>> near = index.near(126.978, 37.566, 15, id -> id % 2 == 0, Integer.MAX_VALUE);
+        List<Integer> expectedNear = entries.stream()
+                .filter(e -> e.value() % 2 == 0)
+                .filter(e -> GeoGridIndex.distanceKm(37.566, 126.978, e.y(), e.x()) <= 15)
+                .sorted(Comparator.comparingDouble(e -> GeoGridIndex.distanceKm(37.566, 126.978, e.y(), e.x())))
+                .map(GeoGridIndex.Entry::value).toList();
+        assertEquals(expectedNear, near.stream().map(GeoGridIndex.Hit::value).toList());
+        for (int i = 1; i < near.size(); i++) {
+            assertTrue(near.get(i - 1).distanceKm() <= near.get(i).distanceKm());
+        }
+        assertEquals(3, index.near(126.978, 37.566, 15, id -> true, 3).size());
+    }
+
+    @Test
+    void distanceIsHaversine() {
+        // 서울시청 - 부산시청 약 325km
+        double km = GeoGridIndex.distanceKm(37.5663, 126.9779, 35.1798, 129.0750);
+        assertTrue(km > 320 && km < 330, "distance " + km);
+    }
+
+    // 세계 전체 영역이나 말도 안 되게 큰 좌표도 채워진 칸만 훑고 끝남
+    @Test
+    void hugeAreasScanOnlyOccupiedCells() {
+        List<GeoGridIndex.Entry<Integer>> entries = randomEntries(1_000, 5);
+        GeoGridIndex<Integer> index = GeoGridIndex.build(entries, 0.01);
+
+        assertEquals(1_000, index.within(-180, -90, 180, 90, id -> true, Integer.MAX_VALUE).size());
+        assertEquals(1_000, index.within(-1e12, -1e12, 1e12, 1e12, id -> true, Integer.MAX_VALUE).size());
+        assertTrue(index.within(1e12, 1e12, 2e12, 2e12, id -> true, Integer.MAX_VALUE).isEmpty());
+    }
+
+    // 극점 근처에서는 경도 폭이 전체 경도로 제한됨
+    @Test
+    void nearPoleTerminatesAndFindsNearbyEntries() {
+        List<GeoGridIndex.Entry<Integer>> entries = List.of(
+                new GeoGridIndex.Entry<>(10.0, 89.95, 1),
+                new GeoGridIndex.Entry<>(-170.0, 89.95, 2),
+                new GeoGridIndex.Entry<>(127.0, 37.5, 3));
+        GeoGridIndex<Integer> index = GeoGridIndex.build(entries, 0.001);
+
+        List<Integer> near = index.near(0, 90, 20, id -> true, Integer.MAX_VALUE).stream()
+                .map(GeoGridIndex.Hit::value).sorted().toList();
+        assertEquals(List.of(1, 2), near);
+    }
+
+    // 지도 이동(pan) 하며 화면 영역 질의 - 화면마다 전체 스캔과 같은 개수
+    @Test
+    void mapPanningMatchesLinearScan() {
+        List<GeoGridIndex.Entry<Integer>> entries = randomEntries(10_000, 11);
+        GeoGridIndex<Integer> index = GeoGridIndex.build(entries, 0.05);
+
+        for (double[] v : panningViewports()) {
+            assertEquals(scanCount(entries, v), index.within(v[0], v[1], v[2], v[3], id -> true, 500).size());
+        }
+    }
+
+    // 화면 영역 질의 처리량: 격자 인덱스 vs 전체 스캔 (시간 비교라 perf 태그로 분리)
+    @Tag("perf")
+    @Test
+    void mapPanningQueryRate() {
+        List<double[]> viewports = panningViewports();
+        for (int size : new int[] {10_000, 100_000}) {
+            List<GeoGridIndex.Entry<Integer>> entries = randomEntries(size, 11);
+            GeoGridIndex<Integer> index = GeoGridIndex.build(entries, 0.05);
+
+            long start = System.nanoTime();
+            for (int round = 0; round < 5; round++) {
+                for (double[] v : viewports) {
+                    index.within(v[0], v[1], v[2], v[3], id -> true, 500);
+                }
+            }
+            long gridNanos = (System.nanoTime() - start) / (5 * viewports.size());
+
+            start = System.nanoTime();
+            for (int round = 0; round < 5; round++) {
+                for (double[] v : viewports) {
+                    scanCount(entries, v);
+                }
+            }
+            long scanNanos = (System.nanoTime() - start) / (5 * viewports.size());
+
+            assertTrue(gridNanos < scanNanos, size + " festivals: scan=" + scanNanos + "ns, grid=" + gridNanos + "ns");
+        }
+    }
+
+    // 0.3° x 0.2° (시 단위 화면) 를 조금씩 옮겨 가며 질의
+    private static List<double[]> panningViewports() {
+        List<double[]> viewports = new ArrayList<>();
+        double x = 126.5;
+        double y = 37.2;
+        Random random = new Random(3);
+        for (int i = 0; i < 2_000; i++) {
+            x = Math.max(MIN_X, Math.min(MAX_X - 0.3, x + (random.nextDouble() - 0.5) * 0.1));
+            y = Math.max(MIN_Y, Math.min(MAX_Y - 0.2, y + (random.nextDouble() - 0.5) * 0.1));
+            viewports.add(new double[] {x, y, x + 0.3, y + 0.2});
+        }
+        return viewports;
+    }
+
+    private static int scanCount(List<GeoGridIndex.Entry<Integer>> entries, double[] v) {
+        int count = 0;
+        for (GeoGridIndex.Entry<Integer> e : entries) {
+            if (e.x() >= v[0] && e.x() <= v[2] && e.y() >= v[1] && e.y() <= v[3] && count < 500) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static List<GeoGridIndex.Entry<Integer>> randomEntries(int size, long seed) {
+        Random random = new Random(seed);
+        List<GeoGridIndex.Entry<Integer>> entries = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            entries.add(new GeoGridIndex.Entry<>(
+                    MIN_X + random.nextDouble() * (MAX_X - MIN_X),
+                    MIN_Y + random.nextDouble() * (MAX_Y - MIN_Y),
+                    i));
+        }
+        return entries;
+    }
+}
@@ -0,0 +1,100 @@
+package com.korea.festival.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+class IntervalIndexTest {
+
+    @Test
+    void overlappingMatchesLinearScanIncludingEndpoints() {
+        List<IntervalIndex.Entry<Integer>> entries = randomEntries(5_000, 5);
+        IntervalIndex<Integer> index = IntervalIndex.build(entries);
+
+        Random random = new Random(9);
+        for (int i = 0; i < 500; i++) {
+            long from = random.nextInt(800);
+            long to = from + random.nextInt(10);
+            List<Integer> expected = scan(entries, from, to);
+            assertEquals(expected, index.overlapping(from, to, id -> true).stream().sorted().toList());
+        }
+        // 양끝 포함: 끝나는 날 / 시작하는 날도 진행 중
+        IntervalIndex<String> single = IntervalIndex.build(List.of(new IntervalIndex.Entry<>(10, 12, "a")));
+        assertEquals(List.of("a"), single.containing(10, v -> true));
+        assertEquals(List.of("a"), single.containing(12, v -> true));
+        assertEquals(List.of(), single.containing(13, v -> true));
+        assertEquals(List.of(), single.overlapping(12, 11, v -> true));
+        assertThrows(IllegalArgumentException.class,
+                () -> IntervalIndex.build(List.of(new IntervalIndex.Entry<>(5, 4, "x"))));
+    }
+
+    // 하루 / 주말 / 한 달 기간 질의를 1년 동안 - 전체 스캔과 같은 결과
+    @Test
+    void dateRangeQueriesMatchScanOverAYear() {
+        List<IntervalIndex.Entry<Integer>> entries = randomEntries(10_000, 13);
+        IntervalIndex<Integer> index = IntervalIndex.build(entries);
+        for (int span : new int[] {0, 1, 30}) {
+            for (int day = 0; day < 365; day++) {
+                assertEquals(scan(entries, day, day + span),
+                        index.overlapping(day, day + span, id -> true).stream().sorted().toList());
+            }
+        }
+    }
+
+    // 하루 기간 질의: 인덱스 vs 전체 스캔 (시간 비교라 perf 태그로 분리)
+    @Tag("perf")
+    @Test
+    void intervalIndexBeatsScanForDateQueries() {
+        for (int size : new int[] {10_000, 100_000}) {
+            List<IntervalIndex.Entry<Integer>> entries = randomEntries(size, 13);
+            IntervalIndex<Integer> index = IntervalIndex.build(entries);
+            // JIT 워밍업
+            for (int day = 0; day < 365; day++) {
+                index.overlapping(day, day + 1, id -> true);
+                scan(entries, day, day + 1);
+            }
+            long start = System.nanoTime();
+            for (int day = 0; day < 365; day++) {
+                index.overlapping(day, day, id -> true);
+            }
+            long indexNanos = (System.nanoTime() - start) / 365;
+            start = System.nanoTime();
+            for (int day = 0; day < 365; day++) {
+                scan(entries, day, day);
+            }
+            long scanNanos = (System.nanoTime() - start) / 365;
+
+            assertTrue(indexNanos < scanNanos, size + " festivals: scan=" + scanNanos + "ns, index=" + indexNanos + "ns");
+        }
+    }
+
+    private static List<Integer> scan(List<IntervalIndex.Entry<Integer>> entries, long from, long to) {
+        List<Integer> result = new ArrayList<>();
+        for (IntervalIndex.Entry<Integer> e : entries) {
+            if (e.start() <= to && e.end() >= from) {
+                result.add(e.value());
+            }
+        }
+        result.sort(null);
+        return result;
+    }
+
+    // 대부분 며칠짜리, 일부는 몇 달짜리 축제 (2년 범위)
+    private static List<IntervalIndex.Entry<Integer>> randomEntries(int size, long seed) {
+        Random random = new Random(seed);
+        List<IntervalIndex.Entry<Integer>> entries = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            long start = random.nextInt(730);
+            long length = random.nextInt(20) == 0 ? random.nextInt(120) : random.nextInt(10);
+            entries.add(new IntervalIndex.Entry<>(start, start + length, i));
+        }
+        return entries;
+    }
+}
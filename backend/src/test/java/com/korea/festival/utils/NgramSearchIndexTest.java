@@ -0,0 +1,155 @@
+package com.korea.festival.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+class NgramSearchIndexTest {
+
+    private static final String[] REGIONS = {
+        "서울특별시 종로구", "부산광역시 수영구", "대구광역시 중구", "인천광역시 연수구", "광주광역시 동구",
+        "강원특별자치도 화천군", "경상남도 진주시", "전라남도 함평군", "제주특별자치도 서귀포시", "충청북도 청주시"
+    };
+    private static final String[] THEMES = {
+        "불꽃", "유등", "산천어", "국화", "벚꽃", "재즈", "맥주", "커피", "빛", "달빛", "눈꽃", "억새", "머드", "한우", "막걸리"
+    };
+
+    @Test
+    void ranksNameMatchesAboveLocationAndIgnoresSpacing() {
+        NgramSearchIndex<String> index = new NgramSearchIndex<>(3, 2, 1);
+        index.put("1", List.of("부산불꽃축제", "부산광역시 수영구", ""), 10, "부산불꽃축제");
+        index.put("2", List.of("광안리 드론쇼", "부산광역시 수영구", "부산 불꽃 대신 드론"), 50, "광안리 드론쇼");
+        index.put("3", List.of("진주남강유등축제", "경상남도 진주시", ""), 5, "진주남강유등축제");
+
+        assertEquals(List.of("부산불꽃축제", "광안리 드론쇼"), index.search("부산", 0, 10).items());
+        assertEquals(List.of("부산불꽃축제", "광안리 드론쇼"), index.search("부산 불꽃", 0, 10).items());
+        assertEquals(List.of("진주남강유등축제"), index.search("유등", 0, 10).items());
+        assertEquals(List.of("진주남강유등축제"), index.search("진", 0, 10).items());
+        assertEquals(0, index.search("대구", 0, 10).total());
+
+        // 빈 검색어는 popularity 순 전체, 페이지 단위
+        NgramSearchIndex.Result<String> all = index.search("", 1, 2);
+        assertEquals(3, all.total());
+        assertEquals(List.of("진주남강유등축제"), all.items());
+
+        // 마지막 결과를 넘어선 페이지 (아주 큰 page 포함) 는 빈 목록, total 은 그대로
+        assertEquals(List.of(), index.search("", 2, 2).items());
+        assertEquals(3, index.search("", Integer.MAX_VALUE, 100).total());
+        assertEquals(List.of(), index.search("부산", Integer.MAX_VALUE, Integer.MAX_VALUE).items());
+    }
+
+    @Test
+    void bigramCoincidenceIsNotAMatch() {
+        NgramSearchIndex<String> index = new NgramSearchIndex<>(1);
+        // "축제" 와 "제축" 의 bigram 은 모두 있지만 "축제축" 이라는 글자는 없음
+        index.put("1", List.of("축제 제축"), 0, "1");
+        index.put("2", List.of("축제축제"), 0, "2");
+
+        assertEquals(List.of("2"), index.search("축제축", 0, 10).items());
+    }
+
+    @Test
+    void incrementalUpdatesAndJamoPrefixSuggest() {
+        NgramSearchIndex<String> index = new NgramSearchIndex<>(3, 2, 1);
+        index.put("1", List.of("부산불꽃축제", "부산", ""), 1, "부산불꽃축제");
+        index.put("2", List.of("부산 국제 록 페스티벌", "부산", ""), 2, "부산 국제 록 페스티벌");
+
+        assertEquals(List.of("부산 국제 록 페스티벌", "부산불꽃축제"), index.suggest("부산", 10));
+        assertEquals(List.of("부산불꽃축제"), index.suggest("부산불ㄲ", 10));
+        assertEquals(List.of("부산 국제 록 페스티벌"), index.suggest("페스", 10));
+
+        index.put("1", List.of("부산 드론 라이트쇼", "부산", ""), 1, "부산 드론 라이트쇼");
+        assertEquals(0, index.search("불꽃", 0, 10).total());
+        assertEquals(List.of("부산 드론 라이트쇼"), index.search("드론", 0, 10).items());
+
+        assertTrue(index.remove("2"));
+        assertEquals(1, index.size());
+        assertEquals(List.of("부산 드론 라이트쇼"), index.suggest("부산", 10));
+    }
+
+    private static final String[] QUERIES = {"불꽃", "진주 유등", "함평", "억새축제", "서귀포", "막걸리", "재즈축제 77"};
+
+    // 기존 방식(전체 행 LOWER(..) LIKE '%q%')이 찾는 축제는 색인도 모두 찾아야 함
+    @Test
+    void indexFindsEverythingTheLikeScanFinds() {
+        List<String[]> rows = new ArrayList<>();
+        NgramSearchIndex<String> index = build(10_000, rows);
+
+        long totalLikeHits = 0;
+        for (String query : QUERIES) {
+            String q = query.toLowerCase();
+            long likeHits = rows.stream()
+                    .filter(row -> row[0].toLowerCase().contains(q) || row[1].toLowerCase().contains(q))
+                    .count();
+            assertTrue(index.search(query, 0, 12).total() >= likeHits, query);
+            totalLikeHits += likeHits;
+        }
+        assertTrue(totalLikeHits > 0);
+    }
+
+    // 10,000건 / 100,000건 기준 검색 시간 비교 (시간 비교라 perf 태그로 분리)
+    @Tag("perf")
+    @Test
+    void indexBeatsLikeScanAt10kAnd100k() {
+        for (int count : new int[] {10_000, 100_000}) {
+            List<String[]> rows = new ArrayList<>(count);
+            NgramSearchIndex<String> index = build(count, rows);
+
+            // 워밍업 후 측정
+            likeScan(rows, QUERIES);
+            indexSearch(index, QUERIES);
+            long likeNanos = likeScan(rows, QUERIES);
+            long indexNanos = indexSearch(index, QUERIES);
+
+            assertTrue(indexNanos < likeNanos,
+                    count + " festivals: like=" + likeNanos / QUERIES.length + "ns, index=" + indexNanos / QUERIES.length + "ns");
+        }
+    }
+
+    private NgramSearchIndex<String> build(int count, List<String[]> rows) {
+        Random random = new Random(7);
+        NgramSearchIndex<String> index = new NgramSearchIndex<>(3, 2, 1);
+        for (int i = 0; i < count; i++) {
+            String region = REGIONS[random.nextInt(REGIONS.length)];
+            String name = region.substring(0, 2) + " " + THEMES[random.nextInt(THEMES.length)] + "축제 " + i;
+            rows.add(new String[] {name, region});
+            index.put(String.valueOf(i), List.of(name, region, ""), random.nextInt(1000), name);
+        }
+        return index;
+    }
+
+    private long likeScan(List<String[]> rows, String[] queries) {
+        long start = System.nanoTime();
+        int hits = 0;
+        for (int r = 0; r < 5; r++) {
+            for (String query : queries) {
+                String q = query.toLowerCase();
+                for (String[] row : rows) {
+                    if (row[0].toLowerCase().contains(q) || row[1].toLowerCase().contains(q)) {
+                        hits++;
+                    }
+                }
+            }
+        }
+        assertTrue(hits >= 0);
+        return (System.nanoTime() - start) / 5;
+    }
+
+    private long indexSearch(NgramSearchIndex<String> index, String[] queries) {
+        long start = System.nanoTime();
+        int hits = 0;
+        for (int r = 0; r < 5; r++) {
+            for (String query : queries) {
+                hits += index.search(query, 0, 12).total();
+            }
+        }
+        assertTrue(hits >= 0);
+        return (System.nanoTime() - start) / 5;
+    }
+}
@@ -200,16 +200,32 @@ export const incrementViews = async (contentId) => {
 };
 
 
-// 축제 검색 API
-export const searchFestivals = async (query) => {
-  if(!query || !query.trim()) return []; // 🔹 빈 검색어 안전 처리
+// 축제 검색 API (page 는 0 부터, 서버에서 페이지 단위로 받음)
+const EMPTY_PAGE = { content: [], totalElements: 0, totalPages: 0 };
+
+export const searchFestivals = async (query, page = 0, size = 12) => {
+  if(!query || !query.trim()) return EMPTY_PAGE; // 🔹 빈 검색어 안전 처리
   try {
     const res = await axios.get(`${API_BASE}/search`, {
-      params: { query }
+      params: { query, page, size }
     });
-    return res.data; // 검색 결과 배열 반환
+    return res.data; // { content, totalElements, totalPages, ... }
   } catch (err) {
     console.error("축제 검색 오류:", err);
+    return EMPTY_PAGE;
+  }
+};
+
+// 검색어 자동완성
+export const suggestFestivals = async (prefix, limit = 10) => {
+  if(!prefix || !prefix.trim()) return [];
+  try {
+    const res = await axios.get(`${API_BASE}/search/suggest`, {
+      params: { prefix, limit }
+    });
+    return res.data;
+  } catch (err) {
+    console.error("자동완성 오류:", err);
     return [];
   }
 };
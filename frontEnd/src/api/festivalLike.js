@@ -3,23 +3,51 @@ import axios from "axios";
 const BASE_URL = "http://localhost:8081/api/festivals";
 
 // 축제 좋아요 여부 조회 (로그인 필요)
-export const fetchFestivalLikeStatus = async (festivalId) => {
-  try {
-    const token = localStorage.getItem("token");
-    if (!token) return false; // 로그인 안 된 경우 false 반환
-
-    const res = await axios.get(`${BASE_URL}/${festivalId}/status`, {
-      headers: { Authorization: `Bearer ${token}` },
-    });
+// 목록의 카드마다 호출되므로 같은 틱에 들어온 요청을 모아 /likes/status 한 번으로 조회
+const STATUS_BATCH_SIZE = 200;
+let pendingStatus = null;
 
-    return res.data.liked;
+const flushFestivalLikeStatus = async (batch) => {
+  const ids = [...batch.keys()];
+  const token = localStorage.getItem("token");
+  let liked = new Set();
+  try {
+    for (let i = 0; i < ids.length; i += STATUS_BATCH_SIZE) {
+      const res = await axios.get(`${BASE_URL}/likes/status`, {
+        params: { contentIds: ids.slice(i, i + STATUS_BATCH_SIZE).join(",") },
+        headers: { Authorization: `Bearer ${token}` },
+      });
+      res.data.liked.forEach((id) => liked.add(String(id)));
+    }
   } catch (err) {
     console.error(
       "좋아요 상태 조회 실패",
       err.response?.data || err.message
     );
-    return false; // 인증 안됐거나 오류 발생 시 false 반환
+    liked = new Set(); // 인증 안됐거나 오류 발생 시 false 반환
   }
+  batch.forEach((resolvers, id) =>
+    resolvers.forEach((resolve) => resolve(liked.has(id)))
+  );
+};
+
+export const fetchFestivalLikeStatus = (festivalId) => {
+  const token = localStorage.getItem("token");
+  if (!token) return Promise.resolve(false); // 로그인 안 된 경우 false 반환
+
+  return new Promise((resolve) => {
+    if (!pendingStatus) {
+      const batch = new Map();
+      pendingStatus = batch;
+      setTimeout(() => {
+        pendingStatus = null;
+        flushFestivalLikeStatus(batch);
+      }, 0);
+    }
+    const id = String(festivalId);
+    if (!pendingStatus.has(id)) pendingStatus.set(id, []);
+    pendingStatus.get(id).push(resolve);
+  });
 };
 
 // 축제 좋아요 토글
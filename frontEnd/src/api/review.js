@@ -172,6 +172,10 @@ export const reviewLikeToggle = async (reviewId, userId) => {
 }
 
 
+// 리뷰 이미지 주소 (서버가 /uploads/images/... 또는 예전 data URI 로 내려줌)
+export const reviewImageSrc = (image) =>
+    image.startsWith("data:") ? image : `${BASE_URL}${image}`;
+
 //html 태그 정제
 export const PostContent = (content) => {
     const clean = DOMPurify.sanitize(content);
@@ -124,7 +124,7 @@ export const BoardList = () => {
                                         </div>
                                         <div className="BLmobilestats">
 
-                                            <span><MessageSquareText /> {post.comments ? post.comments.length : 0}</span>
+                                            <span><MessageSquareText /> {post.commentCount ?? 0}</span>
                                         </div>
                                     </div>
                                 </div>
@@ -151,7 +151,7 @@ export const BoardList = () => {
 
                                     <div className="BLstatsitem">
                                         <span className="BLstatsicon"><MessageSquareText /></span>
-                                        <span>{post.comments ? post.comments.length : 0}</span>
+                                        <span>{post.commentCount ?? 0}</span>
                                     </div>
                                 </div>
                             </div>
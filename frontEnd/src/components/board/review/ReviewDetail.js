@@ -1,7 +1,7 @@
 import { useNavigate, useParams } from 'react-router-dom';
 import { MessageSquareText, Heart, Share, NotebookPen, Trash } from 'lucide-react'
 import { useEffect, useState } from 'react';
-import { PostContent, reviewCommentDelete, reviewCommentUpdate, reviewCommentWrite, reviewDelete, reviewFindOne, reviewLikeToggle } from '../../../api/review';
+import { PostContent, reviewCommentDelete, reviewCommentUpdate, reviewCommentWrite, reviewDelete, reviewFindOne, reviewLikeToggle, reviewImageSrc } from '../../../api/review';
 import Swal from 'sweetalert2';
 import { reviewBase } from '../review/reviewImg';
 import './ReviewDetail.css';
@@ -210,7 +210,7 @@ export const ReviewDetail = () => {
                     {/* Images */}
                     {post?.images && post?.images.map((img, idx) => (
                         <div key={idx} className="RDimage-wrapper">
-                            <img src={post.id>16?`data:image/png;base64,${img}`:`data:image/png;base64,${reviewBase[post.id]}`} 
+                            <img src={post.id>16?reviewImageSrc(img):`data:image/png;base64,${reviewBase[post.id]}`} 
                             alt={`Festival ${idx + 1}`} className="RDimage" />
                         </div>
                     ))}
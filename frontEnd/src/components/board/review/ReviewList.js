@@ -2,7 +2,7 @@ import { Heart, SquarePen } from 'lucide-react'
 import { useNavigate } from "react-router-dom"
 import './ReviewList.css';
 import { useEffect, useState } from 'react';
-import { PostContent, reviewFindALL } from '../../../api/review';
+import { PostContent, reviewFindALL, reviewImageSrc } from '../../../api/review';
 import { useAuth } from '../../../context/AuthContext';
 import { reviewBase } from '../review/reviewImg';
 
@@ -121,7 +121,7 @@ export const ReviewList = () => {
                             {post.images && (
                                 <div className="post-image-container">
                                     {(post.images?.length > 0 || post.id < 16) && <img
-                                        src={post.id <= 15 ? `data:image/png;base64,${reviewBase[index + 1]}` : `data:image/png;base64,${post.images[0]}`}
+                                        src={post.id <= 15 ? `data:image/png;base64,${reviewBase[index + 1]}` : reviewImageSrc(post.images[0])}
                                         alt="Festival"
                                         className="post-image"
                                         onClick={(e) => {
@@ -5,13 +5,13 @@ import "./AdminButtons.css";
 const AdminButtons = ({ token }) => {
 
   const handleResetAndImport = async () => {
-    if (!window.confirm("정말 DB를 초기화하고 최신 데이터를 가져오시겠습니까?")) return;
+    if (!window.confirm("최신 데이터로 동기화하시겠습니까? (조회수/좋아요는 유지됩니다)")) return;
     try {
       const msg = await resetAndImportFestivals(token);
       alert(msg);
     } catch (error) {
       console.error(error);
-      alert("DB 초기화 + 데이터 가져오기 실패");
+      alert("축제 데이터 동기화 실패");
     }
   };
 
@@ -40,7 +40,7 @@ const AdminButtons = ({ token }) => {
     <div className="admin-buttons-container">
       <button className="admin-buttons" onClick={handleImport}>축제 데이터 가져오기</button>
       <button className="admin-buttons" onClick={handleDelete}>모든 데이터 삭제</button>
-      <button className="admin-buttons" onClick={handleResetAndImport}>초기화 + 가져오기</button>
+      <button className="admin-buttons" onClick={handleResetAndImport}>최신 데이터 동기화</button>
     </div>
   );
 }
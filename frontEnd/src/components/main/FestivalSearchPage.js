@@ -9,6 +9,8 @@ import "./FestivalSearchPage.css";
 
 export default function FestivalSearchPage() {
   const [results, setResults] = useState([]);
+  const [totalCount, setTotalCount] = useState(0);
+  const [totalPages, setTotalPages] = useState(0);
   const [currentPage, setCurrentPage] = useState(1);
   const itemsPerPage = 12; // 한 페이지에 보여줄 축제 개수
 
@@ -16,21 +18,21 @@ export default function FestivalSearchPage() {
   const params = new URLSearchParams(location.search);
   const query = params.get("query") || "";
 
+  // 검색어 변경 시 첫 페이지로 초기화
+  useEffect(() => {
+    setCurrentPage(1);
+  }, [query]);
+
+  // 현재 페이지만 서버에서 받아옴
   useEffect(() => {
     const fetchResults = async () => {
-      const data = await searchFestivals(query);
-      setResults(data);
-      setCurrentPage(1); // 검색어 변경 시 첫 페이지로 초기화
+      const data = await searchFestivals(query, currentPage - 1, itemsPerPage);
+      setResults(data.content);
+      setTotalCount(data.totalElements);
+      setTotalPages(data.totalPages);
     };
     fetchResults();
-  }, [query]);
-
-  // 현재 페이지에 보여줄 축제 리스트
-  const totalPages = Math.ceil(results.length / itemsPerPage);
-  const currentItems = results.slice(
-    (currentPage - 1) * itemsPerPage,
-    currentPage * itemsPerPage
-  );
+  }, [query, currentPage]);
 
   const handlePrev = () => setCurrentPage((p) => Math.max(p - 1, 1));
   const handleNext = () => setCurrentPage((p) => Math.min(p + 1, totalPages));
@@ -38,10 +40,10 @@ export default function FestivalSearchPage() {
   return (
     <div className="festival-search-page-container">
       <span className="title">
-        ✨ {results.length}개의 축제 발견! 즐거운 일정 찾아보세요
+        ✨ {totalCount}개의 축제 발견! 즐거운 일정 찾아보세요
       </span>
 
-      <FestivalCardGrid festivals={currentItems} />
+      <FestivalCardGrid festivals={results} />
 
       {totalPages > 1 && (
         <div className="pagination">
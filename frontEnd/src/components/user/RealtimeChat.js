@@ -526,6 +526,8 @@ const RealtimeChat = () => {
   // useRef 훅들
   const messagesEndRef = useRef(null);
   const inputRef = useRef(null);
+  // 마지막으로 받은 메시지 순번 (같은 지역에 다시 접속하면 놓친 메시지만 받음)
+  const lastSeenRef = useRef({ region: null, seq: null });
 
   const [connectionError, setConnectionError] = useState('');
 
@@ -644,11 +646,32 @@ const RealtimeChat = () => {
         username: username,
         nickname: userNickname
       };
+      // 같은 지역 재접속이면 마지막 순번을 보내서 놓친 메시지만 받음 (REGION_MESSAGES_DELTA)
+      if (lastSeenRef.current.region === backendRegionCode && lastSeenRef.current.seq != null) {
+        joinMessage.lastSeenSeq = lastSeenRef.current.seq;
+      } else {
+        lastSeenRef.current = { region: backendRegionCode, seq: null };
+      }
 
       console.log('JOIN_REGION 전송:', joinMessage);
       ws.send(JSON.stringify(joinMessage));
     };
 
+    const rememberSeq = (seq) => {
+      if (typeof seq === 'number' && (lastSeenRef.current.seq == null || seq > lastSeenRef.current.seq)) {
+        lastSeenRef.current.seq = seq;
+      }
+    };
+
+    const mapMessage = (msg) => ({
+      id: msg.id,
+      content: msg.message,          // message → content
+      nickname: msg.userNickname,    // userNickname → nickname
+      userId: msg.userId || 0,       // userId가 없으면 0으로 처리
+      timestamp: msg.createdAt,      // createdAt → timestamp
+      isOwn: msg.userId === userId
+    });
+
     ws.onmessage = (event) => {
       console.log('받은 메시지:', event.data);
       try {
@@ -656,6 +679,11 @@ const RealtimeChat = () => {
 
         switch (data.type) {
           case 'NEW_MESSAGE':
+            // 접속자 수가 바뀐 경우 서버가 새 메시지에 함께 실어 보냄
+            if (typeof data.userCount === 'number') {
+              setOnlineUsers(data.userCount);
+            }
+            rememberSeq(data.seq);
             setMessages(prev => [...prev, {
               id: data.id || Date.now(),
               content: data.content,
@@ -670,17 +698,20 @@ const RealtimeChat = () => {
             break;
           case 'REGION_MESSAGES':
           case 'PREVIOUS_MESSAGES':
-            const mappedMessages = (data.messages || []).map(msg => ({
-              id: msg.id,
-              content: msg.message,          // message → content
-              nickname: msg.userNickname,    // userNickname → nickname
-              userId: msg.userId || 0,       // userId가 없으면 0으로 처리
-              timestamp: msg.createdAt,      // createdAt → timestamp
-              isOwn: msg.userId === userId
-            })).sort((a, b) => new Date(a.timestamp) - new Date(b.timestamp));
+            (data.messages || []).forEach(msg => rememberSeq(msg.seq));
+            const mappedMessages = (data.messages || []).map(mapMessage)
+              .sort((a, b) => new Date(a.timestamp) - new Date(b.timestamp));
 
             setMessages(mappedMessages);
             break;
+          case 'REGION_MESSAGES_DELTA':
+            // 재접속 사이에 놓친 메시지만 (오래된 순) - 이미 있는 메시지 뒤에 이어 붙임
+            (data.messages || []).forEach(msg => rememberSeq(msg.seq));
+            setMessages(prev => {
+              const known = new Set(prev.map(msg => msg.id));
+              return [...prev, ...(data.messages || []).filter(msg => !known.has(msg.id)).map(mapMessage)];
+            });
+            break;
           case 'ERROR':
             console.error('서버 오류:', data.message);
             setConnectionError(`서버 오류: ${data.message}`);
@@ -18,6 +18,10 @@ export const useChatWebSocket = (region, userId, userNickname) => {
     
     switch (data.type) {
       case 'NEW_MESSAGE':
+        // 접속자 수가 바뀐 경우 서버가 새 메시지에 함께 실어 보냄
+        if (typeof data.userCount === 'number') {
+          setOnlineUsers(data.userCount);
+        }
         setMessages(prev => {
           // 중복 메시지 방지
           if (prev.some(msg => msg.id === data.id)) {
@@ -12,6 +12,7 @@ class ChatWebSocketManager {
     this.currentRegion = null;
     this.currentUserId = null;
     this.currentNickname = null;
+    this.lastSeenSeq = null; // 현재 지역에서 마지막으로 받은 메시지 순번 (재연결 시 놓친 메시지만 받음)
   }
 
   connect(wsUrl = null) {
@@ -96,6 +97,7 @@ class ChatWebSocketManager {
       try {
         const data = JSON.parse(event.data);
         console.log('WebSocket 메시지 수신:', data);
+        this.rememberSeq(data);
         this.notifyMessageHandlers(data);
       } catch (error) {
         console.error('WebSocket 메시지 파싱 실패:', error, event.data);
@@ -260,18 +262,40 @@ class ChatWebSocketManager {
     });
   }
 
-  // 지역 채팅방 입장
+  // 받은 메시지의 최대 순번 기록
+  rememberSeq(data) {
+    let seqs = [];
+    if (data.type === 'NEW_MESSAGE') {
+      seqs = [data.seq];
+    } else if (data.type === 'REGION_MESSAGES' || data.type === 'REGION_MESSAGES_DELTA') {
+      seqs = (data.messages || []).map(msg => msg.seq);
+    }
+    seqs.forEach(seq => {
+      if (typeof seq === 'number' && (this.lastSeenSeq == null || seq > this.lastSeenSeq)) {
+        this.lastSeenSeq = seq;
+      }
+    });
+  }
+
+  // 지역 채팅방 입장 (같은 지역 재입장이면 lastSeenSeq 를 보내 놓친 메시지만 REGION_MESSAGES_DELTA 로 받음)
   async joinRegion(region, userId, nickname) {
+    if (region !== this.currentRegion) {
+      this.lastSeenSeq = null;
+    }
     this.currentRegion = region;
     this.currentUserId = userId;
     this.currentNickname = nickname;
     
-    return await this.send({
+    const message = {
       type: 'JOIN_REGION',
       region,
       userId,
       nickname
-    });
+    };
+    if (this.lastSeenSeq != null) {
+      message.lastSeenSeq = this.lastSeenSeq;
+    }
+    return await this.send(message);
   }
 
   // 지역 채팅방 퇴장
@@ -284,6 +308,7 @@ class ChatWebSocketManager {
     this.currentRegion = null;
     this.currentUserId = null;
     this.currentNickname = null;
+    this.lastSeenSeq = null;
     
     return result;
   }